@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Compares two JMH result files in JSON format (as written with {@code -rf json}) and prints a Markdown report.
+ * <p>
+ * A benchmark counts as regression if its score got worse by more than the threshold and if the difference is larger
+ * than the sum of both score errors.
+ * The process exits with status {@code 1} if at least one regression was found.
+ * </p>
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]}
+ * </p>
+ */
+public final class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private static final JsonPointer SCORE = JsonPointer.of("primaryMetric/score");
+    private static final JsonPointer SCORE_ERROR = JsonPointer.of("primaryMetric/scoreError");
+    private static final JsonPointer SCORE_UNIT = JsonPointer.of("primaryMetric/scoreUnit");
+
+    private BenchmarkComparison() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Runs the comparison.
+     *
+     * @param args the paths of the baseline and the current result file and optionally the threshold in percent.
+     * @throws IOException if a result file could not be read.
+     */
+    public static void main(final String... args) throws IOException {
+        if (2 > args.length || 3 < args.length) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        final Map<String, JsonObject> baseline = readResults(args[0]);
+        final Map<String, JsonObject> current = readResults(args[1]);
+        final double thresholdPercent = 3 == args.length ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        final int regressions = report(baseline, current, thresholdPercent, System.out);
+        if (0 < regressions) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonObject> readResults(final String path) throws IOException {
+        final JsonArray results = JsonFactory.readFrom(Files.readAllBytes(Paths.get(path))).asArray();
+        final Map<String, JsonObject> resultsByName = new LinkedHashMap<>();
+        for (final JsonValue result : results) {
+            final JsonObject resultObject = result.asObject();
+            resultsByName.put(getName(resultObject), resultObject);
+        }
+        return resultsByName;
+    }
+
+    private static String getName(final JsonObject result) {
+        final StringBuilder nameBuilder = new StringBuilder(result.getValue("benchmark")
+                .map(JsonValue::asString)
+                .orElseThrow(() -> new IllegalArgumentException("JMH result without benchmark name: " + result)));
+        result.getValue("params")
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .ifPresent(params -> params.forEach(param -> nameBuilder.append(' ')
+                        .append(param.getKeyName())
+                        .append('=')
+                        .append(param.getValue().isString() ? param.getValue().asString() : param.getValue())));
+        return nameBuilder.toString();
+    }
+
+    static int report(final Map<String, JsonObject> baseline, final Map<String, JsonObject> current,
+            final double thresholdPercent, final PrintStream out) {
+
+        int regressions = 0;
+        out.println("| Benchmark | Baseline | Current | Change | Verdict |");
+        out.println("|---|---:|---:|---:|---|");
+        for (final Map.Entry<String, JsonObject> entry : current.entrySet()) {
+            @Nullable final JsonObject baselineResult = baseline.get(entry.getKey());
+            final JsonObject currentResult = entry.getValue();
+            if (null == baselineResult) {
+                out.printf(Locale.ENGLISH, "| %s | - | %s | - | new |%n", entry.getKey(),
+                        format(currentResult));
+                continue;
+            }
+            final double baselineScore = getScore(baselineResult);
+            final double currentScore = getScore(currentResult);
+            final double changePercent = (currentScore - baselineScore) / baselineScore * 100.0;
+            final boolean higherIsBetter = THROUGHPUT_MODE.equals(currentResult.getValue("mode")
+                    .map(JsonValue::asString)
+                    .orElse(""));
+            final double improvementPercent = higherIsBetter ? changePercent : -changePercent;
+            final boolean significant = Math.abs(currentScore - baselineScore) >
+                    getScoreError(baselineResult) + getScoreError(currentResult);
+
+            final String verdict;
+            if (significant && improvementPercent < -thresholdPercent) {
+                verdict = "**regression**";
+                regressions++;
+            } else if (significant && improvementPercent > thresholdPercent) {
+                verdict = "improvement";
+            } else {
+                verdict = "unchanged";
+            }
+            out.printf(Locale.ENGLISH, "| %s | %s | %s | %+.1f%% | %s |%n", entry.getKey(),
+                    format(baselineResult), format(currentResult), changePercent, verdict);
+        }
+        for (final String removedBenchmark : baseline.keySet()) {
+            if (!current.containsKey(removedBenchmark)) {
+                out.printf(Locale.ENGLISH, "| %s | %s | - | - | removed |%n", removedBenchmark,
+                        format(baseline.get(removedBenchmark)));
+            }
+        }
+        out.printf(Locale.ENGLISH, "%n%d regression(s) with threshold %.1f%%.%n", regressions, thresholdPercent);
+        return regressions;
+    }
+
+    private static double getScore(final JsonObject result) {
+        return result.getValue(SCORE)
+                .map(JsonValue::asDouble)
+                .orElseThrow(() -> new IllegalArgumentException("JMH result without score: " + result));
+    }
+
+    private static double getScoreError(final JsonObject result) {
+        // JMH writes "NaN" as string if the error could not be computed, e. g. for a single iteration
+        return result.getValue(SCORE_ERROR).filter(JsonValue::isNumber).map(JsonValue::asDouble).orElse(0.0);
+    }
+
+    private static String format(final JsonObject result) {
+        final String unit = result.getValue(SCORE_UNIT).map(JsonValue::asString).orElse("");
+        return String.format(Locale.ENGLISH, "%.3f +/- %.3f %s", getScore(result), getScoreError(result), unit).trim();
+    }
+
+}
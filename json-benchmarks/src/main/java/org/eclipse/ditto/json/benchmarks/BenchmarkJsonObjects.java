@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmarks;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+
+/**
+ * Creates the JSON objects the benchmarks operate on.
+ * The shapes are public because the code generated by JMH has to access them.
+ */
+public final class BenchmarkJsonObjects {
+
+    /**
+     * Pointer to a property which exists in all shapes.
+     */
+    static final JsonPointer EXISTING_PROPERTY = JsonPointer.of("features/feature-0/properties/status/value");
+
+    private BenchmarkJsonObjects() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The shapes of JSON objects the benchmarks are parameterized with.
+     */
+    public enum Shape {
+
+        /**
+         * A small thing with a few attributes and one feature.
+         */
+        SMALL {
+            @Override
+            JsonObject create() {
+                return createThingLike(1, 5);
+            }
+        },
+
+        /**
+         * A thing with many features having many properties.
+         */
+        LARGE {
+            @Override
+            JsonObject create() {
+                return createThingLike(100, 20);
+            }
+        },
+
+        /**
+         * A thing whose attributes are nested very deeply.
+         */
+        DEEP {
+            @Override
+            JsonObject create() {
+                JsonObject nested = JsonObject.newBuilder().set("leaf", true).build();
+                for (int i = 0; i < 64; i++) {
+                    nested = JsonObject.newBuilder().set("level" + i, nested).set("index", i).build();
+                }
+                return createThingLike(1, 5).setValue(JsonPointer.of("attributes/deep"), nested);
+            }
+        };
+
+        /**
+         * Creates a new JSON object of this shape.
+         *
+         * @return the JSON object.
+         */
+        abstract JsonObject create();
+
+    }
+
+    private static JsonObject createThingLike(final int featureCount, final int propertyCount) {
+        final JsonObjectBuilder featuresBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set("feature-" + i, createFeature(propertyCount));
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonObject.newBuilder()
+                        .set("manufacturer", "ACME \"demo\" corp.")
+                        .set("location", JsonObject.newBuilder().set("lat", 47.68).set("lon", 9.38).build())
+                        .set("tags", JsonArray.of("a", "b", "c"))
+                        .build())
+                .set("features", featuresBuilder.build())
+                .build();
+    }
+
+    private static JsonObject createFeature(final int propertyCount) {
+        final JsonObjectBuilder propertiesBuilder = JsonObject.newBuilder()
+                .set("status", JsonObject.newBuilder().set("value", "on").set("since", 1588057200000L).build());
+        for (int i = 1; i < propertyCount; i++) {
+            propertiesBuilder.set("property-" + i, i % 2 == 0 ? i * 0.5 : i);
+        }
+        return JsonObject.newBuilder()
+                .set("definition", JsonArray.newBuilder().add("org.eclipse.ditto:benchmark:1.0.0").build())
+                .set("properties", propertiesBuilder.build())
+                .build();
+    }
+
+}
@@ -17,8 +17,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -31,6 +34,13 @@ import com.fasterxml.jackson.dataformat.cbor.CBORParser;
  * classpath.
  * If they are not available, interacting with this class will cause NoClassDefFoundErrors.
  * Use {@link org.eclipse.ditto.json.CborAvailabilityChecker#isCborAvailable()} in order to check for CBOR availability.
+ * <p>
+ * JSON objects and arrays are read lazily: they keep their CBOR representation and only decode their direct children
+ * when they are accessed for the first time.
+ * Nested objects and arrays again stay encoded until they are accessed.
+ * Values which were not changed are written by copying their CBOR representation.
+ * Thus invalid CBOR within an object or array is only reported when the object or array is accessed.
+ * </p>
  *
  * @since 1.1.0
  */
@@ -41,6 +51,9 @@ public final class CborFactory {
      */
     private static final CBORFactory JACKSON_CBOR_FACTORY = new CBORFactory();
 
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+
     private CborFactory() {
         throw new AssertionError();
     }
@@ -52,6 +65,9 @@ public final class CborFactory {
      * @return the parsed JsonValue.
      */
     public static JsonValue readFrom(final byte[] bytes) {
+        if (0 < bytes.length && isObjectOrArrayHead(bytes[0])) {
+            return lazilyParsed(bytes.clone(), bytes[0]);
+        }
         final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(bytes);
@@ -71,6 +87,9 @@ public final class CborFactory {
      * @return the parsed JsonValue.
      */
     public static JsonValue readFrom(final byte[] bytes, final int offset, final int length) {
+        if (0 < length && isObjectOrArrayHead(bytes[offset])) {
+            return lazilyParsed(Arrays.copyOfRange(bytes, offset, offset + length), bytes[offset]);
+        }
         // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in this buffer.
         final ByteBuffer byteBuffer = ByteBuffer.wrap(bytes, offset, length).slice();
         try {
@@ -90,6 +109,12 @@ public final class CborFactory {
     public static JsonValue readFrom(final ByteBuffer byteBuffer) {
         // ensure that buffers position is zero so that offsets determined by CBORParser map directly to positions in this buffer.
         final ByteBuffer slicedByteBuffer = byteBuffer.slice();
+        if (slicedByteBuffer.hasRemaining() && isObjectOrArrayHead(slicedByteBuffer.get(0))) {
+            // the buffer might be re-used by the caller, thus its content has to be copied
+            final byte[] bytes = new byte[slicedByteBuffer.remaining()];
+            slicedByteBuffer.duplicate().get(bytes);
+            return lazilyParsed(bytes, bytes[0]);
+        }
         try {
             final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(ByteBufferInputStream.of(slicedByteBuffer));
             return parseValue(parser, slicedByteBuffer);
@@ -134,6 +159,80 @@ public final class CborFactory {
         writeToOutputStream(jsonValue, byteBufferOutputStream);
     }
 
+    /**
+     * Indicates whether the given initial byte of a CBOR data item denotes a map or an array, i. e. a JSON object or
+     * a JSON array.
+     */
+    private static boolean isObjectOrArrayHead(final byte initialByte) {
+        final int majorType = (initialByte & 0xE0) >>> 5;
+        return MAJOR_TYPE_ARRAY == majorType || MAJOR_TYPE_MAP == majorType;
+    }
+
+    private static JsonValue lazilyParsed(final byte[] cborRepresentation, final byte initialByte) {
+        if (MAJOR_TYPE_MAP == (initialByte & 0xE0) >>> 5) {
+            return ImmutableJsonObject.fromCbor(cborRepresentation);
+        }
+        return ImmutableJsonArray.fromCbor(cborRepresentation);
+    }
+
+    /**
+     * Decodes the fields of the passed CBOR map.
+     * Values which are objects or arrays are not decoded but only referenced by their CBOR representation.
+     *
+     * @param cborObjectRepresentation the CBOR representation of a JSON object.
+     * @return the fields of the JSON object.
+     * @throws JsonParseException if {@code cborObjectRepresentation} is not the valid CBOR representation of a JSON
+     * object.
+     */
+    static Map<String, JsonField> readFieldsFrom(final byte[] cborObjectRepresentation) {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(cborObjectRepresentation);
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(cborObjectRepresentation);
+            expectToken(parser, JsonToken.START_OBJECT);
+            final Map<String, JsonField> result = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String key = parser.currentName();
+                result.put(key, JsonField.newInstance(key, parseValue(parser, byteBuffer)));
+            }
+            return result;
+        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw createJsonParseException(byteBuffer, e);
+        }
+    }
+
+    /**
+     * Decodes the values of the passed CBOR array.
+     * Values which are objects or arrays are not decoded but only referenced by their CBOR representation.
+     *
+     * @param cborArrayRepresentation the CBOR representation of a JSON array.
+     * @return the values of the JSON array.
+     * @throws JsonParseException if {@code cborArrayRepresentation} is not the valid CBOR representation of a JSON
+     * array.
+     */
+    static List<JsonValue> readValuesFrom(final byte[] cborArrayRepresentation) {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(cborArrayRepresentation);
+        try {
+            final CBORParser parser = JACKSON_CBOR_FACTORY.createParser(cborArrayRepresentation);
+            expectToken(parser, JsonToken.START_ARRAY);
+            final List<JsonValue> result = new ArrayList<>();
+            JsonToken currentToken = parser.nextToken();
+            while (currentToken != JsonToken.END_ARRAY) {
+                result.add(parseValue(parser, byteBuffer, currentToken));
+                currentToken = parser.nextToken();
+            }
+            return result;
+        } catch (final IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw createJsonParseException(byteBuffer, e);
+        }
+    }
+
+    private static void expectToken(final CBORParser parser, final JsonToken expectedToken) throws IOException {
+        final JsonToken actualToken = parser.nextToken();
+        if (expectedToken != actualToken) {
+            throw new IOException("Expected token " + expectedToken + " but got " + actualToken + ".");
+        }
+    }
+
     private static JsonParseException createJsonParseException(final ByteBuffer byteBuffer, final Exception e) {
         return JsonParseException.newBuilder()
                 .message(MessageFormat.format(
@@ -198,26 +297,26 @@ public final class CborFactory {
     }
 
     private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
-        final long startOffset = parser.getTokenLocation().getByteOffset();
-        while (parser.nextToken() == JsonToken.FIELD_NAME) {
-            final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
-            map.put(key, jsonField);
-        }
-        final long endOffset = parser.getTokenLocation().getByteOffset();
-        return ImmutableJsonObject.of(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+        return ImmutableJsonObject.fromCbor(skipContainer(parser, byteBuffer));
     }
 
     private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
-        final LinkedList<JsonValue> list = new LinkedList<>();
+        return ImmutableJsonArray.fromCbor(skipContainer(parser, byteBuffer));
+    }
+
+    /**
+     * Skips the object or array which starts at the current token of the parser and returns its CBOR representation.
+     */
+    private static byte[] skipContainer(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         final long startOffset = parser.getTokenLocation().getByteOffset();
-        while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
-            list.add(jsonValue);
+        parser.skipChildren();
+        if (null == parser.currentToken()) {
+            throw new IOException("Unexpected end of input while skipping CBOR container.");
         }
-        final long endOffset = parser.getTokenLocation().getByteOffset();
-        return ImmutableJsonArray.of(list, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+
+        // the current location includes the "break" byte of containers with indefinite length
+        final long endOffset = parser.getCurrentLocation().getByteOffset();
+        return getBytesFromInputSource(startOffset, endOffset, byteBuffer);
     }
 
     private static byte[] getBytesFromInputSource(final long startOffset, final long endOffset,
@@ -99,7 +99,7 @@ final class DefaultDittoJsonHandler extends DittoJsonHandler<List<JsonValue>, Li
         valueString = string;
     }
 
-    private static JsonNumber getNumberFor(final String string) {
+    static JsonNumber getNumberFor(final String string) {
         if (isDecimal(string)) {
             return parseToDouble(string);
         }
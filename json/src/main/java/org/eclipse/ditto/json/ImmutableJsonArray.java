@@ -23,7 +23,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -121,6 +120,19 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return new ImmutableJsonArray(SoftReferencedValueList.of(values, stringRepresentation, cborRepresentation));
     }
 
+    /**
+     * Returns a new JSON array which is based on the given CBOR representation.
+     * The values of the returned array are only decoded when they are accessed; as long as the array is not changed
+     * it is serialized by writing the given CBOR representation.
+     *
+     * @param cborRepresentation the CBOR representation of a JSON array which is not copied.
+     * @return a new JSON array which lazily decodes {@code cborRepresentation}.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     */
+    static ImmutableJsonArray fromCbor(final byte[] cborRepresentation) {
+        return new ImmutableJsonArray(SoftReferencedValueList.of(cborRepresentation));
+    }
+
     private static void checkValue(final Object value) {
         requireNonNull(value, "The value to add must not be null!");
     }
@@ -276,6 +288,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         valueList.writeValue(serializationContext);
     }
 
+    /**
+     * Returns the string representation of this array if it is already known.
+     *
+     * @return the string representation or {@code null} if it was not yet created.
+     */
+    @Nullable
+    String getKnownStringRepresentation() {
+        return valueList.jsonArrayStringRepresentation;
+    }
+
     @Override
     public long getUpperBoundForStringSize() {
         return valueList.upperBoundForStringSize();
@@ -294,7 +316,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         private SoftReferencedValueList(final List<JsonValue> jsonValueList,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborArrayRepresentation) {
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            valuesReference = new SoftReference<>(PrimitiveJsonValueList.copyOf(jsonValueList));
             jsonArrayStringRepresentation = stringRepresentation;
             this.cborArrayRepresentation = cborArrayRepresentation;
             if (jsonArrayStringRepresentation == null && cborArrayRepresentation == null) {
@@ -312,6 +334,14 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             hashCode = 0;
         }
 
+        private SoftReferencedValueList(final byte[] cborArrayRepresentation) {
+            this.cborArrayRepresentation =
+                    requireNonNull(cborArrayRepresentation, "The CBOR representation of JSON array must not be null!");
+            valuesReference = new SoftReference<>(null);
+            jsonArrayStringRepresentation = null;
+            hashCode = 0;
+        }
+
         static SoftReferencedValueList empty() {
             return of(Collections.emptyList(), "[]", new byte[]{(byte) 0x80});
         }
@@ -336,18 +366,12 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
             return new SoftReferencedValueList(jsonValueList, stringRepresentation, cborRepresentation);
         }
 
-        private String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
-            final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
-            stringBuilder.append('[');
-            String delimiter = "";
-            for (final JsonValue jsonValue : jsonValues) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonValue);
-                delimiter = ",";
-            }
-            stringBuilder.append(']');
+        static SoftReferencedValueList of(final byte[] cborRepresentation) {
+            return new SoftReferencedValueList(cborRepresentation);
+        }
 
-            return stringBuilder.toString();
+        private static String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
+            return JsonStringWriter.valuesToString(jsonValues);
         }
 
         JsonValue get(final int index) {
@@ -391,10 +415,10 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
         private List<JsonValue> recoverValues() {
             if (cborArrayRepresentation != null) {
-                return parseToList(cborArrayRepresentation);
+                return PrimitiveJsonValueList.copyOf(parseToList(cborArrayRepresentation));
             }
             if (jsonArrayStringRepresentation != null) {
-                return parseToList(jsonArrayStringRepresentation);
+                return PrimitiveJsonValueList.copyOf(parseToList(jsonArrayStringRepresentation));
             }
             throw new IllegalStateException("Fatal cache miss on JsonObject");
         }
@@ -406,12 +430,7 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         private static List<JsonValue> parseToList(final byte[] cborArrayRepresentation) {
-            final JsonValue jsonArray = CborFactory.readFrom(cborArrayRepresentation);
-            List<JsonValue> list = new LinkedList<>();
-            for (JsonValue jsonValue : jsonArray.asArray()) {
-                list.add(jsonValue);
-            }
-            return list;
+            return CborFactory.readValuesFrom(cborArrayRepresentation);
         }
 
         Iterator<JsonValue> getIterator() {
@@ -475,8 +494,12 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
 
             try (final SerializationContext serializationContext = new SerializationContext(byteArrayOutputStream)) {
                 serializationContext.getJacksonGenerator().writeStartArray(list.size());
-                for (final JsonValue jsonValue : list) {
-                    jsonValue.writeValue(serializationContext);
+                if (list instanceof PrimitiveJsonValueList) {
+                    ((PrimitiveJsonValueList) list).writeElements(serializationContext);
+                } else {
+                    for (final JsonValue jsonValue : list) {
+                        jsonValue.writeValue(serializationContext);
+                    }
                 }
                 serializationContext.getJacksonGenerator().writeEndArray();
             }
@@ -14,8 +14,6 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Objects;
-
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.Immutable;
 
@@ -25,6 +23,12 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableJsonKey implements JsonKey {
 
+    /**
+     * Shares the instances of frequently used keys like {@code "features"}, {@code "properties"} or feature IDs.
+     */
+    private static final JsonInterner<ImmutableJsonKey> INTERNER =
+            JsonInterner.newInstance(2048, 64, ImmutableJsonKey::new);
+
     private final String keyValue;
 
     private ImmutableJsonKey(final String theKeyValue) {
@@ -48,7 +52,7 @@ final class ImmutableJsonKey implements JsonKey {
             throw new IllegalArgumentException("The key string must not be empty!");
         }
 
-        return new ImmutableJsonKey(keyValue.toString());
+        return INTERNER.intern(keyValue.toString());
     }
 
     @Override
@@ -80,12 +84,13 @@ final class ImmutableJsonKey implements JsonKey {
             return false;
         }
         final ImmutableJsonKey that = (ImmutableJsonKey) o;
-        return Objects.equals(keyValue, that.keyValue);
+        return keyValue.equals(that.keyValue);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(keyValue);
+        // the hash code of String is cached
+        return keyValue.hashCode();
     }
 
     @Override
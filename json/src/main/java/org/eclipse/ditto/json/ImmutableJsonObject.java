@@ -117,6 +117,31 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is based on the given index of a JSON object string.
+     * The fields of the returned object are only materialized when they are accessed.
+     *
+     * @param fieldIndex the index of the JSON object string.
+     * @return a new JSON object which lazily materializes the fields of the indexed JSON object string.
+     * @throws NullPointerException if {@code fieldIndex} is {@code null}.
+     */
+    static ImmutableJsonObject of(final JsonObjectFieldIndex fieldIndex) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fieldIndex));
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is based on the given CBOR representation.
+     * The fields of the returned object are only decoded when they are accessed; as long as the object is not
+     * changed it is serialized by writing the given CBOR representation.
+     *
+     * @param cborRepresentation the CBOR representation of a JSON object which is not copied.
+     * @return a new JSON object which lazily decodes {@code cborRepresentation}.
+     * @throws NullPointerException if {@code cborRepresentation} is {@code null}.
+     */
+    static ImmutableJsonObject fromCbor(final byte[] cborRepresentation) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.of(cborRepresentation));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -445,11 +470,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Override
     public List<JsonKey> getKeys() {
-        final List<JsonKey> keys = fieldMap.getStream()
-                .map(JsonField::getKey)
-                .collect(Collectors.toList());
-
-        return Collections.unmodifiableList(keys);
+        return Collections.unmodifiableList(fieldMap.getKeys());
     }
 
     @Override
@@ -527,6 +548,38 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.hashCode();
     }
 
+    /**
+     * Returns the field with the given key without interpreting the key as JSON pointer.
+     *
+     * @param key the key of the field.
+     * @return the field or {@code null} if this object does not contain a field with {@code key}.
+     */
+    @Nullable
+    JsonField getFieldOrNull(final JsonKey key) {
+        return fieldMap.getOrNull(key.toString());
+    }
+
+    /**
+     * Indicates whether this object is equal to the given object without comparing their fields, e. g. because both
+     * share the same fields or have the same serialized representation.
+     *
+     * @param other the object to compare with.
+     * @return {@code true} if this object is known to be equal to {@code other}, {@code false} if it is unknown.
+     */
+    boolean isKnownToBeEqual(final ImmutableJsonObject other) {
+        return this == other || fieldMap.isKnownToBeEqual(other.fieldMap);
+    }
+
+    /**
+     * Indicates whether this object and the given object already calculated their hash codes and these are equal.
+     *
+     * @param other the object to compare with.
+     * @return {@code true} if both objects cached the same hash code.
+     */
+    boolean hasSameCachedHashCode(final ImmutableJsonObject other) {
+        return fieldMap.hasSameCachedHashCode(other.fieldMap);
+    }
+
     @Override
     public String toString() {
         return fieldMap.asJsonObjectString();
@@ -537,6 +590,16 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         fieldMap.writeValue(serializationContext);
     }
 
+    /**
+     * Returns the string representation of this object if it is already known.
+     *
+     * @return the string representation or {@code null} if it was not yet created.
+     */
+    @Nullable
+    String getKnownStringRepresentation() {
+        return fieldMap.jsonObjectStringRepresentation;
+    }
+
     @Override
     public long getUpperBoundForStringSize() {
         return fieldMap.upperBoundForStringSize();
@@ -551,12 +614,23 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private byte[] cborObjectRepresentation;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private final JsonObjectFieldIndex fieldIndex;
+
+        /**
+         * Strongly referenced fields of a map which was derived by {@link #put(String, JsonField)},
+         * {@link #putAll(Iterable)} or {@link #remove(String)}.
+         * Derived maps share structure with their origin and postpone creating a serialized representation until it is
+         * needed; until then the fields cannot be recovered and thus must not be softly referenced.
+         */
+        @Nullable private PersistentFieldMap derivedFields;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            fieldsReference = new SoftReference<>(jsonFieldMap instanceof PersistentFieldMap
+                    ? jsonFieldMap
+                    : Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -572,6 +646,36 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 }
             }
             hashCode = 0;
+            fieldIndex = null;
+            derivedFields = null;
+        }
+
+        private SoftReferencedFieldMap(final JsonObjectFieldIndex fieldIndex) {
+            this.fieldIndex = requireNonNull(fieldIndex, "The field index of JSON object must not be null!");
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = fieldIndex.getJsonObjectString();
+            cborObjectRepresentation = null;
+            hashCode = 0;
+            derivedFields = null;
+        }
+
+        private SoftReferencedFieldMap(final byte[] cborObjectRepresentation) {
+            this.cborObjectRepresentation = requireNonNull(cborObjectRepresentation,
+                    "The CBOR representation of JSON object must not be null!");
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = null;
+            hashCode = 0;
+            fieldIndex = null;
+            derivedFields = null;
+        }
+
+        private SoftReferencedFieldMap(final PersistentFieldMap derivedFields) {
+            this.derivedFields = derivedFields;
+            fieldsReference = new SoftReference<>(null);
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+            fieldIndex = null;
         }
 
         static SoftReferencedFieldMap empty() {
@@ -598,57 +702,105 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
-        private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
-            final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
-            stringBuilder.append('{');
-            String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonField);
-                delimiter = ",";
-            }
-            stringBuilder.append('}');
+        static SoftReferencedFieldMap of(final JsonObjectFieldIndex fieldIndex) {
+            return new SoftReferencedFieldMap(fieldIndex);
+        }
+
+        static SoftReferencedFieldMap of(final byte[] cborObjectRepresentation) {
+            return new SoftReferencedFieldMap(cborObjectRepresentation);
+        }
 
-            return stringBuilder.toString();
+        private static String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+            return JsonStringWriter.fieldsToString(jsonFieldMap.values());
         }
 
         int getSize() {
+            if (isOnlyIndexed()) {
+                return fieldIndex.getSize();
+            }
             return fields().size();
         }
 
         boolean isEmpty() {
+            if (isOnlyIndexed()) {
+                return fieldIndex.isEmpty();
+            }
             return fields().isEmpty();
         }
 
         boolean containsKey(final String key) {
+            if (isOnlyIndexed()) {
+                return fieldIndex.containsKey(key);
+            }
             return fields().containsKey(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
+            if (isOnlyIndexed()) {
+                return fieldIndex.getOrNull(key);
+            }
             return fields().get(key);
         }
 
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+        List<JsonKey> getKeys() {
+            if (isOnlyIndexed()) {
+                return fieldIndex.getKeys();
+            }
+            final List<JsonKey> result = new ArrayList<>(fields().size());
+            for (final JsonField jsonField : fields().values()) {
+                result.add(jsonField.getKey());
+            }
+            return result;
+        }
+
+        /**
+         * Indicates whether single fields can be served by the field index without materializing all fields.
+         */
+        private boolean isOnlyIndexed() {
+            return null != fieldIndex && null == fieldsReference.get();
         }
 
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        SoftReferencedFieldMap put(final String key, final JsonField value) {
+            return derive(persistentFields().with(key, value));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            PersistentFieldMap result = persistentFields();
+            for (final JsonField jsonField : jsonFields) {
+                result = result.with(jsonField.getKeyName(), jsonField);
+            }
+            return derive(result);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return derive(persistentFields().without(key));
+        }
+
+        /**
+         * Returns the fields as persistent map.
+         * Fields which are not yet backed by a persistent map are converted once; all maps derived from the result
+         * share its structure.
+         */
+        private PersistentFieldMap persistentFields() {
+            final Map<String, JsonField> fields = fields();
+            if (fields instanceof PersistentFieldMap) {
+                return (PersistentFieldMap) fields;
+            }
+            final PersistentFieldMap result = PersistentFieldMap.copyOf(fields);
+            if (null != derivedFields) {
+                derivedFields = result;
+            } else {
+                fieldsReference = new SoftReference<>(result);
+            }
+            return result;
+        }
+
+        private SoftReferencedFieldMap derive(final PersistentFieldMap fields) {
+            if (fields == derivedFields || fields == fieldsReference.get()) {
+                return this;
+            }
+            return new SoftReferencedFieldMap(fields);
         }
 
         Stream<JsonField> getStream() {
@@ -660,6 +812,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> fields() {
+            if (null != derivedFields) {
+                return derivedFields;
+            }
             Map<String, JsonField> result = fieldsReference.get();
             if (null == result) {
                 result = recoverFields();
@@ -669,6 +824,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
+            if (fieldIndex != null) {
+                return Collections.unmodifiableMap(fieldIndex.toFieldMap());
+            }
             if (cborObjectRepresentation != null) {
                 return parseToMap(cborObjectRepresentation);
             }
@@ -685,12 +843,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CborFactory.readFrom(cborObjectRepresentation);
-            final Map<String, JsonField> map = new LinkedHashMap<>();
-            for (final JsonField jsonValue : jsonObject.asObject()) {
-                map.put(jsonValue.getKey().toString(), jsonValue);
-            }
-            return map;
+            return Collections.unmodifiableMap(CborFactory.readFieldsFrom(cborObjectRepresentation));
         }
 
         @Override
@@ -728,9 +881,35 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return result;
         }
 
+        boolean isKnownToBeEqual(final SoftReferencedFieldMap that) {
+            if (this == that) {
+                return true;
+            }
+            @Nullable final Map<String, JsonField> fields = getFieldsIfPresent();
+            if (null != fields && fields == that.getFieldsIfPresent()) {
+                return true;
+            }
+            if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null &&
+                    jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
+                return true;
+            }
+            return cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
+                    Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation);
+        }
+
+        boolean hasSameCachedHashCode(final SoftReferencedFieldMap that) {
+            return 0 != hashCode && hashCode == that.hashCode;
+        }
+
+        @Nullable
+        private Map<String, JsonField> getFieldsIfPresent() {
+            return null != derivedFields ? derivedFields : fieldsReference.get();
+        }
+
         String asJsonObjectString() {
             if (jsonObjectStringRepresentation == null) {
                 jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+                releaseDerivedFields();
             }
             return jsonObjectStringRepresentation;
         }
@@ -738,10 +917,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         void writeValue(final SerializationContext serializationContext) throws IOException {
             if (cborObjectRepresentation == null) {
                 cborObjectRepresentation = createCborRepresentation(this.fields());
+                releaseDerivedFields();
             }
             serializationContext.writeCachedElement(cborObjectRepresentation);
         }
 
+        /**
+         * Softly references the fields of a derived map as soon as they can be recovered from a serialized
+         * representation.
+         */
+        private void releaseDerivedFields() {
+            if (null != derivedFields) {
+                fieldsReference = new SoftReference<>(derivedFields);
+                derivedFields = null;
+            }
+        }
+
         private byte[] createCborRepresentation(final Map<String, JsonField> jsonFieldMap) throws IOException {
             final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(guessSerializedSize());
 
@@ -789,8 +980,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            // derived maps create their representation lazily
+            return asJsonObjectString().length();
         }
 
     }
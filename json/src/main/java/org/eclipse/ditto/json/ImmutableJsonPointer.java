@@ -13,40 +13,44 @@
 package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
  * This class represents a JSON pointer consisting of at least one {@link JsonKey}.
+ * <p>
+ * The keys are kept in an array and the hash code is computed once on creation.
+ * Pointers which are parsed from frequently used strings are shared.
+ * </p>
  */
 @Immutable
 final class ImmutableJsonPointer implements JsonPointer {
 
-    private static final Pattern DOUBLE_SLASH_PATTERN = Pattern.compile("//");
-    private static final String SLASH = "/";
-    private static final String SLASH_REGEX = "/(?!/)"; // a SLASH which is not followed by another slash
-    private static final Pattern SINGLE_SLASH_REGEX_PATTERN = Pattern.compile(SLASH_REGEX);
-    private static final Pattern ESCAPED_TILDE_PATTERN = Pattern.compile("~0");
-    private static final Pattern DECODED_TILDE_PATTERN = Pattern.compile("~");
+    private static final char SLASH = '/';
+    private static final String DOUBLE_SLASH = "//";
+    private static final String ESCAPED_TILDE = "~0";
+    private static final String DECODED_TILDE = "~";
 
-    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(Collections.emptyList());
+    private static final ImmutableJsonPointer EMPTY = new ImmutableJsonPointer(new JsonKey[0]);
 
-    private final List<JsonKey> jsonKeyHierarchy;
+    private static final JsonInterner<JsonPointer> INTERNER =
+            JsonInterner.newInstance(1024, 256, ImmutableJsonPointer::parse);
 
-    private ImmutableJsonPointer(final List<JsonKey> theJsonKeys) {
-        jsonKeyHierarchy = Collections.unmodifiableList(new ArrayList<>(theJsonKeys));
+    private final JsonKey[] jsonKeys;
+    private final int hashCode;
+    @Nullable private String stringRepresentation;
+
+    private ImmutableJsonPointer(final JsonKey[] theJsonKeys) {
+        jsonKeys = theJsonKeys;
+        hashCode = calculateHashCode();
+        stringRepresentation = null;
     }
 
     /**
@@ -76,32 +80,46 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (JsonPointer.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
             result = (JsonPointer) slashDelimitedCharSequence;
         } else if (JsonKey.class.isAssignableFrom(slashDelimitedCharSequence.getClass())) {
-            result = newInstance(Collections.singletonList(((JsonKey) slashDelimitedCharSequence)));
+            result = newInstance(new JsonKey[]{(JsonKey) slashDelimitedCharSequence});
         } else if (0 == slashDelimitedCharSequence.length()) {
             result = empty();
-        } else if (DOUBLE_SLASH_PATTERN.matcher(slashDelimitedCharSequence).find()) {
-            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedCharSequence)
-                    .build();
         } else {
-            final List<JsonKey> jsonKeys = Stream.of(SINGLE_SLASH_REGEX_PATTERN.split(slashDelimitedCharSequence))
-                    .filter(keyName -> !keyName.isEmpty()) // ignore empty segments
-                    .map(ImmutableJsonPointer::decodeTilde)
-                    .map(JsonFactory::newKey)
-                    .collect(toList());
-
-            result = newInstance(jsonKeys);
+            result = INTERNER.intern(slashDelimitedCharSequence.toString());
         }
 
         return result;
     }
 
-    private static String decodeTilde(final CharSequence keyString) {
-        final Matcher matcher = ESCAPED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(DECODED_TILDE_PATTERN.toString());
+    private static JsonPointer parse(final String slashDelimitedString) {
+        if (slashDelimitedString.contains(DOUBLE_SLASH)) {
+            throw JsonPointerInvalidException.newBuilderForConsecutiveSlashes(slashDelimitedString).build();
+        }
+        final List<JsonKey> jsonKeys = new ArrayList<>();
+        final int length = slashDelimitedString.length();
+        int segmentStart = 0;
+        while (segmentStart < length) {
+            int segmentEnd = slashDelimitedString.indexOf(SLASH, segmentStart);
+            if (0 > segmentEnd) {
+                segmentEnd = length;
+            }
+            if (segmentEnd > segmentStart) { // ignore empty segments
+                final String keyName = slashDelimitedString.substring(segmentStart, segmentEnd);
+                jsonKeys.add(JsonFactory.newKey(decodeTilde(keyName)));
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return newInstance(jsonKeys.toArray(new JsonKey[0]));
+    }
+
+    private static String decodeTilde(final String keyString) {
+        if (keyString.contains(ESCAPED_TILDE)) {
+            return keyString.replace(ESCAPED_TILDE, DECODED_TILDE);
+        }
+        return keyString;
     }
 
-    private static ImmutableJsonPointer newInstance(final List<JsonKey> jsonKeyHierarchy) {
-        return new ImmutableJsonPointer(jsonKeyHierarchy);
+    private static ImmutableJsonPointer newInstance(final JsonKey[] jsonKeys) {
+        return new ImmutableJsonPointer(jsonKeys);
     }
 
     /**
@@ -117,15 +135,11 @@ final class ImmutableJsonPointer implements JsonPointer {
         requireNonNull(subLevels, "The sub levels must not be null!"
                 + " If the JSON pointer does not require sub levels, just omit this argument.");
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subLevels.length);
-        keyHierarchy.add(rootLevel);
-        Collections.addAll(keyHierarchy, subLevels);
-
-        result = newInstance(keyHierarchy);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subLevels.length];
+        keyHierarchy[0] = rootLevel;
+        System.arraycopy(subLevels, 0, keyHierarchy, 1, subLevels.length);
 
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkRootLevel(final JsonKey rootLevel) {
@@ -144,15 +158,14 @@ final class ImmutableJsonPointer implements JsonPointer {
         checkRootLevel(rootLevel);
         checkSubPointer(subPointer);
 
-        final ImmutableJsonPointer result;
-
-        final List<JsonKey> keyHierarchy = new ArrayList<>(1 + subPointer.getLevelCount());
-        keyHierarchy.add(rootLevel);
-        subPointer.forEach(keyHierarchy::add);
-
-        result = newInstance(keyHierarchy);
+        final JsonKey[] keyHierarchy = new JsonKey[1 + subPointer.getLevelCount()];
+        keyHierarchy[0] = rootLevel;
+        int i = 1;
+        for (final JsonKey jsonKey : subPointer) {
+            keyHierarchy[i++] = jsonKey;
+        }
 
-        return result;
+        return newInstance(keyHierarchy);
     }
 
     private static void checkSubPointer(final Object subPointer) {
@@ -171,8 +184,8 @@ final class ImmutableJsonPointer implements JsonPointer {
     public ImmutableJsonPointer addLeaf(final JsonKey key) {
         requireNonNull(key, "The level to be added must not be null!");
 
-        final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-        newJsonKeys.add(key);
+        final JsonKey[] newJsonKeys = Arrays.copyOf(jsonKeys, jsonKeys.length + 1);
+        newJsonKeys[jsonKeys.length] = key;
 
         return newInstance(newJsonKeys);
     }
@@ -186,8 +199,11 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (subPointer.isEmpty()) {
             result = this;
         } else {
-            final List<JsonKey> newJsonKeys = new ArrayList<>(jsonKeyHierarchy);
-            subPointer.forEach(newJsonKeys::add);
+            final JsonKey[] newJsonKeys = Arrays.copyOf(jsonKeys, jsonKeys.length + subPointer.getLevelCount());
+            int i = jsonKeys.length;
+            for (final JsonKey jsonKey : subPointer) {
+                newJsonKeys[i++] = jsonKey;
+            }
             result = newInstance(newJsonKeys);
         }
 
@@ -202,21 +218,20 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public int getLevelCount() {
-        return jsonKeyHierarchy.size();
+        return jsonKeys.length;
     }
 
     @Override
     public boolean isEmpty() {
-        return jsonKeyHierarchy.isEmpty();
+        return 0 == jsonKeys.length;
     }
 
     @Override
     public Optional<JsonKey> get(final int level) {
-        try {
-            return Optional.of(jsonKeyHierarchy.get(level));
-        } catch (final IndexOutOfBoundsException e) {
+        if (0 > level || level >= jsonKeys.length) {
             return Optional.empty();
         }
+        return Optional.of(jsonKeys[level]);
     }
 
     @Override
@@ -229,36 +244,27 @@ final class ImmutableJsonPointer implements JsonPointer {
         return get(getLevelCount() - 1);
     }
 
-    @SuppressWarnings("squid:S1166")
     @Override
     public Optional<JsonPointer> getSubPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(level, jsonKeysCopy.size());
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (0 > level || level > jsonKeys.length) {
             return Optional.empty();
         }
+        return Optional.of(0 == level ? this : newInstance(Arrays.copyOfRange(jsonKeys, level, jsonKeys.length)));
     }
 
     @Override
     public Optional<JsonPointer> getPrefixPointer(final int level) {
-        final List<JsonKey> jsonKeysCopy = new ArrayList<>(jsonKeyHierarchy);
-
-        try {
-            final List<JsonKey> subList = jsonKeysCopy.subList(0, level);
-            return Optional.of(newInstance(subList));
-        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+        if (0 > level || level > jsonKeys.length) {
             return Optional.empty();
         }
+        return Optional.of(jsonKeys.length == level ? this : newInstance(Arrays.copyOf(jsonKeys, level)));
     }
 
     @Override
     public ImmutableJsonPointer cutLeaf() {
         ImmutableJsonPointer result = this;
         if (!isEmpty()) {
-            final List<JsonKey> subList = jsonKeyHierarchy.subList(0, getLevelCount() - 1);
-            result = newInstance(subList);
+            result = newInstance(Arrays.copyOf(jsonKeys, jsonKeys.length - 1));
         }
         return result;
     }
@@ -275,7 +281,8 @@ final class ImmutableJsonPointer implements JsonPointer {
 
     @Override
     public Iterator<JsonKey> iterator() {
-        return new ArrayList<>(jsonKeyHierarchy).iterator();
+        // the iterator of Arrays#asList does not support removal
+        return Arrays.asList(jsonKeys).iterator();
     }
 
     @Override
@@ -286,13 +293,17 @@ final class ImmutableJsonPointer implements JsonPointer {
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
-        final ImmutableJsonPointer jsonKeys = (ImmutableJsonPointer) o;
-        return Objects.equals(jsonKeyHierarchy, jsonKeys.jsonKeyHierarchy);
+        final ImmutableJsonPointer that = (ImmutableJsonPointer) o;
+        return Arrays.equals(jsonKeys, that.jsonKeys);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(jsonKeyHierarchy);
+        return hashCode;
+    }
+
+    private int calculateHashCode() {
+        return 31 + Arrays.hashCode(jsonKeys);
     }
 
     @Override
@@ -323,21 +334,31 @@ final class ImmutableJsonPointer implements JsonPointer {
      */
     @Override
     public String toString() {
-        final String stringRepresentation;
-        if (jsonKeyHierarchy.isEmpty()) {
-            stringRepresentation = SLASH;
-        } else {
-            stringRepresentation = SLASH + jsonKeyHierarchy.stream()
-                    .map(ImmutableJsonPointer::escapeTilde)
-                    .collect(Collectors.joining(SLASH));
+        String result = stringRepresentation;
+        if (null == result) {
+            result = createStringRepresentation();
+            stringRepresentation = result;
         }
-        return stringRepresentation;
+        return result;
+    }
+
+    private String createStringRepresentation() {
+        if (0 == jsonKeys.length) {
+            return String.valueOf(SLASH);
+        }
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (final JsonKey jsonKey : jsonKeys) {
+            stringBuilder.append(SLASH).append(escapeTilde(jsonKey));
+        }
+        return stringBuilder.toString();
     }
 
     private static String escapeTilde(final JsonKey jsonKey) {
         final String keyString = jsonKey.toString();
-        final Matcher matcher = DECODED_TILDE_PATTERN.matcher(keyString);
-        return matcher.replaceAll(ESCAPED_TILDE_PATTERN.toString());
+        if (keyString.contains(DECODED_TILDE)) {
+            return keyString.replace(DECODED_TILDE, ESCAPED_TILDE);
+        }
+        return keyString;
     }
 
 }
@@ -101,6 +101,16 @@ final class ImmutableJsonString extends AbstractJsonValue {
         return (value.length() * MAX_CHAR_ESCAPE_SEQUENCE_LENGTH) + NUM_ENCLOSING_QUOTES;
     }
 
+    /**
+     * Returns the escaped string representation of this value if it is already known.
+     *
+     * @return the string representation or {@code null} if it was not yet created.
+     */
+    @Nullable
+    String getKnownStringRepresentation() {
+        return stringRepresentation;
+    }
+
     private String createStringRepresentation() {
         final JavaStringToEscapedJsonString javaStringToEscapedJsonString = JavaStringToEscapedJsonString.getInstance();
         return javaStringToEscapedJsonString.apply(value);
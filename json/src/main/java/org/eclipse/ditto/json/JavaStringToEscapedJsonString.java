@@ -14,7 +14,6 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import javax.annotation.Nullable;
@@ -33,9 +32,9 @@ final class JavaStringToEscapedJsonString implements UnaryOperator<String> {
 
     private static final char QUOTE = '\"';
 
-    private final Function<Integer, String> jsonCharEscaper;
+    private final JsonCharEscaper jsonCharEscaper;
 
-    private JavaStringToEscapedJsonString(final Function<Integer, String> theJsonCharEscaper) {
+    private JavaStringToEscapedJsonString(final JsonCharEscaper theJsonCharEscaper) {
         jsonCharEscaper = theJsonCharEscaper;
     }
 
@@ -52,20 +51,32 @@ final class JavaStringToEscapedJsonString implements UnaryOperator<String> {
     public String apply(final String javaString) {
         requireNonNull(javaString, "The Java String to be converted must not be null");
         final StringBuilder stringBuilder = new StringBuilder(javaString.length() + 2);
+        appendTo(stringBuilder, javaString);
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Appends the given Java String as escaped JSON string to the given StringBuilder.
+     * Unlike {@link #apply(String)} this does not create any temporary objects.
+     *
+     * @param stringBuilder the StringBuilder to append to.
+     * @param javaString the Java String to be converted.
+     * @since 1.2.0
+     */
+    void appendTo(final StringBuilder stringBuilder, final String javaString) {
         stringBuilder.append(QUOTE);
-        stringBuilder.append(javaString);
-        int i = 1; // offset of starting " char
-        for (final char c : javaString.toCharArray()) {
-            @Nullable final String replacement = jsonCharEscaper.apply((int) c);
+        final int length = javaString.length();
+        int unescapedStart = 0;
+        for (int i = 0; i < length; i++) {
+            @Nullable final String replacement = jsonCharEscaper.escape(javaString.charAt(i));
             if (null != replacement) {
-                stringBuilder.replace(i, i + 1, replacement);
-                i += replacement.length();
-            } else {
-                i++;
+                stringBuilder.append(javaString, unescapedStart, i);
+                stringBuilder.append(replacement);
+                unescapedStart = i + 1;
             }
         }
+        stringBuilder.append(javaString, unescapedStart, length);
         stringBuilder.append(QUOTE);
-        return stringBuilder.toString();
     }
 
 }
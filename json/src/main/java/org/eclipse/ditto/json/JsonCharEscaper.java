@@ -72,6 +72,21 @@ final class JsonCharEscaper implements Function<Integer, String> {
         }
     }
 
+    /**
+     * Escapes the given char if necessary without boxing it.
+     *
+     * @param c the character to be escaped.
+     * @return the replacement for {@code c} or {@code null} if {@code c} does not have to be escaped.
+     * @since 1.2.0
+     */
+    @Nullable
+    String escape(final char c) {
+        if (c < ESCAPE_TABLE.length) {
+            return ESCAPE_TABLE[c];
+        }
+        return null;
+    }
+
     private static String[] createEscapeTable() {
         final String[] table = new String[LAST_ASCII + 1];
         // control characters must be escaped as unicode except the shorthands handled later
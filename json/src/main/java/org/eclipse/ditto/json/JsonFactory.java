@@ -15,6 +15,7 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.Reader;
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collection;
@@ -194,6 +195,34 @@ public final class JsonFactory {
         return JsonValueParser.fromReader().apply(reader);
     }
 
+    /**
+     * Reads the given UTF-8 encoded bytes and creates a JSON value based on the read data.
+     *
+     * @param utf8Bytes the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8Bytes} is {@code null}.
+     * @throws JsonParseException if {@code utf8Bytes} is empty or if it is no valid JSON.
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final byte[] utf8Bytes) {
+        requireNonNull(utf8Bytes, "The bytes to read from must not be null!");
+        return readFrom(ByteBuffer.wrap(utf8Bytes));
+    }
+
+    /**
+     * Reads the remaining UTF-8 encoded bytes of the given ByteBuffer and creates a JSON value based on the read data.
+     * The position of {@code utf8ByteBuffer} is not changed.
+     *
+     * @param utf8ByteBuffer the buffer containing the UTF-8 encoded JSON document to read.
+     * @return a JSON value representing the read document.
+     * @throws NullPointerException if {@code utf8ByteBuffer} is {@code null}.
+     * @throws JsonParseException if {@code utf8ByteBuffer} has no remaining bytes or if it is no valid JSON.
+     * @since 1.2.0
+     */
+    public static JsonValue readFrom(final ByteBuffer utf8ByteBuffer) {
+        return JsonValueParser.fromByteBuffer().apply(utf8ByteBuffer);
+    }
+
     /**
      * Returns a new mutable builder for a {@code JsonObject}.
      *
@@ -254,6 +283,38 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which only contains the fields selected by the given field selector.
+     * The result is equal to {@code newObject(jsonString).get(fieldSelector)}, yet no JSON values are created for
+     * fields which are not selected.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @param fieldSelector the selected fields.
+     * @return the JSON object that has been created from the string and that only contains the selected fields.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @since 1.2.0
+     */
+    public static JsonObject newObject(final String jsonString, final JsonFieldSelector fieldSelector) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            final JsonValue jsonValue = JsonValueParser.fromString(fieldSelector).apply(jsonString);
+            if (!jsonValue.isObject()) {
+                final String msgPattern = "<{0}> is not a valid JSON object!";
+                throw JsonParseException.newBuilder().message(MessageFormat.format(msgPattern, jsonString)).build();
+            }
+            return jsonValue.asObject().get(fieldSelector);
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return "null".equals(s);
     }
@@ -398,6 +459,20 @@ public final class JsonFactory {
         return ImmutableJsonPatch.newInstance(operation, path, value);
     }
 
+    /**
+     * Returns the JSON Merge Patch according to <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a> which
+     * transforms {@code original} into {@code target}.
+     *
+     * @param original the JSON object to be patched.
+     * @param target the JSON object which is the result of applying the patch to {@code original}.
+     * @return the merge patch; an empty object if both objects are equal.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 1.2.0
+     */
+    public static JsonObject newMergePatch(final JsonObject original, final JsonObject target) {
+        return JsonMergePatchDiff.between(original, target);
+    }
+
     /**
      * Returns a new JSON Patch created from the given string.
      *
@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 /**
@@ -58,8 +59,14 @@ final class JsonFieldSelectorTrie {
      */
     private final Map<JsonKey, JsonFieldSelectorTrie> children;
 
+    /**
+     * Indicates whether a JSON pointer ends at this trie.
+     */
+    private boolean pointerEnd;
+
     private JsonFieldSelectorTrie() {
         children = new LinkedHashMap<>();
+        pointerEnd = false;
     }
 
     /**
@@ -103,6 +110,8 @@ final class JsonFieldSelectorTrie {
                 final JsonFieldSelectorTrie child = theChild != null ? theChild : new JsonFieldSelectorTrie();
                 return child.addJsonKeyIterator(iterator);
             });
+        } else {
+            pointerEnd = true;
         }
         return this;
     }
@@ -125,6 +134,27 @@ final class JsonFieldSelectorTrie {
         return children.keySet();
     }
 
+    /**
+     * Indicates whether at least one of the JSON pointers this trie was created of ends at this trie, i. e. whether
+     * the whole value at this trie is selected even if it has children.
+     *
+     * @return {@code true} if a JSON pointer ends at this trie.
+     */
+    boolean isPointerEnd() {
+        return pointerEnd;
+    }
+
+    /**
+     * Returns the child with the specified key.
+     *
+     * @param key label of the child.
+     * @return the child or {@code null} if this trie has no child with {@code key}.
+     */
+    @Nullable
+    JsonFieldSelectorTrie getChildOrNull(final JsonKey key) {
+        return children.get(key);
+    }
+
     /**
      * Retrieves a child.
      *
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A bounded cache which shares immutable instances created from frequently used strings, e. g. the keys
+ * {@code "features"}, {@code "properties"} or {@code "attributes"}.
+ * <p>
+ * The cache is direct-mapped: each string maps to exactly one slot and a miss replaces the slot's entry.
+ * Thus the memory consumption is bounded, lookups never block and rarely used strings are evicted by frequently used
+ * ones without any bookkeeping.
+ * Races between threads can only lead to a cache miss because entries are immutable.
+ * </p>
+ *
+ * @param <T> the type of the interned instances.
+ */
+@ThreadSafe
+final class JsonInterner<T> {
+
+    private final Entry<T>[] slots;
+    private final int mask;
+    private final int maxStringLength;
+    private final Function<String, T> factory;
+
+    @SuppressWarnings("unchecked")
+    private JsonInterner(final int numberOfSlots, final int maxStringLength, final Function<String, T> factory) {
+        slots = new Entry[numberOfSlots];
+        mask = numberOfSlots - 1;
+        this.maxStringLength = maxStringLength;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns a new instance of {@code JsonInterner}.
+     *
+     * @param numberOfSlots the maximum number of cached instances; must be a power of two.
+     * @param maxStringLength strings which are longer than this are not cached.
+     * @param factory creates a new instance for a string which is not cached.
+     * @param <T> the type of the interned instances.
+     * @return the instance.
+     * @throws NullPointerException if {@code factory} is {@code null}.
+     * @throws IllegalArgumentException if {@code numberOfSlots} is not a positive power of two.
+     */
+    static <T> JsonInterner<T> newInstance(final int numberOfSlots, final int maxStringLength,
+            final Function<String, T> factory) {
+
+        requireNonNull(factory, "The factory must not be null!");
+        if (0 >= numberOfSlots || 0 != (numberOfSlots & (numberOfSlots - 1))) {
+            throw new IllegalArgumentException("The number of slots must be a positive power of two!");
+        }
+        return new JsonInterner<>(numberOfSlots, maxStringLength, factory);
+    }
+
+    /**
+     * Returns the cached instance for the given string or creates a new one.
+     *
+     * @param string the string to get the instance for.
+     * @return the instance.
+     */
+    T intern(final String string) {
+        if (string.length() > maxStringLength) {
+            return factory.apply(string);
+        }
+        final int hash = string.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        @Nullable final Entry<T> entry = slots[index];
+        if (null != entry && entry.string.equals(string)) {
+            return entry.value;
+        }
+        final T result = factory.apply(string);
+        slots[index] = new Entry<>(string, result);
+        return result;
+    }
+
+    private static final class Entry<T> {
+
+        private final String string;
+        private final T value;
+
+        private Entry(final String string, final T value) {
+            this.string = string;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Calculates the difference between two JSON objects as JSON Merge Patch according to
+ * <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>.
+ * <p>
+ * Values which did not change are skipped without comparing them field by field whenever possible: objects are
+ * regarded equal if they are the same instance, share their fields or have the same serialized representation.
+ * Other objects are only compared by {@code equals} if their cached hash codes are equal; otherwise their fields are
+ * diffed recursively.
+ * Thus the costs of a diff between an object and a modified copy of it mostly depend on the size of the modification.
+ * </p>
+ */
+@Immutable
+final class JsonMergePatchDiff {
+
+    private JsonMergePatchDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the JSON Merge Patch which transforms {@code original} into {@code target}.
+     *
+     * @param original the JSON object to be patched.
+     * @param target the JSON object which is the result of applying the patch to {@code original}.
+     * @return the merge patch which is an empty object if both objects are equal.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static JsonObject between(final JsonObject original, final JsonObject target) {
+        requireNonNull(original, "The original JSON object must not be null!");
+        requireNonNull(target, "The target JSON object must not be null!");
+
+        if (isEqual(original, target)) {
+            return JsonFactory.newObject();
+        }
+        if (original.isNull() || target.isNull()) {
+            // a patch which is no object replaces the whole object, the null literal removes it
+            return target;
+        }
+        return diffFields(original, target);
+    }
+
+    private static JsonObject diffFields(final JsonObject original, final JsonObject target) {
+        final List<JsonField> patchFields = new ArrayList<>();
+        for (final JsonField targetField : target) {
+            final JsonKey key = targetField.getKey();
+            final JsonValue targetValue = targetField.getValue();
+            @Nullable final JsonField originalField = getFieldOrNull(original, key);
+            if (null == originalField) {
+                patchFields.add(targetField);
+            } else {
+                final JsonValue originalValue = originalField.getValue();
+                if (isObject(originalValue) && isObject(targetValue)) {
+                    final JsonObject nestedPatch = between(originalValue.asObject(), targetValue.asObject());
+                    if (!nestedPatch.isEmpty()) {
+                        patchFields.add(JsonFactory.newField(key, nestedPatch));
+                    }
+                } else if (!isEqual(originalValue, targetValue)) {
+                    patchFields.add(targetField);
+                }
+            }
+        }
+        for (final JsonField originalField : original) {
+            final JsonKey originalKey = originalField.getKey();
+            if (null == getFieldOrNull(target, originalKey)) {
+                patchFields.add(JsonFactory.newField(originalKey, JsonFactory.nullLiteral()));
+            }
+        }
+
+        // the patch is derived from the empty object in order to postpone creating its serialized representation
+        return ImmutableJsonObject.empty().setAll(patchFields);
+    }
+
+    @Nullable
+    private static JsonField getFieldOrNull(final JsonObject jsonObject, final JsonKey key) {
+        if (jsonObject instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) jsonObject).getFieldOrNull(key);
+        }
+        return jsonObject.getField(key).orElse(null);
+    }
+
+    private static boolean isObject(final JsonValue jsonValue) {
+        return jsonValue.isObject() && !jsonValue.isNull();
+    }
+
+    private static boolean isEqual(final JsonValue original, final JsonValue target) {
+        if (original == target) {
+            return true;
+        }
+        if (original instanceof ImmutableJsonObject && target instanceof ImmutableJsonObject) {
+            final ImmutableJsonObject originalObject = (ImmutableJsonObject) original;
+            final ImmutableJsonObject targetObject = (ImmutableJsonObject) target;
+            if (originalObject.isKnownToBeEqual(targetObject)) {
+                return true;
+            }
+
+            // comparing field by field is only worthwhile if the objects are likely to be equal
+            return originalObject.hasSameCachedHashCode(targetObject) && originalObject.equals(targetObject);
+        }
+        return original.equals(target);
+    }
+
+}
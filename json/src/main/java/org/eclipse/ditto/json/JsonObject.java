@@ -381,4 +381,24 @@ public interface JsonObject extends JsonValue, JsonValueContainer<JsonField> {
      */
     Optional<JsonField> getField(CharSequence key);
 
+    /**
+     * Returns the difference between this JSON object and the specified JSON object as JSON Merge Patch according to
+     * <a href="https://tools.ietf.org/html/rfc7396">RFC 7396</a>, i. e. applying the returned patch to this object
+     * results in {@code other}.
+     * <p>
+     * Fields which are not contained in {@code other} are set to the null literal within the patch.
+     * As defined by RFC 7396, the patch cannot express that a field of {@code other} is set to the null literal.
+     * Nested objects which did not change are mostly detected without comparing their fields, thus computing the
+     * difference between an object and a modified copy of it is cheap.
+     * </p>
+     *
+     * @param other the JSON object which is the result of applying the returned patch to this object.
+     * @return the merge patch; an empty object if both objects are equal.
+     * @throws NullPointerException if {@code other} is {@code null}.
+     * @since 1.2.0
+     */
+    default JsonObject diff(final JsonObject other) {
+        return JsonFactory.newMergePatch(this, other);
+    }
+
 }
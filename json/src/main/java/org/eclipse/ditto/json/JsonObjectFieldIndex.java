@@ -0,0 +1,588 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An index of the top-level fields of a JSON object string.
+ * For each field the index knows the key and the offsets of the raw value within the JSON object string.
+ * Values are only materialized when they are actually accessed; nested JSON objects are in turn materialized as
+ * lazily indexed {@link ImmutableJsonObject}s.
+ * <p>
+ * An index can only be created for JSON object strings in the compact form which Ditto itself produces, i. e.
+ * without insignificant whitespace and with strings which are escaped exactly like
+ * {@link JavaStringToEscapedJsonString} would do it.
+ * For all other input the caller has to fall back to eager parsing.
+ * </p>
+ * <p>
+ * The raw JSON object string is kept as it is. It may differ from the string representation of an eagerly parsed
+ * JSON object, e.g. if it contains duplicate keys (the fields hold the last value while the raw string keeps all of
+ * them) or numbers in another notation like {@code 1E2}.
+ * </p>
+ * <p>
+ * The index is built on first access and published via a volatile field, thus instances are safe to share between
+ * threads.
+ * </p>
+ */
+@Immutable
+final class JsonObjectFieldIndex {
+
+    /**
+     * Nesting depth up to which a JSON string is indexed; deeper documents are left to the eager parser.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    /**
+     * Integers with more digits might not fit into a long.
+     */
+    private static final int MAX_INTEGER_DIGITS = 18;
+
+    private static final char END_OF_INPUT = '\0';
+
+    private final String jsonObjectString;
+
+    // lazily initialized; racy single-check is fine as Index is safely published and scanning is deterministic
+    @Nullable private volatile Index index;
+
+    private JsonObjectFieldIndex(final String jsonObjectString, @Nullable final Index index) {
+        this.jsonObjectString = jsonObjectString;
+        this.index = index;
+    }
+
+    /**
+     * Validates the specified string and indexes its top-level fields.
+     *
+     * @param jsonString the string to be indexed.
+     * @return the index or {@code null} if {@code jsonString} is no JSON object in compact form.
+     */
+    @Nullable
+    static JsonObjectFieldIndex tryToIndex(final String jsonString) {
+        if (jsonString.isEmpty() || '{' != jsonString.charAt(0)) {
+            return null;
+        }
+        final Index index = new Scanner(jsonString).scanObject();
+        if (null == index) {
+            return null;
+        }
+        return new JsonObjectFieldIndex(jsonString, index);
+    }
+
+    /**
+     * Returns an index for the specified string which is already known to be a JSON object in compact form, for
+     * example because it is part of a string which was successfully indexed before.
+     * The fields of the JSON object string get indexed on first access.
+     *
+     * @param validJsonObjectString the JSON object string.
+     * @return the index.
+     */
+    static JsonObjectFieldIndex ofValidated(final String validJsonObjectString) {
+        return new JsonObjectFieldIndex(validJsonObjectString, null);
+    }
+
+    /**
+     * Returns the JSON object string this index is based on.
+     *
+     * @return the JSON object string.
+     */
+    String getJsonObjectString() {
+        return jsonObjectString;
+    }
+
+    int getSize() {
+        return getIndex().keys.length;
+    }
+
+    boolean isEmpty() {
+        return 0 == getSize();
+    }
+
+    boolean containsKey(final String key) {
+        return getIndex().positions.containsKey(key);
+    }
+
+    /**
+     * Returns the keys of the indexed JSON object in their original order without materializing any value.
+     *
+     * @return the keys.
+     */
+    List<JsonKey> getKeys() {
+        final Index theIndex = getIndex();
+        final List<JsonKey> result = new ArrayList<>(theIndex.keys.length);
+        for (final String key : theIndex.keys) {
+            result.add(JsonKey.of(key));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the field for the specified key. The value of the field is materialized if necessary.
+     *
+     * @param key the key of the field.
+     * @return the field or {@code null} if the JSON object does not contain a field with {@code key}.
+     */
+    @Nullable
+    JsonField getOrNull(final String key) {
+        final Index theIndex = getIndex();
+        final Integer position = theIndex.positions.get(key);
+        if (null == position) {
+            return null;
+        }
+        return getField(theIndex, position);
+    }
+
+    /**
+     * Materializes all top-level fields of the indexed JSON object.
+     * Nested JSON objects stay lazy.
+     *
+     * @return an insertion ordered map of all fields of the JSON object.
+     */
+    Map<String, JsonField> toFieldMap() {
+        final Index theIndex = getIndex();
+        final Map<String, JsonField> result = new LinkedHashMap<>(theIndex.keys.length);
+        for (int i = 0; i < theIndex.keys.length; i++) {
+            result.put(theIndex.keys[i], getField(theIndex, i));
+        }
+        return result;
+    }
+
+    private JsonField getField(final Index theIndex, final int position) {
+        JsonField result = theIndex.fields.get(position);
+        if (null == result) {
+            final JsonValue value = materializeValue(theIndex.valueStarts[position], theIndex.valueEnds[position]);
+            result = JsonField.newInstance(theIndex.keys[position], value);
+            theIndex.fields.set(position, result);
+        }
+        return result;
+    }
+
+    private JsonValue materializeValue(final int start, final int end) {
+        final char firstChar = jsonObjectString.charAt(start);
+        switch (firstChar) {
+            case '{':
+                return ImmutableJsonObject.of(ofValidated(jsonObjectString.substring(start, end)));
+            case '[':
+                return JsonValueParser.fromString().apply(jsonObjectString.substring(start, end));
+            case '"':
+                return ImmutableJsonString.of(Scanner.decodeString(jsonObjectString, start, end));
+            case 't':
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                return ImmutableJsonBoolean.FALSE;
+            case 'n':
+                return ImmutableJsonNull.getInstance();
+            default:
+                return DefaultDittoJsonHandler.getNumberFor(jsonObjectString.substring(start, end));
+        }
+    }
+
+    private Index getIndex() {
+        Index result = index;
+        if (null == result) {
+            result = new Scanner(jsonObjectString).scanObject();
+            if (null == result) {
+                // cannot happen as the string was validated before
+                throw new IllegalStateException("Failed to index JSON object string!");
+            }
+            index = result;
+        }
+        return result;
+    }
+
+    /**
+     * The actual index data, which is complete once constructed. Field values are materialized on demand and cached
+     * in an atomic array; concurrent materialization of the same field is harmless as JSON values are immutable.
+     */
+    @Immutable
+    private static final class Index {
+
+        private final String[] keys;
+        private final int[] valueStarts;
+        private final int[] valueEnds;
+        private final Map<String, Integer> positions;
+        private final AtomicReferenceArray<JsonField> fields;
+
+        private Index(final String[] keys, final int[] valueStarts, final int[] valueEnds,
+                final Map<String, Integer> positions) {
+
+            this.keys = keys;
+            this.valueStarts = valueStarts;
+            this.valueEnds = valueEnds;
+            this.positions = positions;
+            fields = new AtomicReferenceArray<>(keys.length);
+        }
+
+    }
+
+    /**
+     * Validates a JSON object string without creating any JSON values and collects the offsets of its top-level
+     * values.
+     * The scanner works iteratively, thus nesting depth does not consume stack.
+     */
+    private static final class Scanner {
+
+        private final String s;
+        private final int length;
+        private char[] containerStack;
+        private int depth;
+
+        private Scanner(final String s) {
+            this.s = s;
+            length = s.length();
+            containerStack = new char[16];
+            depth = 0;
+        }
+
+        private char charAt(final int position) {
+            return position < length ? s.charAt(position) : END_OF_INPUT;
+        }
+
+        @Nullable
+        private Index scanObject() {
+            final List<String> keys = new ArrayList<>();
+            int[] valueStarts = new int[8];
+            int[] valueEnds = new int[8];
+            final Map<String, Integer> positions = new HashMap<>();
+
+            int pos = 1;
+            if ('}' != charAt(pos)) {
+                while (true) {
+                    final int keyEnd = skipString(pos, true);
+                    if (keyEnd < 0 || ':' != charAt(keyEnd)) {
+                        return null;
+                    }
+                    final String key = decodeString(s, pos, keyEnd);
+                    final int valueStart = keyEnd + 1;
+                    final int valueEnd = skipValue(valueStart);
+                    if (valueEnd < 0) {
+                        return null;
+                    }
+
+                    // duplicate keys behave like Map#put: the last value wins, the first position is kept
+                    final Integer existingPosition = positions.get(key);
+                    final int position;
+                    if (null != existingPosition) {
+                        position = existingPosition;
+                    } else {
+                        position = keys.size();
+                        keys.add(key);
+                        positions.put(key, position);
+                        if (position == valueStarts.length) {
+                            valueStarts = Arrays.copyOf(valueStarts, position * 2);
+                            valueEnds = Arrays.copyOf(valueEnds, position * 2);
+                        }
+                    }
+                    valueStarts[position] = valueStart;
+                    valueEnds[position] = valueEnd;
+
+                    pos = valueEnd;
+                    final char c = charAt(pos);
+                    if (',' == c) {
+                        pos++;
+                    } else if ('}' == c) {
+                        break;
+                    } else {
+                        return null;
+                    }
+                }
+            }
+            if (pos + 1 != length) {
+                return null;
+            }
+
+            final int size = keys.size();
+            return new Index(keys.toArray(new String[0]), Arrays.copyOf(valueStarts, size),
+                    Arrays.copyOf(valueEnds, size), Collections.unmodifiableMap(positions));
+        }
+
+        /**
+         * Skips the JSON value starting at the specified position.
+         *
+         * @return the position after the value or {@code -1} if the value is invalid or not in compact form.
+         */
+        @SuppressWarnings({"squid:S3776", "squid:MethodCyclomaticComplexity"})
+        private int skipValue(final int start) {
+            final int initialDepth = depth;
+            int pos = start;
+            while (true) {
+                // pos points to the start of a value
+                final char c = charAt(pos);
+                if ('{' == c || '[' == c) {
+                    if (!push(c)) {
+                        return -1;
+                    }
+                    pos++;
+                    final char next = charAt(pos);
+                    if ('{' == c && '}' != next) {
+                        pos = skipMemberName(pos);
+                        if (pos < 0) {
+                            return -1;
+                        }
+                        continue;
+                    } else if ('[' == c && ']' != next) {
+                        continue;
+                    }
+                    // empty container: the closing char is consumed below
+                } else if ('"' == c) {
+                    pos = skipString(pos, false);
+                } else if ('t' == c) {
+                    pos = skipLiteral(pos, "true");
+                } else if ('f' == c) {
+                    pos = skipLiteral(pos, "false");
+                } else if ('n' == c) {
+                    pos = skipLiteral(pos, "null");
+                } else {
+                    pos = skipNumber(pos);
+                }
+                if (pos < 0) {
+                    return -1;
+                }
+
+                // pos points after a value (or at the closing char of an empty container)
+                boolean expectValue = false;
+                while (depth > initialDepth && !expectValue) {
+                    final char container = containerStack[depth - 1];
+                    final char next = charAt(pos);
+                    if (',' == next) {
+                        pos++;
+                        if ('{' == container) {
+                            pos = skipMemberName(pos);
+                            if (pos < 0) {
+                                return -1;
+                            }
+                        }
+                        expectValue = true;
+                    } else if (('{' == container && '}' == next) || ('[' == container && ']' == next)) {
+                        depth--;
+                        pos++;
+                    } else {
+                        return -1;
+                    }
+                }
+                if (!expectValue) {
+                    return pos;
+                }
+            }
+        }
+
+        private boolean push(final char container) {
+            if (depth >= MAX_DEPTH) {
+                return false;
+            }
+            if (depth == containerStack.length) {
+                containerStack = Arrays.copyOf(containerStack, depth * 2);
+            }
+            containerStack[depth++] = container;
+            return true;
+        }
+
+        private int skipMemberName(final int start) {
+            final int keyEnd = skipString(start, true);
+            if (keyEnd < 0 || ':' != charAt(keyEnd)) {
+                return -1;
+            }
+            return keyEnd + 1;
+        }
+
+        private int skipLiteral(final int start, final String literal) {
+            if (s.startsWith(literal, start)) {
+                return start + literal.length();
+            }
+            return -1;
+        }
+
+        /**
+         * Skips a string. Only escape sequences which {@link JsonCharEscaper} would produce are accepted.
+         */
+        private int skipString(final int start, final boolean isKey) {
+            if ('"' != charAt(start)) {
+                return -1;
+            }
+            int pos = start + 1;
+            if (isKey && '"' == charAt(pos)) {
+                // empty keys are not allowed
+                return -1;
+            }
+            while (true) {
+                final char c = charAt(pos);
+                if ('"' == c) {
+                    return pos + 1;
+                } else if ('\\' == c) {
+                    final int escapeLength = getCanonicalEscapeSequenceLength(pos);
+                    if (escapeLength < 0) {
+                        return -1;
+                    }
+                    pos += escapeLength;
+                } else if (c < 0x20) {
+                    // unescaped control characters (including END_OF_INPUT) are invalid
+                    return -1;
+                } else {
+                    pos++;
+                }
+            }
+        }
+
+        private int getCanonicalEscapeSequenceLength(final int backslashPosition) {
+            final char c = charAt(backslashPosition + 1);
+            switch (c) {
+                case '"':
+                case '\\':
+                case 'b':
+                case 'f':
+                case 'n':
+                case 'r':
+                case 't':
+                    return 2;
+                case 'u':
+                    if ('0' == charAt(backslashPosition + 2) && '0' == charAt(backslashPosition + 3)) {
+                        final int high = upperCaseHexValue(charAt(backslashPosition + 4));
+                        final int low = upperCaseHexValue(charAt(backslashPosition + 5));
+                        if (0 <= high && high <= 1 && 0 <= low) {
+                            final int escapedChar = high * 16 + low;
+                            final String escapeSequence = JsonCharEscaper.getInstance().apply(escapedChar);
+                            if (null != escapeSequence && 6 == escapeSequence.length()) {
+                                return 6;
+                            }
+                        }
+                    }
+                    return -1;
+                default:
+                    return -1;
+            }
+        }
+
+        private static int upperCaseHexValue(final char c) {
+            if ('0' <= c && c <= '9') {
+                return c - '0';
+            } else if ('A' <= c && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
+
+        private int skipNumber(final int start) {
+            int pos = start;
+            if ('-' == charAt(pos)) {
+                pos++;
+            }
+            final int integerStart = pos;
+            if ('0' == charAt(pos)) {
+                pos++;
+            } else if (isDigit(charAt(pos))) {
+                pos = skipDigits(pos);
+            } else {
+                return -1;
+            }
+            final int integerDigits = pos - integerStart;
+            final char afterInteger = charAt(pos);
+            if (integerDigits > MAX_INTEGER_DIGITS && '.' != afterInteger && 'e' != afterInteger &&
+                    'E' != afterInteger) {
+                // might exceed the long range which the eager parser reports as parse error
+                return -1;
+            }
+            if ('.' == charAt(pos)) {
+                pos++;
+                if (!isDigit(charAt(pos))) {
+                    return -1;
+                }
+                pos = skipDigits(pos);
+            }
+            final char exponentChar = charAt(pos);
+            if ('e' == exponentChar || 'E' == exponentChar) {
+                pos++;
+                final char signChar = charAt(pos);
+                if ('+' == signChar || '-' == signChar) {
+                    pos++;
+                }
+                if (!isDigit(charAt(pos))) {
+                    return -1;
+                }
+                pos = skipDigits(pos);
+            }
+            return pos;
+        }
+
+        private int skipDigits(final int start) {
+            int pos = start;
+            while (isDigit(charAt(pos))) {
+                pos++;
+            }
+            return pos;
+        }
+
+        private static boolean isDigit(final char c) {
+            return '0' <= c && c <= '9';
+        }
+
+        /**
+         * Decodes the already validated string which starts and ends with quotes.
+         */
+        private static String decodeString(final String s, final int start, final int end) {
+            final int contentStart = start + 1;
+            final int contentEnd = end - 1;
+            final int firstBackslash = s.indexOf('\\', contentStart);
+            if (firstBackslash < 0 || firstBackslash >= contentEnd) {
+                return s.substring(contentStart, contentEnd);
+            }
+            final StringBuilder stringBuilder = new StringBuilder(contentEnd - contentStart);
+            stringBuilder.append(s, contentStart, firstBackslash);
+            int pos = firstBackslash;
+            while (pos < contentEnd) {
+                final char c = s.charAt(pos);
+                if ('\\' == c) {
+                    final char escaped = s.charAt(pos + 1);
+                    switch (escaped) {
+                        case 'b':
+                            stringBuilder.append('\b');
+                            break;
+                        case 'f':
+                            stringBuilder.append('\f');
+                            break;
+                        case 'n':
+                            stringBuilder.append('\n');
+                            break;
+                        case 'r':
+                            stringBuilder.append('\r');
+                            break;
+                        case 't':
+                            stringBuilder.append('\t');
+                            break;
+                        case 'u':
+                            stringBuilder.append((char) Integer.parseInt(s.substring(pos + 2, pos + 6), 16));
+                            pos += 4;
+                            break;
+                        default:
+                            stringBuilder.append(escaped);
+                    }
+                    pos += 2;
+                } else {
+                    stringBuilder.append(c);
+                    pos++;
+                }
+            }
+            return stringBuilder.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Creates the JSON string representation of JSON objects and arrays by writing the whole value tree into a single
+ * StringBuilder.
+ * Keys and strings are escaped directly into the StringBuilder and the string representations of nested values are
+ * neither created nor cached, thus the only object created per serialization is the resulting string.
+ * <p>
+ * The StringBuilder is reused by all serializations of a thread.
+ * If a serialization is started while the StringBuilder of the thread is in use, e. g. by the {@code toString} method
+ * of a custom {@link JsonValue} implementation, a new StringBuilder is used.
+ * </p>
+ */
+@NotThreadSafe
+final class JsonStringWriter {
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    /**
+     * StringBuilders which grew beyond this capacity are not reused to not keep large buffers for each thread; 8K
+     * chars cover the string representations of most Things while retaining at most 16 KB per thread.
+     */
+    private static final int MAX_REUSED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> STRING_BUILDERS = new ThreadLocal<>();
+
+    private final StringBuilder stringBuilder;
+
+    private JsonStringWriter(final StringBuilder stringBuilder) {
+        this.stringBuilder = stringBuilder;
+    }
+
+    /**
+     * Returns the JSON string representation of a JSON object with the given fields.
+     *
+     * @param jsonFields the fields of the JSON object.
+     * @return the JSON object string.
+     */
+    static String fieldsToString(final Iterable<JsonField> jsonFields) {
+        final StringBuilder stringBuilder = acquireStringBuilder();
+        try {
+            new JsonStringWriter(stringBuilder).writeFields(jsonFields);
+            return stringBuilder.toString();
+        } finally {
+            releaseStringBuilder(stringBuilder);
+        }
+    }
+
+    /**
+     * Returns the JSON string representation of a JSON array with the given values.
+     *
+     * @param jsonValues the values of the JSON array.
+     * @return the JSON array string.
+     */
+    static String valuesToString(final Iterable<JsonValue> jsonValues) {
+        final StringBuilder stringBuilder = acquireStringBuilder();
+        try {
+            new JsonStringWriter(stringBuilder).writeValues(jsonValues);
+            return stringBuilder.toString();
+        } finally {
+            releaseStringBuilder(stringBuilder);
+        }
+    }
+
+    private static StringBuilder acquireStringBuilder() {
+        @Nullable final StringBuilder result = STRING_BUILDERS.get();
+        if (null == result) {
+            return new StringBuilder(INITIAL_CAPACITY);
+        }
+        // the StringBuilder is in use until it is released
+        STRING_BUILDERS.set(null);
+        return result;
+    }
+
+    private static void releaseStringBuilder(final StringBuilder stringBuilder) {
+        if (stringBuilder.capacity() <= MAX_REUSED_CAPACITY) {
+            stringBuilder.setLength(0);
+            STRING_BUILDERS.set(stringBuilder);
+        }
+    }
+
+    private void writeValue(final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            stringBuilder.append("null");
+        } else if (jsonValue instanceof ImmutableJsonString) {
+            writeString((ImmutableJsonString) jsonValue);
+        } else if (jsonValue.isString()) {
+            JavaStringToEscapedJsonString.getInstance().appendTo(stringBuilder, jsonValue.asString());
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue instanceof ImmutableJsonInt) {
+            stringBuilder.append(jsonValue.asInt());
+        } else if (jsonValue instanceof ImmutableJsonLong) {
+            stringBuilder.append(jsonValue.asLong());
+        } else if (jsonValue instanceof ImmutableJsonDouble) {
+            stringBuilder.append(jsonValue.asDouble());
+        } else {
+            stringBuilder.append(jsonValue.toString());
+        }
+    }
+
+    private void writeString(final ImmutableJsonString jsonString) {
+        @Nullable final String knownStringRepresentation = jsonString.getKnownStringRepresentation();
+        if (null != knownStringRepresentation) {
+            stringBuilder.append(knownStringRepresentation);
+        } else {
+            JavaStringToEscapedJsonString.getInstance().appendTo(stringBuilder, jsonString.asString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) {
+        @Nullable final String knownStringRepresentation = jsonObject instanceof ImmutableJsonObject
+                ? ((ImmutableJsonObject) jsonObject).getKnownStringRepresentation()
+                : null;
+        if (null != knownStringRepresentation) {
+            stringBuilder.append(knownStringRepresentation);
+        } else {
+            writeFields(jsonObject);
+        }
+    }
+
+    private void writeFields(final Iterable<JsonField> jsonFields) {
+        stringBuilder.append('{');
+        boolean isFirst = true;
+        for (final JsonField jsonField : jsonFields) {
+            if (!isFirst) {
+                stringBuilder.append(',');
+            }
+            JavaStringToEscapedJsonString.getInstance().appendTo(stringBuilder, jsonField.getKeyName());
+            stringBuilder.append(':');
+            writeValue(jsonField.getValue());
+            isFirst = false;
+        }
+        stringBuilder.append('}');
+    }
+
+    private void writeArray(final JsonArray jsonArray) {
+        @Nullable final String knownStringRepresentation = jsonArray instanceof ImmutableJsonArray
+                ? ((ImmutableJsonArray) jsonArray).getKnownStringRepresentation()
+                : null;
+        if (null != knownStringRepresentation) {
+            stringBuilder.append(knownStringRepresentation);
+        } else {
+            writeValues(jsonArray);
+        }
+    }
+
+    private void writeValues(final Iterable<JsonValue> jsonValues) {
+        stringBuilder.append('[');
+        if (jsonValues instanceof PrimitiveJsonValueList) {
+            ((PrimitiveJsonValueList) jsonValues).appendElements(stringBuilder);
+        } else {
+            boolean isFirst = true;
+            for (final JsonValue jsonValue : jsonValues) {
+                if (!isFirst) {
+                    stringBuilder.append(',');
+                }
+                writeValue(jsonValue);
+                isFirst = false;
+            }
+        }
+        stringBuilder.append(']');
+    }
+
+}
@@ -12,7 +12,11 @@
  */
 package org.eclipse.ditto.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 import javax.annotation.Nullable;
 
@@ -289,6 +293,35 @@ public interface JsonValue {
      */
     void writeValue(SerializationContext serializationContext) throws IOException;
 
+    /**
+     * Writes the string representation of this JsonValue as UTF-8 bytes to the provided output stream.
+     * The written bytes equal the UTF-8 encoding of {@link #toString()}, but the string representation of this value
+     * is not necessarily created for writing it.
+     * The output stream is flushed but not closed.
+     *
+     * @param outputStream the stream to write to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if writing to {@code outputStream} failed.
+     * @since 1.2.0
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        Utf8JsonWriter.write(this, requireNonNull(outputStream, "The OutputStream to write to must not be null!"));
+    }
+
+    /**
+     * Writes the string representation of this JsonValue as UTF-8 bytes into the provided byte buffer starting at its
+     * current position.
+     * The written bytes equal the UTF-8 encoding of {@link #toString()}, but the string representation of this value
+     * is not necessarily created for writing it.
+     *
+     * @param byteBuffer the buffer to write to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} are not sufficient.
+     * @since 1.2.0
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        Utf8JsonWriter.write(this, requireNonNull(byteBuffer, "The ByteBuffer to write to must not be null!"));
+    }
 
     /**
      * Returns an upper bound for the size (in chars), that the serialized version of this value might have.
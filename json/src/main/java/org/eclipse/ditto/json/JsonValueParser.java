@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -57,18 +59,48 @@ final class JsonValueParser {
 
     /**
      * Returns a Function for parsing a String to an instance of {@link JsonValue}.
+     * JSON object strings in compact form are only validated and indexed; the fields of the resulting JSON object
+     * are materialized on access.
      *
      * @return the function.
+     * @see JsonObjectFieldIndex
      */
     public static Function<String, JsonValue> fromString() {
         Function<String, JsonValue> result = fromStringInstance;
         if (null == result) {
-            result = jsonString -> tryToParseJsonValue(jsonString, DefaultDittoJsonHandler.newInstance());
+            result = JsonValueParser::tryToParseJsonValueLazily;
             fromStringInstance = result;
         }
         return result;
     }
 
+    /**
+     * Returns a Function for parsing a String to an instance of {@link JsonValue} which contains at least the values
+     * selected by the given field selector if it is a JSON object.
+     * JSON object strings in compact form are indexed like by {@link #fromString()}; all other JSON object strings
+     * are parsed without creating JSON values for fields which are not selected.
+     *
+     * @param fieldSelector the selected fields.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     */
+    static Function<String, JsonValue> fromString(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        return jsonString -> tryToParseJsonValueProjected(jsonString, fieldSelector);
+    }
+
+    /**
+     * Returns a Function for parsing the UTF-8 encoded JSON string within the remaining bytes of a {@code ByteBuffer}
+     * to an instance of {@link JsonValue}.
+     * The bytes are decoded directly into the string the parsed value keeps as its string representation; the
+     * position of the ByteBuffer is not changed.
+     *
+     * @return the function.
+     */
+    public static Function<ByteBuffer, JsonValue> fromByteBuffer() {
+        return JsonValueParser::tryToParseJsonValueFromUtf8;
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
@@ -78,6 +110,54 @@ final class JsonValueParser {
         return JsonValueParser::tryToReadJsonValueFrom;
     }
 
+    private static JsonValue tryToParseJsonValueLazily(@Nullable final String jsonString) {
+        if (null != jsonString) {
+            @Nullable final JsonObjectFieldIndex fieldIndex = JsonObjectFieldIndex.tryToIndex(jsonString);
+            if (null != fieldIndex) {
+                return ImmutableJsonObject.of(fieldIndex);
+            }
+        }
+
+        // not a JSON object in compact form or invalid JSON which is reported by the eager parser
+        return tryToParseJsonValue(jsonString, DefaultDittoJsonHandler.newInstance());
+    }
+
+    private static JsonValue tryToParseJsonValueProjected(@Nullable final String jsonString,
+            final JsonFieldSelector fieldSelector) {
+
+        if (null != jsonString) {
+            @Nullable final JsonObjectFieldIndex fieldIndex = JsonObjectFieldIndex.tryToIndex(jsonString);
+            if (null != fieldIndex) {
+                return ImmutableJsonObject.of(fieldIndex);
+            }
+            @Nullable final JsonValue projectedObject =
+                    tryToParseJsonValue(jsonString, ProjectingJsonHandler.newInstance(fieldSelector));
+            if (null != projectedObject) {
+                return projectedObject;
+            }
+        }
+
+        // not a JSON object; the eager parser creates the value or reports the appropriate error
+        return tryToParseJsonValue(jsonString, DefaultDittoJsonHandler.newInstance());
+    }
+
+    private static JsonValue tryToParseJsonValueFromUtf8(final ByteBuffer byteBuffer) {
+        requireNonNull(byteBuffer, "The ByteBuffer to be parsed must not be null!");
+        final String jsonString;
+        if (byteBuffer.hasArray()) {
+            jsonString = new String(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(),
+                    byteBuffer.remaining(), StandardCharsets.UTF_8);
+        } else {
+            final byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            jsonString = new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (jsonString.isEmpty()) {
+            throw new JsonParseException("The JSON string to read from must not be empty!");
+        }
+        return tryToParseJsonValueLazily(jsonString);
+    }
+
     private static <T> T tryToParseJsonValue(final String jsonString,
             final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
 
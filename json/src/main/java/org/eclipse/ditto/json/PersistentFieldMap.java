@@ -0,0 +1,447 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable, insertion ordered map of JSON fields which shares structure between versions.
+ * <p>
+ * Lookups go through a hash array mapped trie (HAMT) keyed by the field key.
+ * The insertion order is kept in a persistent 32-ary vector which is indexed by an ascending sequence number per
+ * entry.
+ * {@link #with(String, JsonField)} and {@link #without(String)} only copy the paths to the affected entry, thus
+ * they are {@code O(log n)} instead of copying the whole map.
+ * </p>
+ * <p>
+ * Ordering semantics are the same as for {@link java.util.LinkedHashMap}: replacing the value of an existing key
+ * keeps its position, a removed and re-added key is appended.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * Removed entries leave a gap in the order vector; the map is compacted when there are more gaps than entries.
+     */
+    private static final int MIN_GAPS_FOR_COMPACTION = WIDTH;
+
+    private static final PersistentFieldMap EMPTY = new PersistentFieldMap(null, OrderVector.EMPTY, 0);
+
+    @Nullable private final BitmapNode root;
+    private final OrderVector order;
+    private final int size;
+
+    private PersistentFieldMap(@Nullable final BitmapNode root, final OrderVector order, final int size) {
+        this.root = root;
+        this.order = order;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map with the entries of the specified map in its iteration order.
+     *
+     * @param fields the entries of the returned map.
+     * @return the map.
+     */
+    static PersistentFieldMap copyOf(final Map<String, JsonField> fields) {
+        if (fields instanceof PersistentFieldMap) {
+            return (PersistentFieldMap) fields;
+        }
+        PersistentFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> entry : fields.entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a map which additionally contains the specified entry or in which the value of {@code key} is replaced.
+     *
+     * @param key the key.
+     * @param field the field to be associated with {@code key}.
+     * @return the new map.
+     */
+    PersistentFieldMap with(final String key, final JsonField field) {
+        final int hash = key.hashCode();
+        @Nullable final Leaf existing = null != root ? root.find(key, hash, 0) : null;
+        if (null != existing) {
+            if (existing.getValue() == field) {
+                return this;
+            }
+            final Leaf replacement = new Leaf(key, field, hash, existing.sequenceNumber);
+            return new PersistentFieldMap(root.insert(replacement, 0), order.set(existing.sequenceNumber, replacement),
+                    size);
+        }
+        final Leaf leaf = new Leaf(key, field, hash, order.count);
+        final BitmapNode newRoot = null != root ? root.insert(leaf, 0) : BitmapNode.of(leaf, 0);
+        return new PersistentFieldMap(newRoot, order.append(leaf), size + 1);
+    }
+
+    /**
+     * Returns a map without the entry for the specified key.
+     *
+     * @param key the key of the entry to be removed.
+     * @return the new map or this map if it did not contain {@code key}.
+     */
+    PersistentFieldMap without(final String key) {
+        final int hash = key.hashCode();
+        @Nullable final Leaf existing = null != root ? root.find(key, hash, 0) : null;
+        if (null == existing) {
+            return this;
+        }
+        final PersistentFieldMap result = new PersistentFieldMap(root.remove(key, hash, 0),
+                order.set(existing.sequenceNumber, null), size - 1);
+        final int gaps = result.order.count - result.size;
+        if (gaps >= MIN_GAPS_FOR_COMPACTION && gaps > result.size) {
+            return result.compact();
+        }
+        return result;
+    }
+
+    private PersistentFieldMap compact() {
+        PersistentFieldMap result = EMPTY;
+        for (final Map.Entry<String, JsonField> entry : entrySet()) {
+            result = result.with(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (null == root || !(key instanceof String)) {
+            return null;
+        }
+        @Nullable final Leaf leaf = root.find((String) key, key.hashCode(), 0);
+        return null != leaf ? leaf.getValue() : null;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return null != get(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Map.Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonField>> iterator() {
+                return new OrderIterator(order);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * An entry of the map. It knows the hash of its key and its position in the insertion order.
+     */
+    private static final class Leaf extends AbstractMap.SimpleImmutableEntry<String, JsonField> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int hash;
+        private final int sequenceNumber;
+
+        private Leaf(final String key, final JsonField field, final int hash, final int sequenceNumber) {
+            super(key, field);
+            this.hash = hash;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+    }
+
+    /**
+     * Node of the HAMT. Children are either {@link Leaf}s, {@link Leaf} arrays for full hash collisions or
+     * sub-nodes.
+     */
+    private static final class BitmapNode {
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private BitmapNode(final int bitmap, final Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        private static BitmapNode of(final Object child, final int childHash, final int shift) {
+            return new BitmapNode(bit(childHash, shift), new Object[]{child});
+        }
+
+        private static BitmapNode of(final Leaf leaf, final int shift) {
+            return of(leaf, leaf.hash, shift);
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int index(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        private Leaf find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object child = children[index(bit)];
+            if (child instanceof Leaf) {
+                final Leaf leaf = (Leaf) child;
+                return key.equals(leaf.getKey()) ? leaf : null;
+            } else if (child instanceof Leaf[]) {
+                for (final Leaf leaf : (Leaf[]) child) {
+                    if (key.equals(leaf.getKey())) {
+                        return leaf;
+                    }
+                }
+                return null;
+            }
+            return ((BitmapNode) child).find(key, hash, shift + BITS);
+        }
+
+        private BitmapNode insert(final Leaf leaf, final int shift) {
+            final int bit = bit(leaf.hash, shift);
+            final int index = index(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newChildren = new Object[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, index);
+                newChildren[index] = leaf;
+                System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, newChildren);
+            }
+            final Object child = children[index];
+            final Object newChild;
+            if (child instanceof Leaf) {
+                final Leaf existing = (Leaf) child;
+                if (existing.getKey().equals(leaf.getKey())) {
+                    newChild = leaf;
+                } else if (existing.hash == leaf.hash) {
+                    newChild = new Leaf[]{existing, leaf};
+                } else {
+                    newChild = of(existing, shift + BITS).insert(leaf, shift + BITS);
+                }
+            } else if (child instanceof Leaf[]) {
+                final Leaf[] collisions = (Leaf[]) child;
+                if (collisions[0].hash == leaf.hash) {
+                    newChild = insertCollision(collisions, leaf);
+                } else {
+                    newChild = of(collisions, collisions[0].hash, shift + BITS).insert(leaf, shift + BITS);
+                }
+            } else {
+                newChild = ((BitmapNode) child).insert(leaf, shift + BITS);
+            }
+            return withChild(index, newChild);
+        }
+
+        private static Leaf[] insertCollision(final Leaf[] collisions, final Leaf leaf) {
+            for (int i = 0; i < collisions.length; i++) {
+                if (collisions[i].getKey().equals(leaf.getKey())) {
+                    final Leaf[] result = collisions.clone();
+                    result[i] = leaf;
+                    return result;
+                }
+            }
+            final Leaf[] result = new Leaf[collisions.length + 1];
+            System.arraycopy(collisions, 0, result, 0, collisions.length);
+            result[collisions.length] = leaf;
+            return result;
+        }
+
+        @Nullable
+        private BitmapNode remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = index(bit);
+            final Object child = children[index];
+            @Nullable final Object newChild;
+            if (child instanceof Leaf) {
+                newChild = key.equals(((Leaf) child).getKey()) ? null : child;
+            } else if (child instanceof Leaf[]) {
+                newChild = removeCollision((Leaf[]) child, key);
+            } else {
+                newChild = ((BitmapNode) child).remove(key, hash, shift + BITS);
+            }
+            if (null != newChild) {
+                return withChild(index, newChild);
+            }
+            if (1 == children.length) {
+                return null;
+            }
+            final Object[] newChildren = new Object[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new BitmapNode(bitmap & ~bit, newChildren);
+        }
+
+        private static Object removeCollision(final Leaf[] collisions, final String key) {
+            final Leaf[] result = new Leaf[collisions.length - 1];
+            int j = 0;
+            for (final Leaf leaf : collisions) {
+                if (!key.equals(leaf.getKey())) {
+                    if (j == result.length) {
+                        // key was not contained
+                        return collisions;
+                    }
+                    result[j++] = leaf;
+                }
+            }
+            return 1 == result.length ? result[0] : result;
+        }
+
+        private BitmapNode withChild(final int index, final Object child) {
+            if (children[index] == child) {
+                return this;
+            }
+            final Object[] newChildren = children.clone();
+            newChildren[index] = child;
+            return new BitmapNode(bitmap, newChildren);
+        }
+
+    }
+
+    /**
+     * Persistent vector of the leafs in insertion order; removed leafs leave a {@code null} gap.
+     */
+    private static final class OrderVector {
+
+        private static final OrderVector EMPTY = new OrderVector(0, 0, new Object[WIDTH]);
+
+        private final int count;
+        private final int shift;
+        private final Object[] root;
+
+        private OrderVector(final int count, final int shift, final Object[] root) {
+            this.count = count;
+            this.shift = shift;
+            this.root = root;
+        }
+
+        @Nullable
+        private Leaf get(final int index) {
+            Object[] node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Object[]) node[(index >>> level) & MASK];
+            }
+            return (Leaf) node[index & MASK];
+        }
+
+        private OrderVector set(final int index, @Nullable final Leaf leaf) {
+            return new OrderVector(count, shift, setIn(root, shift, index, leaf));
+        }
+
+        private OrderVector append(final Leaf leaf) {
+            if (count == (WIDTH << shift)) {
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                final int newShift = shift + BITS;
+                return new OrderVector(count + 1, newShift, setIn(newRoot, newShift, count, leaf));
+            }
+            return new OrderVector(count + 1, shift, setIn(root, shift, count, leaf));
+        }
+
+        private static Object[] setIn(@Nullable final Object[] node, final int level, final int index,
+                @Nullable final Leaf leaf) {
+
+            final Object[] result = null != node ? node.clone() : new Object[WIDTH];
+            final int slot = (index >>> level) & MASK;
+            if (0 == level) {
+                result[slot] = leaf;
+            } else {
+                result[slot] = setIn((Object[]) result[slot], level - BITS, index, leaf);
+            }
+            return result;
+        }
+
+    }
+
+    private static final class OrderIterator implements Iterator<Map.Entry<String, JsonField>> {
+
+        private final OrderVector order;
+        private int index;
+        @Nullable private Leaf next;
+
+        private OrderIterator(final OrderVector order) {
+            this.order = order;
+            index = 0;
+            next = advance();
+        }
+
+        @Nullable
+        private Leaf advance() {
+            while (index < order.count) {
+                @Nullable final Leaf leaf = order.get(index++);
+                if (null != leaf) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public Map.Entry<String, JsonField> next() {
+            final Leaf result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * An unmodifiable list of JSON numbers which stores the plain values in a primitive array instead of keeping a
+ * JSON value object per element.
+ * The JSON values are created on access, thus a list of numbers needs only a fraction of the memory of a list of
+ * boxed values.
+ * <p>
+ * Only lists whose values are all of the same number type are stored as primitive array.
+ * This ensures that each accessed value is equal to the original value and has the same string representation.
+ * </p>
+ */
+@Immutable
+abstract class PrimitiveJsonValueList extends AbstractList<JsonValue> implements RandomAccess {
+
+    private PrimitiveJsonValueList() {
+        super();
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given values.
+     * If all values are numbers of the same type the copy stores them in a primitive array.
+     *
+     * @param values the values to be copied.
+     * @return the unmodifiable copy.
+     */
+    static List<JsonValue> copyOf(final List<JsonValue> values) {
+        if (values instanceof PrimitiveJsonValueList) {
+            return values;
+        }
+        final List<JsonValue> result = compactOrNull(values);
+        if (null != result) {
+            return result;
+        }
+        return Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    @Nullable
+    private static List<JsonValue> compactOrNull(final List<JsonValue> values) {
+        final int size = values.size();
+        if (0 == size) {
+            return null;
+        }
+        final Class<?> valueType = values.get(0).getClass();
+        for (int i = 1; i < size; i++) {
+            if (valueType != values.get(i).getClass()) {
+                return null;
+            }
+        }
+        if (ImmutableJsonInt.class == valueType) {
+            final int[] ints = new int[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = values.get(i).asInt();
+            }
+            return new IntValueList(ints);
+        }
+        if (ImmutableJsonLong.class == valueType) {
+            final long[] longs = new long[size];
+            for (int i = 0; i < size; i++) {
+                longs[i] = values.get(i).asLong();
+            }
+            return new LongValueList(longs);
+        }
+        if (ImmutableJsonDouble.class == valueType) {
+            final double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                doubles[i] = values.get(i).asDouble();
+            }
+            return new DoubleValueList(doubles);
+        }
+        return null;
+    }
+
+    /**
+     * Appends the JSON string representation of the elements of this list separated by comma to the given
+     * StringBuilder without creating a JSON value per element.
+     *
+     * @param stringBuilder the StringBuilder to append to.
+     */
+    abstract void appendElements(StringBuilder stringBuilder);
+
+    /**
+     * Writes the elements of this list to the given serialization context without creating a JSON value per
+     * element.
+     *
+     * @param serializationContext the context to write to.
+     * @throws IOException if writing to the context failed.
+     */
+    abstract void writeElements(SerializationContext serializationContext) throws IOException;
+
+    @Immutable
+    private static final class IntValueList extends PrimitiveJsonValueList {
+
+        private final int[] values;
+
+        private IntValueList(final int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return ImmutableJsonInt.of(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            if (!(o instanceof AbstractJsonNumber)) {
+                return super.indexOf(o);
+            }
+            final AbstractJsonNumber<?> number = (AbstractJsonNumber<?>) o;
+            if (number.isInt()) {
+                final int value = number.asInt();
+                for (int i = 0; i < values.length; i++) {
+                    if (value == values[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return 0 <= indexOf(o);
+        }
+
+        @Override
+        void appendElements(final StringBuilder stringBuilder) {
+            for (int i = 0; i < values.length; i++) {
+                if (0 < i) {
+                    stringBuilder.append(',');
+                }
+                stringBuilder.append(values[i]);
+            }
+        }
+
+        @Override
+        void writeElements(final SerializationContext serializationContext) throws IOException {
+            final JsonGenerator jsonGenerator = serializationContext.getJacksonGenerator();
+            for (final int value : values) {
+                jsonGenerator.writeNumber(value);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof IntValueList) {
+                return Arrays.equals(values, ((IntValueList) o).values);
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            // equals the hash code of a list of ImmutableJsonInt values
+            return Arrays.hashCode(values);
+        }
+
+    }
+
+    @Immutable
+    private static final class LongValueList extends PrimitiveJsonValueList {
+
+        private final long[] values;
+
+        private LongValueList(final long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return ImmutableJsonLong.of(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public int indexOf(final Object o) {
+            if (!(o instanceof AbstractJsonNumber)) {
+                return super.indexOf(o);
+            }
+            final AbstractJsonNumber<?> number = (AbstractJsonNumber<?>) o;
+            if (number.isLong()) {
+                final long value = number.asLong();
+                for (int i = 0; i < values.length; i++) {
+                    if (value == values[i]) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return 0 <= indexOf(o);
+        }
+
+        @Override
+        void appendElements(final StringBuilder stringBuilder) {
+            for (int i = 0; i < values.length; i++) {
+                if (0 < i) {
+                    stringBuilder.append(',');
+                }
+                stringBuilder.append(values[i]);
+            }
+        }
+
+        @Override
+        void writeElements(final SerializationContext serializationContext) throws IOException {
+            final JsonGenerator jsonGenerator = serializationContext.getJacksonGenerator();
+            for (final long value : values) {
+                jsonGenerator.writeNumber(value);
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof LongValueList) {
+                return Arrays.equals(values, ((LongValueList) o).values);
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (final long value : values) {
+                // the same as ImmutableJsonLong#hashCode
+                final int intValue = (int) value;
+                result = 31 * result + (intValue == value ? intValue : Long.hashCode(value));
+            }
+            return result;
+        }
+
+    }
+
+    @Immutable
+    private static final class DoubleValueList extends PrimitiveJsonValueList {
+
+        private final double[] values;
+
+        private DoubleValueList(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public JsonValue get(final int index) {
+            return ImmutableJsonDouble.of(values[index]);
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        void appendElements(final StringBuilder stringBuilder) {
+            for (int i = 0; i < values.length; i++) {
+                if (0 < i) {
+                    stringBuilder.append(',');
+                }
+                stringBuilder.append(values[i]);
+            }
+        }
+
+        @Override
+        void writeElements(final SerializationContext serializationContext) throws IOException {
+            final JsonGenerator jsonGenerator = serializationContext.getJacksonGenerator();
+            for (final double value : values) {
+                // the same as ImmutableJsonDouble#writeValue
+                final float floatValue = (float) value;
+                if (floatValue == value) {
+                    jsonGenerator.writeNumber(floatValue);
+                } else {
+                    jsonGenerator.writeNumber(value);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (o instanceof DoubleValueList && Arrays.equals(values, ((DoubleValueList) o).values)) {
+                return true;
+            }
+
+            // numbers like 0.0 and -0.0 are regarded equal as JSON values
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (final double value : values) {
+                // the same as ImmutableJsonDouble#hashCode
+                final int elementHash;
+                if ((int) value == value) {
+                    elementHash = (int) value;
+                } else if ((long) value == value) {
+                    elementHash = Long.hashCode((long) value);
+                } else {
+                    elementHash = Double.hashCode(value);
+                }
+                result = 31 * result + elementHash;
+            }
+            return result;
+        }
+
+    }
+
+}
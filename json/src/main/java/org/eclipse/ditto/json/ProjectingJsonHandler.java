@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * A {@link DittoJsonHandler} which only creates JSON values on the paths of a {@link JsonFieldSelectorTrie}.
+ * Values of fields which are not selected are still tokenized by the parser but no JSON value is created for them.
+ * <p>
+ * The parsed JSON object contains all selected values, thus applying the field selector to it yields the same
+ * result as applying it to the completely parsed JSON object.
+ * All callbacks for selected values are delegated to {@link DefaultDittoJsonHandler}.
+ * </p>
+ * <p>
+ * <em>This handler is only usable for parsing JSON object strings.</em>
+ * </p>
+ */
+@NotThreadSafe
+final class ProjectingJsonHandler extends DittoJsonHandler<List<JsonValue>, List<JsonField>, JsonValue> {
+
+    /**
+     * Marks a container whose values are all selected.
+     */
+    @Nullable private static final JsonFieldSelectorTrie SELECT_ALL = null;
+
+    private final DefaultDittoJsonHandler delegate;
+    private final Deque<Container> containers;
+    @Nullable private JsonFieldSelectorTrie nextValueTrie;
+    private boolean skipNextValue;
+    private int skippedContainerDepth;
+    private boolean lastValueSkipped;
+    private boolean isRootParsed;
+
+    private ProjectingJsonHandler(final JsonFieldSelectorTrie trie) {
+        delegate = DefaultDittoJsonHandler.newInstance();
+        containers = new ArrayDeque<>();
+        nextValueTrie = trie.isPointerEnd() ? SELECT_ALL : trie;
+        skipNextValue = false;
+        skippedContainerDepth = 0;
+        lastValueSkipped = false;
+        isRootParsed = false;
+    }
+
+    /**
+     * Returns a new instance of {@code ProjectingJsonHandler}.
+     * <p>
+     * <em>The returned instance is not safe to be re-used!</em>
+     * </p>
+     *
+     * @param fieldSelector the selected fields.
+     * @return the instance.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     */
+    static ProjectingJsonHandler newInstance(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        return new ProjectingJsonHandler(JsonFieldSelectorTrie.of(fieldSelector.getPointers()));
+    }
+
+    @Override
+    public List<JsonValue> startArray() {
+        if (isSkipping() || !isRootParsed || SELECT_ALL != nextValueTrie) {
+            // arrays cannot contain the remaining levels of a selected JSON pointer
+            skipContainer();
+            return null;
+        }
+        containers.push(new Container(SELECT_ALL));
+        return delegate.startArray();
+    }
+
+    @Override
+    public List<JsonField> startObject() {
+        if (isSkipping()) {
+            skipContainer();
+            return null;
+        }
+        isRootParsed = true;
+        containers.push(new Container(nextValueTrie));
+        return delegate.startObject();
+    }
+
+    private boolean isSkipping() {
+        return 0 < skippedContainerDepth || skipNextValue;
+    }
+
+    private void skipContainer() {
+        skipNextValue = false;
+        skippedContainerDepth++;
+    }
+
+    @Override
+    public void startObjectValue(final List<JsonField> jsonFields, final String name) {
+        if (0 < skippedContainerDepth) {
+            return;
+        }
+        @Nullable final Container container = containers.peek();
+        if (null == container || SELECT_ALL == container.trie) {
+            nextValueTrie = SELECT_ALL;
+        } else {
+            @Nullable final JsonFieldSelectorTrie child = container.trie.getChildOrNull(JsonKey.of(name));
+            if (null == child) {
+                skipNextValue = true;
+            } else if (child.isPointerEnd() || child.isEmpty()) {
+                nextValueTrie = SELECT_ALL;
+            } else {
+                nextValueTrie = child;
+            }
+        }
+    }
+
+    @Override
+    public void startArrayValue(final List<JsonValue> jsonValues) {
+        if (0 == skippedContainerDepth) {
+            nextValueTrie = SELECT_ALL;
+        }
+    }
+
+    @Override
+    public void endNull() {
+        if (!skipPrimitive()) {
+            delegate.endNull();
+        }
+    }
+
+    @Override
+    public void endBoolean(final boolean value) {
+        if (!skipPrimitive()) {
+            delegate.endBoolean(value);
+        }
+    }
+
+    @Override
+    public void endString(final String string) {
+        if (!skipPrimitive()) {
+            delegate.endString(string);
+        }
+    }
+
+    @Override
+    public void endNumber(final String string) {
+        if (!skipPrimitive()) {
+            delegate.endNumber(string);
+        }
+    }
+
+    /**
+     * Primitives are skipped if they are part of a skipped container, if they were not selected or if they are on
+     * the path of a JSON pointer which has remaining levels.
+     */
+    private boolean skipPrimitive() {
+        if (0 < skippedContainerDepth) {
+            return true;
+        }
+        if (skipNextValue || SELECT_ALL != nextValueTrie) {
+            skipNextValue = false;
+            lastValueSkipped = true;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void endArrayValue(final List<JsonValue> jsonValues) {
+        if (0 == skippedContainerDepth) {
+            delegate.endArrayValue(jsonValues);
+        }
+    }
+
+    @Override
+    public void endArray(final List<JsonValue> jsonValues) {
+        if (endContainer()) {
+            delegate.endArray(jsonValues);
+        }
+    }
+
+    @Override
+    public void endObjectValue(final List<JsonField> jsonFields, final String name) {
+        if (0 < skippedContainerDepth) {
+            return;
+        }
+        if (lastValueSkipped) {
+            lastValueSkipped = false;
+        } else {
+            delegate.endObjectValue(jsonFields, name);
+        }
+    }
+
+    @Override
+    public void endObject(final List<JsonField> jsonFields) {
+        if (endContainer()) {
+            delegate.endObject(jsonFields);
+        }
+    }
+
+    /**
+     * Returns whether the ended container was created, i. e. not skipped.
+     */
+    private boolean endContainer() {
+        if (0 < skippedContainerDepth) {
+            skippedContainerDepth--;
+            if (0 == skippedContainerDepth) {
+                lastValueSkipped = true;
+            }
+            return false;
+        }
+        containers.pop();
+        return true;
+    }
+
+    /**
+     * Returns the parsed JSON object which contains at least all selected values or {@code null} if the parsed JSON
+     * value was no object.
+     *
+     * @return the JSON object or {@code null}.
+     */
+    @Override
+    @Nullable
+    protected JsonValue getValue() {
+        @Nullable final JsonValue result = delegate.getValue();
+        return isRootParsed && null != result && result.isObject() ? result : null;
+    }
+
+    private static final class Container {
+
+        @Nullable private final JsonFieldSelectorTrie trie;
+
+        private Container(@Nullable final JsonFieldSelectorTrie trie) {
+            this.trie = trie;
+        }
+
+    }
+
+}
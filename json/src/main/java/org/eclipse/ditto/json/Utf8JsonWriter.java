@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Writes the JSON string representation of a {@link JsonValue} as UTF-8 bytes without creating the Java string of the
+ * whole value first.
+ * Already known string representations of JSON objects and arrays are encoded directly; all other values are
+ * escaped and encoded while walking the tree.
+ * The produced bytes are the UTF-8 encoding of {@link JsonValue#toString()}.
+ */
+@NotThreadSafe
+final class Utf8JsonWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Maximum number of bytes a single char can be encoded to, i. e. an escaped control character ({@code \u001F}).
+     */
+    private static final int MAX_BYTES_PER_CHAR = 6;
+
+    private static final char REPLACEMENT_FOR_UNPAIRED_SURROGATE = '?';
+
+    /**
+     * Maximum number of bytes of the decimal representation of a long, i. e. 19 digits plus a '-' character.
+     */
+    private static final int MAX_LONG_LENGTH = 20;
+
+    /**
+     * The buffers are reused by all writers of a thread; a buffer is removed while it is in use.
+     */
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
+    private final OutputStream outputStream;
+    private final byte[] buffer;
+    private int position;
+
+    private Utf8JsonWriter(final OutputStream outputStream, final byte[] buffer) {
+        this.outputStream = outputStream;
+        this.buffer = buffer;
+        position = 0;
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string representation of the given value to the given output stream.
+     * The output stream is flushed but not closed.
+     *
+     * @param jsonValue the value to be written.
+     * @param outputStream the stream to write to.
+     * @throws IOException if writing to {@code outputStream} failed.
+     */
+    static void write(final JsonValue jsonValue, final OutputStream outputStream) throws IOException {
+        final byte[] buffer = acquireBuffer();
+        try {
+            final Utf8JsonWriter writer = new Utf8JsonWriter(outputStream, buffer);
+            writer.writeValue(jsonValue);
+            writer.flush();
+        } finally {
+            BUFFERS.set(buffer);
+        }
+    }
+
+    private static byte[] acquireBuffer() {
+        @Nullable final byte[] result = BUFFERS.get();
+        if (null == result) {
+            return new byte[BUFFER_SIZE];
+        }
+        BUFFERS.set(null);
+        return result;
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string representation of the given value into the given byte buffer starting at
+     * its current position.
+     *
+     * @param jsonValue the value to be written.
+     * @param byteBuffer the buffer to write to.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} are not sufficient.
+     */
+    static void write(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        try {
+            write(jsonValue, new ByteBufferOutputStream(byteBuffer));
+        } catch (final IOException e) {
+            // ByteBufferOutputStream never throws IOExceptions
+            throw new IllegalStateException("Failed to write JSON value to ByteBuffer!", e);
+        }
+    }
+
+    private void writeValue(final JsonValue jsonValue) throws IOException {
+        if (jsonValue.isNull()) {
+            writeAscii("null");
+        } else if (jsonValue.isString()) {
+            writeJsonString(jsonValue.asString());
+        } else if (jsonValue.isObject()) {
+            writeObject(jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeArray(jsonValue.asArray());
+        } else if (jsonValue instanceof ImmutableJsonInt || jsonValue instanceof ImmutableJsonLong) {
+            writeLong(jsonValue.asLong());
+        } else {
+            // numbers and booleans have a short ASCII string representation
+            writeAscii(jsonValue.toString());
+        }
+    }
+
+    private void writeObject(final JsonObject jsonObject) throws IOException {
+        @Nullable final String knownStringRepresentation = jsonObject instanceof ImmutableJsonObject
+                ? ((ImmutableJsonObject) jsonObject).getKnownStringRepresentation()
+                : null;
+        if (null != knownStringRepresentation) {
+            writeRaw(knownStringRepresentation);
+        } else {
+            writeByte('{');
+            boolean isFirst = true;
+            for (final JsonField jsonField : jsonObject) {
+                if (!isFirst) {
+                    writeByte(',');
+                }
+                writeJsonString(jsonField.getKeyName());
+                writeByte(':');
+                writeValue(jsonField.getValue());
+                isFirst = false;
+            }
+            writeByte('}');
+        }
+    }
+
+    private void writeArray(final JsonArray jsonArray) throws IOException {
+        @Nullable final String knownStringRepresentation = jsonArray instanceof ImmutableJsonArray
+                ? ((ImmutableJsonArray) jsonArray).getKnownStringRepresentation()
+                : null;
+        if (null != knownStringRepresentation) {
+            writeRaw(knownStringRepresentation);
+        } else {
+            writeByte('[');
+            boolean isFirst = true;
+            for (final JsonValue jsonValue : jsonArray) {
+                if (!isFirst) {
+                    writeByte(',');
+                }
+                writeValue(jsonValue);
+                isFirst = false;
+            }
+            writeByte(']');
+        }
+    }
+
+    private void writeJsonString(final String javaString) throws IOException {
+        writeByte('"');
+        encode(javaString, true);
+        writeByte('"');
+    }
+
+    private void writeRaw(final String jsonString) throws IOException {
+        encode(jsonString, false);
+    }
+
+    private void writeAscii(final String asciiString) throws IOException {
+        final int length = asciiString.length();
+        for (int i = 0; i < length; i++) {
+            writeByte(asciiString.charAt(i));
+        }
+    }
+
+    private void writeLong(final long value) throws IOException {
+        if (Long.MIN_VALUE == value) {
+            // cannot be negated
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_LONG_LENGTH);
+        long remainder = value;
+        if (remainder < 0) {
+            buffer[position++] = '-';
+            remainder = -remainder;
+        }
+        final int start = position;
+        do {
+            buffer[position++] = (byte) ('0' + remainder % 10);
+            remainder /= 10;
+        } while (0 < remainder);
+
+        // the digits were written in reverse order
+        for (int left = start, right = position - 1; left < right; left++, right--) {
+            final byte digit = buffer[left];
+            buffer[left] = buffer[right];
+            buffer[right] = digit;
+        }
+    }
+
+    private void encode(final String s, final boolean escape) throws IOException {
+        final int length = s.length();
+        for (int i = 0; i < length; i++) {
+            ensureCapacity(MAX_BYTES_PER_CHAR);
+            final char c = s.charAt(i);
+            if (c < 0x80) {
+                @Nullable final String escapeSequence = escape ? JsonCharEscaper.getInstance().escape(c) : null;
+                if (null != escapeSequence) {
+                    writeAscii(escapeSequence);
+                } else {
+                    buffer[position++] = (byte) c;
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                final char next = i + 1 < length ? s.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+                    final int codePoint = Character.toCodePoint(c, next);
+                    buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                    i++;
+                } else {
+                    // same behaviour as String#getBytes(StandardCharsets.UTF_8)
+                    buffer[position++] = (byte) REPLACEMENT_FOR_UNPAIRED_SURROGATE;
+                }
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writeByte(final char asciiChar) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) asciiChar;
+    }
+
+    private void ensureCapacity(final int numberOfBytes) throws IOException {
+        if (position + numberOfBytes > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (0 < position) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void flush() throws IOException {
+        flushBuffer();
+        outputStream.flush();
+    }
+
+}
@@ -64,6 +64,7 @@ public final class CborFactoryTest {
         testValue = JsonFactory.newValue(testObjectString);
         testBytes = CborTestUtils.serializeWithJackson(testValue);
     }
+
     @Test
     public void readFromByteArrayWithoutOffset() {
         final JsonValue result = CborFactory.readFrom(testBytes);
@@ -108,4 +109,43 @@ public final class CborFactoryTest {
         allocate.flip();
         assertThat(BinaryToHexConverter.toHexString(allocate)).isEqualTo(CborTestUtils.serializeToHexString(testValue));
     }
+
+    @Test
+    public void unchangedReadValueIsWrittenWithoutReEncoding() throws IOException {
+        final JsonValue readValue = CborFactory.readFrom(testBytes);
+
+        assertThat(CborFactory.toByteArray(readValue)).isEqualTo(testBytes);
+    }
+
+    @Test
+    public void changedReadObjectIsWrittenWithChanges() throws IOException {
+        // parse the object of the parameters for every run as only objects can be changed
+        final JsonObject objectValue = JsonFactory.newObject(testValue_STRINGS().get(0));
+        final JsonValue readValue = CborFactory.readFrom(CborTestUtils.serializeWithJackson(objectValue));
+        assertThat(readValue.isObject()).isTrue();
+        final JsonObject changedObject = readValue.asObject().setValue(JsonPointer.of("Image/Width"), 1024);
+
+        final JsonValue result = CborFactory.readFrom(CborFactory.toByteArray(changedObject));
+
+        assertThat(result).isEqualTo(objectValue.setValue(JsonPointer.of("Image/Width"), 1024));
+    }
+
+    @Test
+    public void readFromByteBufferCopiesObjectsAndArrays() {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(testBytes.clone());
+        final JsonValue result = CborFactory.readFrom(byteBuffer);
+
+        // the buffer could be re-used by the caller
+        Arrays.fill(byteBuffer.array(), (byte) 0);
+
+        assertThat(result).isEqualTo(testValue);
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void invalidObjectIsReportedOnAccess() {
+        final JsonValue readValue = CborFactory.readFrom(new byte[]{(byte) 0xA2, 0x61});
+
+        readValue.asObject().getSize();
+    }
+
 }
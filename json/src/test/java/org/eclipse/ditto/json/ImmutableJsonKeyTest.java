@@ -71,4 +71,11 @@ public final class ImmutableJsonKeyTest {
         assertThat(jsonPointer).isEqualTo(expected);
     }
 
+    @Test
+    public void frequentlyUsedKeysAreShared() {
+        final JsonKey underTest = ImmutableJsonKey.of(new StringBuilder("properties"));
+
+        assertThat(ImmutableJsonKey.of("properties")).isSameAs(underTest);
+    }
+
 }
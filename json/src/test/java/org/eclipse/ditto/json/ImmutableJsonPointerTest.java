@@ -41,13 +41,17 @@ public final class ImmutableJsonPointerTest {
     public void assertImmutability() {
         assertInstancesOf(ImmutableJsonPointer.class,
                 areImmutable(),
-                provided(JsonKey.class).isAlsoImmutable(), assumingFields("jsonFields").areNotModifiedAndDoNotEscape());
+                provided(JsonKey.class).isAlsoImmutable(),
+                assumingFields("jsonKeys").areNotModifiedAndDoNotEscape(),
+                assumingFields("stringRepresentation").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableJsonPointer.class)
                 .suppress(Warning.NULL_FIELDS)
+                .withIgnoredFields("stringRepresentation")
+                .withCachedHashCode("hashCode", "calculateHashCode", ImmutableJsonPointer.of(KNOWN_KEY_NAME))
                 .verify();
     }
 
@@ -315,4 +319,13 @@ public final class ImmutableJsonPointerTest {
         assertThat(underTest.toString()).isEqualTo("/foo/~0dum/~0die/~0dum/baz");
     }
 
+    @Test
+    public void parsingFrequentlyUsedPointerReturnsSharedInstance() {
+        final JsonPointer first = ImmutableJsonPointer.ofParsed(new StringBuilder("/features/lamp/properties"));
+        final JsonPointer second = ImmutableJsonPointer.ofParsed("/features/lamp/properties");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRoot()).containsSame(JsonFactory.newKey("features"));
+    }
+
 }
@@ -48,6 +48,17 @@ public final class JsonFieldSelectorTrieTest {
         assertThat(getDescendantKeys(underTest, "c")).isEmpty();
     }
 
+    @Test
+    public void pointerEndIsMarkedEvenIfTrieHasChildren() {
+        final JsonFieldSelectorTrie underTest =
+                JsonFieldSelectorTrie.of(JsonFieldSelector.newInstance("a", "a/x", "b/y"));
+
+        assertThat(underTest.isPointerEnd()).isFalse();
+        assertThat(underTest.descend(JsonKey.of("a")).isPointerEnd()).isTrue();
+        assertThat(underTest.descend(JsonKey.of("b")).isPointerEnd()).isFalse();
+        assertThat(underTest.getChildOrNull(JsonKey.of("c"))).isNull();
+    }
+
     private static Set<JsonKey> keySetOf(final String... keyNames) {
         return Arrays.stream(keyNames).map(JsonKey::of).collect(Collectors.toSet());
     }
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonInterner}.
+ */
+public final class JsonInternerTest {
+
+    @Test
+    public void returnsCachedInstanceForEqualString() {
+        final JsonInterner<StringBuilder> underTest = JsonInterner.newInstance(16, 10, StringBuilder::new);
+
+        final StringBuilder first = underTest.intern("foo");
+
+        assertThat(underTest.intern(new String("foo".toCharArray()))).isSameAs(first);
+    }
+
+    @Test
+    public void doesNotCacheTooLongStrings() {
+        final JsonInterner<StringBuilder> underTest = JsonInterner.newInstance(16, 2, StringBuilder::new);
+
+        assertThat(underTest.intern("foo")).isNotSameAs(underTest.intern("foo"));
+    }
+
+    @Test
+    public void numberOfSlotsMustBePowerOfTwo() {
+        assertThatIllegalArgumentException().isThrownBy(() -> JsonInterner.newInstance(12, 10, StringBuilder::new));
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonMergePatchDiff}.
+ */
+public final class JsonMergePatchDiffTest {
+
+    private static final JsonObject ORIGINAL = JsonObject.of("{\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":{\"lat\":1.5,\"long\":2.5},\"tags\":[\"a\",\"b\"],\"serial\":42}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":false,\"color\":{\"r\":0,\"g\":0,\"b\":0}}}}}");
+
+    @Test
+    public void diffOfEqualObjectsIsEmpty() {
+        final JsonObject parsedAgain = JsonObject.of(ORIGINAL.toString());
+
+        assertThat(ORIGINAL.diff(parsedAgain)).isEmpty();
+        assertThat(ORIGINAL.diff(ORIGINAL)).isEmpty();
+    }
+
+    @Test
+    public void diffContainsOnlyChangedValues() {
+        final JsonObject target = ORIGINAL.setValue(JsonPointer.of("features/lamp/properties/on"), true)
+                .setValue(JsonPointer.of("attributes/location/lat"), 3.5);
+
+        final JsonObject patch = ORIGINAL.diff(target);
+
+        assertThat(patch).isEqualTo(JsonObject.of(
+                "{\"attributes\":{\"location\":{\"lat\":3.5}},\"features\":{\"lamp\":{\"properties\":{\"on\":true}}}}"));
+        assertThat(applyMergePatch(ORIGINAL, patch)).isEqualTo(target);
+    }
+
+    @Test
+    public void removedFieldsAreSetToNull() {
+        final JsonObject target = ORIGINAL.remove("attributes/serial").remove("features");
+
+        final JsonObject patch = ORIGINAL.diff(target);
+
+        assertThat(patch).isEqualTo(JsonObject.of("{\"attributes\":{\"serial\":null},\"features\":null}"));
+        assertThat(applyMergePatch(ORIGINAL, patch)).isEqualTo(target);
+    }
+
+    @Test
+    public void arraysAndValuesOfDifferentTypeAreReplaced() {
+        final JsonObject target = ORIGINAL.setValue(JsonPointer.of("attributes/tags"), JsonArray.of("[\"a\"]"))
+                .setValue(JsonPointer.of("attributes/location"), "unknown")
+                .setValue(JsonPointer.of("attributes/serial"), JsonObject.of("{\"value\":42}"));
+
+        final JsonObject patch = ORIGINAL.diff(target);
+
+        assertThat(patch).isEqualTo(JsonObject.of("{\"attributes\":{\"location\":\"unknown\",\"tags\":[\"a\"]," +
+                "\"serial\":{\"value\":42}}}"));
+        assertThat(applyMergePatch(ORIGINAL, patch)).isEqualTo(target);
+    }
+
+    @Test
+    public void diffToNullObjectIsNullObject() {
+        assertThat(ORIGINAL.diff(JsonFactory.nullObject()).isNull()).isTrue();
+        assertThat(JsonFactory.nullObject().diff(ORIGINAL)).isEqualTo(ORIGINAL);
+        assertThat(JsonFactory.nullObject().diff(JsonFactory.nullObject())).isEmpty();
+    }
+
+    @Test
+    public void appliedDiffsOfRandomModificationsResultInTarget() {
+        final Random random = new Random(4711);
+        final String[] pointers = {"thingId", "attributes/serial", "attributes/location/lat", "attributes/new",
+                "features/lamp/properties/color/r", "features/lamp/properties", "features/other/properties/x"};
+        JsonObject target = ORIGINAL;
+        for (int i = 0; i < 200; i++) {
+            final JsonPointer pointer = JsonPointer.of(pointers[random.nextInt(pointers.length)]);
+            final JsonObject original = target;
+            target = random.nextBoolean()
+                    ? target.setValue(pointer, random.nextInt(3))
+                    : target.remove(pointer);
+
+            assertThat(applyMergePatch(original, original.diff(target))).isEqualTo(target);
+        }
+    }
+
+    /**
+     * Applies a merge patch as defined by RFC 7396.
+     */
+    private static JsonObject applyMergePatch(final JsonObject target, final JsonObject patch) {
+        JsonObject result = target;
+        for (final JsonField patchField : patch) {
+            final JsonKey key = patchField.getKey();
+            final JsonValue patchValue = patchField.getValue();
+            if (patchValue.isNull()) {
+                result = result.remove(key);
+            } else if (patchValue.isObject()) {
+                final JsonObject targetValue = result.getValue(key)
+                        .filter(JsonValue::isObject)
+                        .map(JsonValue::asObject)
+                        .orElseGet(JsonObject::empty);
+                result = result.setValue(key, applyMergePatch(targetValue, patchValue.asObject()));
+            } else {
+                result = result.setValue(key, patchValue);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectFieldIndex}.
+ */
+public final class JsonObjectFieldIndexTest {
+
+    private static final String COMPACT_JSON_OBJECT_STRING = "{" +
+            "\"thingId\":\"org.eclipse.ditto:thing\"," +
+            "\"attributes\":{\"location\":{\"lat\":47.1,\"lon\":9.2},\"tags\":[\"a\",\"b\"]}," +
+            "\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"brightness\":-42}}}," +
+            "\"escaped\":\"\\\"quoted\\\"\\n\\u001F\"," +
+            "\"nothing\":null," +
+            "\"big\":1234567890123" +
+            "}";
+
+    @Test
+    public void indexCompactJsonObjectString() {
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.tryToIndex(COMPACT_JSON_OBJECT_STRING);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getSize()).isEqualTo(6);
+        assertThat(underTest.getKeys()).isEqualTo(Arrays.asList(JsonKey.of("thingId"), JsonKey.of("attributes"),
+                JsonKey.of("features"), JsonKey.of("escaped"), JsonKey.of("nothing"), JsonKey.of("big")));
+        assertThat(underTest.containsKey("features")).isTrue();
+        assertThat(underTest.containsKey("policyId")).isFalse();
+    }
+
+    @Test
+    public void materializedFieldsEqualEagerlyParsedFields() {
+        final JsonObject eagerlyParsed = parseEagerly(COMPACT_JSON_OBJECT_STRING);
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.tryToIndex(COMPACT_JSON_OBJECT_STRING);
+
+        assertThat(underTest).isNotNull();
+        for (final JsonField eagerField : eagerlyParsed) {
+            assertThat(underTest.getOrNull(eagerField.getKeyName())).isEqualTo(eagerField);
+        }
+        assertThat(ImmutableJsonObject.of(underTest.toFieldMap())).isEqualTo(eagerlyParsed);
+    }
+
+    @Test
+    public void lazyJsonObjectBehavesLikeEagerlyParsedJsonObject() {
+        final JsonObject eagerlyParsed = parseEagerly(COMPACT_JSON_OBJECT_STRING);
+        final JsonObject underTest = JsonFactory.newObject(COMPACT_JSON_OBJECT_STRING);
+
+        assertThat(underTest).isEqualTo(eagerlyParsed);
+        assertThat(eagerlyParsed).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(eagerlyParsed.hashCode());
+        assertThat(underTest.toString()).isEqualTo(eagerlyParsed.toString());
+        assertThat(underTest.getValue("features/lamp/properties/brightness")).contains(JsonValue.of(-42));
+        assertThat(underTest.setValue("attributes/location/lat", 48.0))
+                .isEqualTo(eagerlyParsed.setValue("attributes/location/lat", 48.0));
+        assertThat(underTest.remove("features/lamp")).isEqualTo(eagerlyParsed.remove("features/lamp"));
+    }
+
+    @Test
+    public void duplicateKeysBehaveLikeEagerParsing() {
+        final String jsonObjectString = "{\"a\":1,\"b\":2,\"a\":3}";
+        final JsonObjectFieldIndex underTest = JsonObjectFieldIndex.tryToIndex(jsonObjectString);
+
+        assertThat(underTest).isNotNull();
+        assertThat(ImmutableJsonObject.of(underTest.toFieldMap())).isEqualTo(parseEagerly(jsonObjectString));
+    }
+
+    @Test
+    public void doNotIndexNonCompactOrInvalidJsonStrings() {
+        assertThat(JsonObjectFieldIndex.tryToIndex("")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("[1,2]")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\": 1}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex(" {\"a\":1}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":\"\\/\"}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":\"\\u00e9\"}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":123456789012345678901}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":{\"\":1}}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":01}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":[1,]}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":1}x")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":tru}")).isNull();
+        assertThat(JsonObjectFieldIndex.tryToIndex("{\"a\":\"b}")).isNull();
+    }
+
+    private static JsonObject parseEagerly(final String jsonObjectString) {
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
+        return jsonHandler.getValue().asObject();
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonStringWriter}.
+ */
+public final class JsonStringWriterTest {
+
+    private static final String JSON_OBJECT_STRING = "{\"str\\\"ing\":\"line\\nbreak\\u0001\",\"int\":-42," +
+            "\"long\":-9223372036854775808,\"double\":1.0E-7,\"bool\":true,\"null\":null," +
+            "\"array\":[1,\"a\",[],{}],\"numbers\":[0.5,-0.0],\"nested\":{\"unicode\":\"ä€😀\"}}";
+
+    @Test
+    public void writesParsedObjectAsOriginalString() {
+        final JsonObject parsed = JsonFactory.newObject(JSON_OBJECT_STRING);
+
+        final String actual = JsonStringWriter.fieldsToString(parsed);
+
+        assertThat(actual).isEqualTo(JSON_OBJECT_STRING);
+    }
+
+    @Test
+    public void writesBuiltObjectWithoutKnownStringRepresentations() {
+        final JsonObject built = JsonFactory.newObjectBuilder()
+                .set("str\"ing", "line\nbreak\u0001")
+                .set("int", -42)
+                .set("long", Long.MIN_VALUE)
+                .set("double", 1.0E-7)
+                .set("bool", true)
+                .set("null", JsonFactory.nullLiteral())
+                .set("array", JsonFactory.newArrayBuilder()
+                        .add(1)
+                        .add("a")
+                        .add(JsonFactory.newArray())
+                        .add(JsonFactory.newObject())
+                        .build())
+                .set("numbers", JsonFactory.newArrayBuilder().add(0.5, -0.0).build())
+                .set("nested", JsonFactory.newObjectBuilder().set("unicode", "ä€😀").build())
+                .build();
+
+        assertThat(JsonStringWriter.fieldsToString(built)).isEqualTo(JSON_OBJECT_STRING);
+        assertThat(built.toString()).isEqualTo(JSON_OBJECT_STRING);
+    }
+
+    @Test
+    public void writesValuesOfArray() {
+        final String actual = JsonStringWriter.valuesToString(
+                Arrays.asList(JsonValue.of("x"), JsonValue.of(1L), JsonFactory.nullLiteral()));
+
+        assertThat(actual).isEqualTo("[\"x\",1,null]");
+    }
+
+    @Test
+    public void serializationWithinSerializationOfSameThreadUsesOtherBuffer() {
+        final JsonValue valueSerializingOnToString = new CustomJsonValue() {
+            @Override
+            public String toString() {
+                return JsonStringWriter.valuesToString(Collections.singletonList(JsonValue.of("inner")));
+            }
+        };
+
+        final String actual = JsonStringWriter.fieldsToString(
+                Arrays.asList(JsonField.newInstance("a", JsonValue.of(1)),
+                        JsonField.newInstance("b", valueSerializingOnToString),
+                        JsonField.newInstance("c", JsonValue.of(2))));
+
+        assertThat(actual).isEqualTo("{\"a\":1,\"b\":[\"inner\"],\"c\":2}");
+        assertThat(JsonStringWriter.valuesToString(Collections.emptyList())).isEqualTo("[]");
+    }
+
+    /**
+     * A custom JSON value which is neither string, object, array nor one of the known number types.
+     */
+    private abstract static class CustomJsonValue extends AbstractJsonValue {
+
+        @Override
+        public boolean isBoolean() {
+            return true;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+        @Override
+        public void writeValue(final SerializationContext serializationContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getUpperBoundForStringSize() {
+            return Long.MAX_VALUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void keepsInsertionOrderLikeLinkedHashMap() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with("a", field("a", 1))
+                .with("b", field("b", 2))
+                .with("c", field("c", 3))
+                .with("a", field("a", 4))
+                .without("b")
+                .with("b", field("b", 5));
+
+        assertThat(new ArrayList<>(underTest.keySet())).containsExactly("a", "c", "b");
+        assertThat(underTest.get("a")).isEqualTo(field("a", 4));
+    }
+
+    @Test
+    public void previousVersionsAreNotAffectedByChanges() {
+        final PersistentFieldMap original = PersistentFieldMap.empty().with("a", field("a", 1));
+
+        final PersistentFieldMap changed = original.with("a", field("a", 2)).with("b", field("b", 3));
+
+        assertThat(original).hasSize(1).containsEntry("a", field("a", 1));
+        assertThat(changed).hasSize(2).containsEntry("a", field("a", 2));
+        assertThat(original.without("b")).isSameAs(original);
+    }
+
+    @Test
+    public void behavesLikeLinkedHashMapForRandomChanges() {
+        final Random random = new Random(4711);
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+        for (int i = 0; i < 10_000; i++) {
+            // "Aa" and "BB" have the same hash code
+            final String key = 0 == random.nextInt(10)
+                    ? (random.nextBoolean() ? "Aa" : "BB")
+                    : "k" + random.nextInt(500);
+            if (0 == random.nextInt(3)) {
+                expected.remove(key);
+                underTest = underTest.without(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.with(key, field);
+            }
+        }
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(new ArrayList<>(underTest.keySet())).isEqualTo(new ArrayList<>(expected.keySet()));
+    }
+
+    @Test
+    public void setValueOnJsonObjectDoesNotChangeOriginal() {
+        final JsonObject jsonObject = JsonFactory.newObject("{\"a\":{\"b\":1,\"c\":2},\"d\":{\"e\":3}}");
+
+        final JsonObject changed = jsonObject.setValue(JsonPointer.of("a/b"), JsonValue.of(42));
+
+        assertThat(changed.toString()).isEqualTo("{\"a\":{\"b\":42,\"c\":2},\"d\":{\"e\":3}}");
+        assertThat(jsonObject.toString()).isEqualTo("{\"a\":{\"b\":1,\"c\":2},\"d\":{\"e\":3}}");
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+}
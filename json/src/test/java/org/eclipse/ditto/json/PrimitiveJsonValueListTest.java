@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrimitiveJsonValueList}.
+ */
+public final class PrimitiveJsonValueListTest {
+
+    @Test
+    public void homogeneousNumbersAreStoredAsPrimitiveArray() {
+        assertThat(PrimitiveJsonValueList.copyOf(values(JsonValue.of(1), JsonValue.of(-2))))
+                .isInstanceOf(PrimitiveJsonValueList.class);
+        assertThat(PrimitiveJsonValueList.copyOf(values(JsonValue.of(1L), JsonValue.of(Long.MAX_VALUE))))
+                .isInstanceOf(PrimitiveJsonValueList.class);
+        assertThat(PrimitiveJsonValueList.copyOf(values(JsonValue.of(1.5), JsonValue.of(-0.0))))
+                .isInstanceOf(PrimitiveJsonValueList.class);
+    }
+
+    @Test
+    public void mixedValuesAreNotStoredAsPrimitiveArray() {
+        assertThat(PrimitiveJsonValueList.copyOf(values(JsonValue.of(1), JsonValue.of(1L))))
+                .isNotInstanceOf(PrimitiveJsonValueList.class);
+        assertThat(PrimitiveJsonValueList.copyOf(values(JsonValue.of(1), JsonValue.of("1"))))
+                .isNotInstanceOf(PrimitiveJsonValueList.class);
+    }
+
+    @Test
+    public void behavesLikeListOfBoxedValues() {
+        final List<List<JsonValue>> boxedLists = Arrays.asList(
+                values(JsonValue.of(3), JsonValue.of(Integer.MIN_VALUE), JsonValue.of(0)),
+                values(JsonValue.of(3L), JsonValue.of(Long.MIN_VALUE), JsonValue.of(-7L)),
+                values(JsonValue.of(3.0), JsonValue.of(-0.0), JsonValue.of(0.1), JsonValue.of(1e300),
+                        JsonValue.of(Double.NaN)));
+
+        for (final List<JsonValue> boxedList : boxedLists) {
+            final List<JsonValue> underTest = PrimitiveJsonValueList.copyOf(boxedList);
+
+            assertThat(underTest).isInstanceOf(PrimitiveJsonValueList.class);
+            assertThat(underTest).isEqualTo(boxedList);
+            assertThat(boxedList).isEqualTo(underTest);
+            assertThat(underTest.hashCode()).isEqualTo(boxedList.hashCode());
+            assertThat(underTest.toString()).isEqualTo(boxedList.toString());
+            for (final JsonValue value : boxedList) {
+                assertThat(underTest.indexOf(value)).isEqualTo(boxedList.indexOf(value));
+            }
+        }
+    }
+
+    @Test
+    public void containsNumbersOfOtherTypesWithEqualValue() {
+        final List<JsonValue> underTest = PrimitiveJsonValueList.copyOf(values(JsonValue.of(1), JsonValue.of(2)));
+
+        assertThat(underTest.contains(JsonValue.of(2L))).isTrue();
+        assertThat(underTest.contains(JsonValue.of(2.0))).isTrue();
+        assertThat(underTest.contains(JsonValue.of(2.5))).isFalse();
+        assertThat(underTest.contains(JsonValue.of("2"))).isFalse();
+    }
+
+    @Test
+    public void isSerializedLikeListOfBoxedValues() throws IOException {
+        final List<String> jsonArrayStrings = Arrays.asList("[1,-2,2147483647]", "[4294967296,-1]",
+                "[0.5,-0.0,1.0E-7,3.4028234663852886E38]");
+
+        for (final String jsonArrayString : jsonArrayStrings) {
+            final JsonArray parsed = JsonFactory.readFrom(jsonArrayString).asArray();
+            final JsonArray built = JsonFactory.newArrayBuilder(parsed).build();
+
+            assertThat(built).isEqualTo(parsed);
+            assertThat(built.toString()).isEqualTo(jsonArrayString);
+            assertThat(CborFactory.toByteArray(built)).isEqualTo(toCborElementByElement(parsed));
+            assertThat(CborFactory.readFrom(CborFactory.toByteArray(built))).isEqualTo(parsed);
+        }
+    }
+
+    private static byte[] toCborElementByElement(final JsonArray jsonArray) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final SerializationContext serializationContext = new SerializationContext(outputStream)) {
+            serializationContext.getJacksonGenerator().writeStartArray(jsonArray.getSize());
+            for (final JsonValue jsonValue : jsonArray) {
+                jsonValue.writeValue(serializationContext);
+            }
+            serializationContext.getJacksonGenerator().writeEndArray();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static List<JsonValue> values(final JsonValue... values) {
+        return Arrays.asList(values);
+    }
+
+}
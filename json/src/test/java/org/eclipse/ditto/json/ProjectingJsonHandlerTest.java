@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ProjectingJsonHandler}.
+ * This class is indirectly tested which reflects the real use case.
+ */
+public final class ProjectingJsonHandlerTest {
+
+    // whitespace prevents indexing thus the handler is used for parsing
+    private static final String JSON_OBJECT_STRING =
+            "{ \"a\": {\"x\": 1, \"y\": [1, {\"q\": 2}], \"z\": {\"w\": null}},"
+            + " \"b\": true, \"c\": [ {\"d\": 1} ], \"e\": \"s\", \"f\": {} }";
+
+    @Test
+    public void doesNotCreateValuesOfUnselectedFields() {
+        final ProjectingJsonHandler underTest =
+                ProjectingJsonHandler.newInstance(JsonFieldSelector.newInstance("a/x", "b", "c/d"));
+
+        JsonValueParser.fromString(underTest).accept(JSON_OBJECT_STRING);
+
+        assertThat(underTest.getValue()).isEqualTo(JsonObject.of("{\"a\":{\"x\":1},\"b\":true}"));
+    }
+
+    @Test
+    public void keepsWholeValueIfPointerEndsAtParentOfOtherPointer() {
+        final ProjectingJsonHandler underTest =
+                ProjectingJsonHandler.newInstance(JsonFieldSelector.newInstance("a/z", "a/z/w", "f"));
+
+        JsonValueParser.fromString(underTest).accept(JSON_OBJECT_STRING);
+
+        assertThat(underTest.getValue()).isEqualTo(JsonObject.of("{\"a\":{\"z\":{\"w\":null}},\"f\":{}}"));
+    }
+
+    @Test
+    public void returnsNullForJsonArray() {
+        final ProjectingJsonHandler underTest = ProjectingJsonHandler.newInstance(JsonFieldSelector.newInstance("a"));
+
+        JsonValueParser.fromString(underTest).accept("[ {\"a\": 1} ]");
+
+        assertThat(underTest.getValue()).isNull();
+    }
+
+    @Test
+    public void projectedObjectEqualsSelectionOfCompletelyParsedObject() {
+        final String[] selectors = {"a", "a/x", "a,a/x", "a/y", "a/z/w", "b,e", "c", "c/d", "a/x/deep", "f/g", "nope"};
+        final JsonParseOptions parseOptions = JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
+
+        for (final String selector : selectors) {
+            final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(selector, parseOptions);
+            for (final String jsonString : new String[]{JSON_OBJECT_STRING, JSON_OBJECT_STRING.replace(" ", "")}) {
+                final JsonObject expected = JsonFactory.newObject(jsonString).get(fieldSelector);
+
+                final JsonObject actual = JsonFactory.newObject(jsonString, fieldSelector);
+
+                assertThat(actual).as(selector).isEqualTo(expected);
+                assertThat(actual.toString()).as(selector).isEqualTo(expected.toString());
+            }
+        }
+    }
+
+    @Test
+    public void projectingInvalidJsonObjectStringFailsLikeCompleteParsing() {
+        final JsonFieldSelector fieldSelector = JsonFieldSelector.newInstance("a");
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObject("{ \"a\": ", fieldSelector));
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> JsonFactory.newObject("[ 1 ]", fieldSelector));
+    }
+
+}
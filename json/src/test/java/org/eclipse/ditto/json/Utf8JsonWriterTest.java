@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8JsonWriter}.
+ */
+public final class Utf8JsonWriterTest {
+
+    private static final JsonObject JSON_OBJECT = JsonObject.newBuilder()
+            .set("escaped", "\"quoted\"\n\\\u0001")
+            .set("nonAscii", "ä€😀")
+            .set("array", JsonArray.of(1, 2.5, true, JsonValue.nullLiteral()))
+            .set("parsed", JsonFactory.newObject("{\"a\":{\"b\":[1,2]}}"))
+            .set("nullObject", JsonFactory.nullObject())
+            .set("long", Long.MAX_VALUE)
+            .build();
+
+    @Test
+    public void writtenBytesEqualUtf8EncodedStringRepresentation() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        JSON_OBJECT.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(JSON_OBJECT.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void unpairedSurrogatesAreWrittenAsQuestionMarks() throws IOException {
+        // lone high surrogate, lone low surrogate and a low surrogate followed by a high surrogate
+        final JsonValue jsonString = JsonValue.of("a\ud83db\ude00c\ude00\ud83d");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        jsonString.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray())
+                .isEqualTo("\"a?b?c??\"".getBytes(StandardCharsets.UTF_8))
+                .isEqualTo(jsonString.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void unpairedSurrogatesAreWrittenAsQuestionMarksToByteBuffer() {
+        final JsonValue jsonString = JsonValue.of("\ud83d\ud83d\ude00");
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(16);
+
+        jsonString.writeTo(byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(StandardCharsets.UTF_8.decode(byteBuffer).toString()).isEqualTo("\"?\ud83d\ude00\"");
+    }
+
+    @Test
+    public void writeToByteBufferAndReadBack() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+
+        JSON_OBJECT.writeTo(byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(JsonFactory.readFrom(byteBuffer)).isEqualTo(JSON_OBJECT);
+        assertThat(byteBuffer.position()).isZero();
+    }
+
+    @Test
+    public void writeToDirectByteBufferAndReadBack() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(1024);
+
+        JSON_OBJECT.writeTo(byteBuffer);
+        byteBuffer.flip();
+
+        assertThat(JsonFactory.readFrom(byteBuffer)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferThrowsBufferOverflowException() {
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> JSON_OBJECT.writeTo(ByteBuffer.allocate(10)));
+    }
+
+    @Test
+    public void readFromEmptyBytesThrowsJsonParseException() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> JsonFactory.readFrom(new byte[0]));
+    }
+
+}
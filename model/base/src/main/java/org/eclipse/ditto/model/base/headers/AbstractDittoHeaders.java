@@ -22,9 +22,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -50,6 +52,11 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 
 /**
  * Abstract immutable implementation of {@link DittoHeaders} which is heavily based on {@link AbstractMap}.
+ * <p>
+ * Header values which have to be parsed from JSON, like the authorization context or the acknowledgement requests,
+ * are parsed at most once per instance and are passed on to headers built from this instance as long as their header
+ * values stay unchanged.
+ * </p>
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
@@ -57,7 +64,13 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     private static final String ISSUER_DIVIDER = ":";
 
-    private final Map<String, String> headers;
+    private final CompactHeaders headers;
+
+    // parsed header values, lazily initialized; racy but safe as the values are immutable
+    @Nullable private AuthorizationContext authorizationContext;
+    @Nullable private Set<AuthorizationSubject> readGrantedSubjects;
+    @Nullable private Set<AuthorizationSubject> readRevokedSubjects;
+    @Nullable private Set<AcknowledgementRequest> acknowledgementRequests;
 
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
@@ -66,9 +79,67 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
      * @throws NullPointerException if {@code headers} is {@code null}.
      */
     protected AbstractDittoHeaders(final Map<String, String> headers) {
+        this(headers, null);
+    }
+
+    /**
+     * Constructs a new {@code AbstractDittoHeaders} object which takes over the already parsed header values of
+     * {@code origin} for all headers whose values did not change.
+     *
+     * @param headers the key-value-pairs of the result.
+     * @param origin the headers which {@code headers} were derived from or {@code null}.
+     * @throws NullPointerException if {@code headers} is {@code null}.
+     * @since 1.2.0
+     */
+    protected AbstractDittoHeaders(final Map<String, String> headers, @Nullable final DittoHeaders origin) {
         checkNotNull(headers, "headers map");
-        final Map<String, String> headersWithOnlyPrefixedSubjects = keepAuthContextSubjectsWithIssuer(headers);
-        this.headers = Collections.unmodifiableMap(new HashMap<>(headersWithOnlyPrefixedSubjects));
+        @Nullable final AbstractDittoHeaders parsedOrigin = getParsedOrigin(headers, origin);
+        if (null != parsedOrigin && isUnchanged(headers, parsedOrigin, DittoHeaderDefinition.AUTHORIZATION_CONTEXT)) {
+            // the authorization context of the origin already consists only of subjects with issuer
+            this.headers = toCompactHeaders(headers);
+            authorizationContext = parsedOrigin.authorizationContext;
+        } else {
+            final Map<String, String> headersWithOnlyPrefixedSubjects = keepAuthContextSubjectsWithIssuer(headers);
+            this.headers = toCompactHeaders(headersWithOnlyPrefixedSubjects);
+        }
+        if (null != parsedOrigin) {
+            if (isUnchanged(headers, parsedOrigin, DittoHeaderDefinition.READ_SUBJECTS)) {
+                readGrantedSubjects = parsedOrigin.readGrantedSubjects;
+            }
+            if (isUnchanged(headers, parsedOrigin, DittoHeaderDefinition.READ_REVOKED_SUBJECTS)) {
+                readRevokedSubjects = parsedOrigin.readRevokedSubjects;
+            }
+            if (isUnchanged(headers, parsedOrigin, DittoHeaderDefinition.REQUESTED_ACKS)) {
+                acknowledgementRequests = parsedOrigin.acknowledgementRequests;
+            }
+        }
+    }
+
+    private static CompactHeaders toCompactHeaders(final Map<String, String> headers) {
+        if (headers instanceof AbstractDittoHeaders) {
+            // immutable, thus it can be shared
+            return ((AbstractDittoHeaders) headers).headers;
+        }
+        return CompactHeaders.of(headers);
+    }
+
+    @Nullable
+    private static AbstractDittoHeaders getParsedOrigin(final Map<String, String> headers,
+            @Nullable final DittoHeaders origin) {
+
+        if (origin instanceof AbstractDittoHeaders) {
+            return (AbstractDittoHeaders) origin;
+        } else if (headers instanceof AbstractDittoHeaders) {
+            return (AbstractDittoHeaders) headers;
+        } else {
+            return null;
+        }
+    }
+
+    private static boolean isUnchanged(final Map<String, String> headers, final AbstractDittoHeaders origin,
+            final HeaderDefinition definition) {
+
+        return Objects.equals(headers.get(definition.getKey()), origin.headers.get(definition.getKey()));
     }
 
     private static Map<String, String> keepAuthContextSubjectsWithIssuer(final Map<String, String> headers) {
@@ -137,11 +208,16 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public AuthorizationContext getAuthorizationContext() {
-        /**
-         * TODO: remove this duplication when removing {@link JsonSchemaVersion#V_1}.
-         */
-        return duplicateSubjectsByStrippingIssuerPrefix(AuthorizationModelFactory.newAuthContext(
-                getJsonObject(headers, DittoHeaderDefinition.AUTHORIZATION_CONTEXT)));
+        AuthorizationContext result = authorizationContext;
+        if (null == result) {
+            /**
+             * TODO: remove this duplication when removing {@link JsonSchemaVersion#V_1}.
+             */
+            result = duplicateSubjectsByStrippingIssuerPrefix(AuthorizationModelFactory.newAuthContext(
+                    getJsonObject(headers, DittoHeaderDefinition.AUTHORIZATION_CONTEXT)));
+            authorizationContext = result;
+        }
+        return result;
     }
 
     private static AuthorizationContext duplicateSubjectsByStrippingIssuerPrefix(
@@ -187,20 +263,30 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Set<AuthorizationSubject> getReadGrantedSubjects() {
-        return getAuthorizationSubjectSet(DittoHeaderDefinition.READ_SUBJECTS);
+        Set<AuthorizationSubject> result = readGrantedSubjects;
+        if (null == result) {
+            result = getAuthorizationSubjectSet(DittoHeaderDefinition.READ_SUBJECTS);
+            readGrantedSubjects = result;
+        }
+        return new HashSet<>(result);
     }
 
     private Set<AuthorizationSubject> getAuthorizationSubjectSet(final HeaderDefinition definition) {
         final JsonArray jsonValueArray = getJsonArrayForDefinition(definition);
-        return jsonValueArray.stream()
+        return Collections.unmodifiableSet(jsonValueArray.stream()
                 .map(JsonValue::asString)
                 .map(AuthorizationSubject::newInstance)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toSet()));
     }
 
     @Override
     public Set<AuthorizationSubject> getReadRevokedSubjects() {
-        return getAuthorizationSubjectSet(DittoHeaderDefinition.READ_REVOKED_SUBJECTS);
+        Set<AuthorizationSubject> result = readRevokedSubjects;
+        if (null == result) {
+            result = getAuthorizationSubjectSet(DittoHeaderDefinition.READ_REVOKED_SUBJECTS);
+            readRevokedSubjects = result;
+        }
+        return new HashSet<>(result);
     }
 
     @Override
@@ -303,11 +389,17 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(AcknowledgementRequest::parseAcknowledgementRequest)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<AcknowledgementRequest> result = acknowledgementRequests;
+        if (null == result) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
+            result = Collections.unmodifiableSet(jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .map(AcknowledgementRequest::parseAcknowledgementRequest)
+                    .collect(Collectors.<AcknowledgementRequest, Set<AcknowledgementRequest>>toCollection(
+                            LinkedHashSet::new)));
+            acknowledgementRequests = result;
+        }
+        return new LinkedHashSet<>(result);
     }
 
     @Override
@@ -368,6 +460,27 @@ public abstract class AbstractDittoHeaders extends AbstractMap<String, String> i
         return headers.entrySet();
     }
 
+    @Override
+    @Nullable
+    public String get(final Object key) {
+        return headers.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return headers.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return headers.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
     @Override
     public boolean isEntriesSizeGreaterThan(final long size) {
         checkArgument(size, s -> 0 <= size,
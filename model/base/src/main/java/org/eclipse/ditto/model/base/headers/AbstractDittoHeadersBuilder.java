@@ -65,8 +65,12 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, String> headers;
     private final Map<String, HeaderDefinition> definitions;
+    @Nullable private final DittoHeaders origin;
+
+    // the immutable initial headers are copied only before they are modified for the first time
+    private Map<String, String> headers;
+    private boolean headersShared;
 
     /**
      * Constructs a new {@code AbstractDittoHeadersBuilder} object.
@@ -87,7 +91,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
         headers = new HashMap<>(initialHeaders);
+        headersShared = false;
         this.definitions = getHeaderDefinitionsAsMap(definitions);
+        origin = null;
     }
 
     private static Map<String, HeaderDefinition> getHeaderDefinitionsAsMap(
@@ -122,8 +128,10 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(initialHeaders, "initialHeaders");
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
-        headers = new HashMap<>(initialHeaders);
+        headers = initialHeaders;
+        headersShared = true;
         this.definitions = getHeaderDefinitionsAsMap(definitions);
+        origin = initialHeaders;
     }
 
     /**
@@ -172,7 +180,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.put(definition.getKey(), value.toString());
+            getModifiableHeaders().put(definition.getKey(), value.toString());
         } else {
             removeHeader(definition.getKey());
         }
@@ -432,7 +440,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateKey(key);
         checkNotNull(value, "value");
         validateValueType(key, value);
-        headers.put(key.toString(), value.toString());
+        getModifiableHeaders().put(key.toString(), value.toString());
         return myself;
     }
 
@@ -451,29 +459,43 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S putHeaders(final Map<String, String> headers) {
         checkNotNull(headers, "headers");
         validateValueTypes(headers, definitions.values());
-        this.headers.putAll(headers);
+        getModifiableHeaders().putAll(headers);
         return myself;
     }
 
     @Override
     public S removeHeader(final CharSequence key) {
         validateKey(key);
-        headers.remove(key.toString());
+        removeKey(key.toString());
         return myself;
     }
 
+    private void removeKey(final String key) {
+        if (headers.containsKey(key)) {
+            getModifiableHeaders().remove(key);
+        }
+    }
+
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        removeKey(DittoHeaderDefinition.IF_MATCH.getKey());
+        removeKey(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
         return myself;
     }
 
+    private Map<String, String> getModifiableHeaders() {
+        if (headersShared) {
+            headers = new HashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
     @Override
     public R build() {
         // do it here
         calculateIsResponseRequired();
-        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.of(headers);
+        final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.of(headers, origin);
         return doBuild(dittoHeaders);
     }
 
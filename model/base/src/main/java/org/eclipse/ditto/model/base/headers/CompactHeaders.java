@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable map of header key-value-pairs which stores the values of the headers defined by
+ * {@link DittoHeaderDefinition} in an array indexed by the ordinal of the definition. Only the values of all other
+ * headers are stored in an additional map.
+ * <p>
+ * Known headers are iterated first in the order of their definition, followed by all other headers.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+final class CompactHeaders extends AbstractMap<String, String> {
+
+    private static final DittoHeaderDefinition[] DEFINITIONS = DittoHeaderDefinition.values();
+
+    private final String[] knownHeaderValues;
+    private final Map<String, String> otherHeaders;
+    private final int size;
+
+    private CompactHeaders(final String[] knownHeaderValues, final Map<String, String> otherHeaders, final int size) {
+        this.knownHeaderValues = knownHeaderValues;
+        this.otherHeaders = otherHeaders;
+        this.size = size;
+    }
+
+    /**
+     * Returns an instance of {@code CompactHeaders} containing the key-value-pairs of the specified map. Key-value-pairs
+     * of known headers with a {@code null} value are omitted.
+     *
+     * @param headers the key-value-pairs of the result.
+     * @return the instance; {@code headers} itself if it already is a {@code CompactHeaders}.
+     * @throws NullPointerException if {@code headers} is {@code null}.
+     */
+    static CompactHeaders of(final Map<String, String> headers) {
+        checkNotNull(headers, "headers");
+        if (headers instanceof CompactHeaders) {
+            return (CompactHeaders) headers;
+        }
+        final String[] knownHeaderValues = new String[DEFINITIONS.length];
+        @Nullable Map<String, String> otherHeaders = null;
+        int size = 0;
+        for (final Entry<String, String> header : headers.entrySet()) {
+            @Nullable final DittoHeaderDefinition definition = DittoHeaderDefinition.getByKey(header.getKey());
+            if (null == definition) {
+                if (null == otherHeaders) {
+                    otherHeaders = new HashMap<>();
+                }
+                otherHeaders.put(header.getKey(), header.getValue());
+                size++;
+            } else if (null != header.getValue()) {
+                knownHeaderValues[definition.ordinal()] = header.getValue();
+                size++;
+            }
+        }
+        return new CompactHeaders(knownHeaderValues,
+                null == otherHeaders ? Collections.emptyMap() : Collections.unmodifiableMap(otherHeaders), size);
+    }
+
+    @Override
+    @Nullable
+    public String get(final Object key) {
+        @Nullable final DittoHeaderDefinition definition = DittoHeaderDefinition.getByKey(key);
+        if (null != definition) {
+            return knownHeaderValues[definition.ordinal()];
+        }
+        return otherHeaders.get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        @Nullable final DittoHeaderDefinition definition = DittoHeaderDefinition.getByKey(key);
+        if (null != definition) {
+            return null != knownHeaderValues[definition.ordinal()];
+        }
+        return otherHeaders.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+    @Nonnull
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return Collections.unmodifiableSet(new EntrySet());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof CompactHeaders) {
+            final CompactHeaders that = (CompactHeaders) o;
+            return size == that.size &&
+                    Arrays.equals(knownHeaderValues, that.knownHeaderValues) &&
+                    otherHeaders.equals(that.otherHeaders);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // same as the sum of the hash codes of all entries as required by Map#hashCode()
+        int result = otherHeaders.hashCode();
+        for (int i = 0; i < knownHeaderValues.length; i++) {
+            if (null != knownHeaderValues[i]) {
+                result += DEFINITIONS[i].getKey().hashCode() ^ knownHeaderValues[i].hashCode();
+            }
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+        @Nonnull
+        @Override
+        public Iterator<Entry<String, String>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, String>> {
+
+        private final Iterator<Entry<String, String>> otherHeadersIterator = otherHeaders.entrySet().iterator();
+        private int nextKnownIndex = findNextKnownIndex(0);
+
+        private int findNextKnownIndex(final int fromIndex) {
+            int result = fromIndex;
+            while (result < knownHeaderValues.length && null == knownHeaderValues[result]) {
+                result++;
+            }
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextKnownIndex < knownHeaderValues.length || otherHeadersIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (nextKnownIndex < knownHeaderValues.length) {
+                final Entry<String, String> result = new SimpleImmutableEntry<>(DEFINITIONS[nextKnownIndex].getKey(),
+                        knownHeaderValues[nextKnownIndex]);
+                nextKnownIndex = findNextKnownIndex(nextKnownIndex + 1);
+                return result;
+            }
+            if (otherHeadersIterator.hasNext()) {
+                return otherHeadersIterator.next();
+            }
+            throw new NoSuchElementException();
+        }
+
+    }
+
+}
@@ -311,6 +311,17 @@ public enum DittoHeaderDefinition implements HeaderDefinition {
         return Optional.ofNullable(VALUES_BY_KEY.get(key));
     }
 
+    /**
+     * Finds the {@code DittoHeaderDefinition} with the specified key without wrapping it in an Optional.
+     *
+     * @param key the key to look up.
+     * @return the definition or {@code null}.
+     */
+    @Nullable
+    static DittoHeaderDefinition getByKey(@Nullable final Object key) {
+        return VALUES_BY_KEY.get(key);
+    }
+
     @Override
     public String getKey() {
         return key;
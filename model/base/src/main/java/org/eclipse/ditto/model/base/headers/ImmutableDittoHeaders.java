@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.base.headers;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 /**
@@ -23,8 +24,8 @@ import javax.annotation.concurrent.Immutable;
 @Immutable
 final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoHeaders {
 
-    private ImmutableDittoHeaders(final Map<String, String> headers) {
-        super(headers);
+    private ImmutableDittoHeaders(final Map<String, String> headers, @Nullable final DittoHeaders origin) {
+        super(headers, origin);
     }
 
     /**
@@ -35,7 +36,20 @@ final class ImmutableDittoHeaders extends AbstractDittoHeaders implements DittoH
      * @throws NullPointerException if {@code headers} is {@code null}.
      */
     public static ImmutableDittoHeaders of(final Map<String, String> headers) {
-        return new ImmutableDittoHeaders(headers);
+        return of(headers, null);
+    }
+
+    /**
+     * Returns an instance of {@code ImmutableDittoHeaders} which is based on the specified map and takes over the
+     * parsed header values of {@code origin} for unchanged headers.
+     *
+     * @param headers the key-value-pairs of the result.
+     * @param origin the headers which {@code headers} were derived from or {@code null}.
+     * @return the instance.
+     * @throws NullPointerException if {@code headers} is {@code null}.
+     */
+    static ImmutableDittoHeaders of(final Map<String, String> headers, @Nullable final DittoHeaders origin) {
+        return new ImmutableDittoHeaders(headers, origin);
     }
 
     @Override
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.base.headers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactHeaders}.
+ */
+public final class CompactHeadersTest {
+
+    private static final String CUSTOM_KEY = "custom-header";
+
+    @Test
+    public void containsKnownAndOtherHeaders() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(DittoHeaderDefinition.CORRELATION_ID.getKey(), "correlation-id");
+        headers.put(DittoHeaderDefinition.CONTENT_TYPE.getKey(), "application/json");
+        headers.put(CUSTOM_KEY, "custom");
+
+        final CompactHeaders underTest = CompactHeaders.of(headers);
+
+        assertThat(underTest).isEqualTo(headers);
+        assertThat(headers).isEqualTo(underTest);
+        assertThat(underTest.hashCode()).isEqualTo(headers.hashCode());
+        assertThat(underTest).hasSize(3);
+        assertThat(underTest.get(DittoHeaderDefinition.CORRELATION_ID.getKey())).isEqualTo("correlation-id");
+        assertThat(underTest.get(CUSTOM_KEY)).isEqualTo("custom");
+        assertThat(underTest.containsKey(DittoHeaderDefinition.ETAG.getKey())).isFalse();
+        assertThat(underTest.get("unknown")).isNull();
+    }
+
+    @Test
+    public void iteratesKnownHeadersInOrderOfDefinitionFirst() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(CUSTOM_KEY, "custom");
+        headers.put(DittoHeaderDefinition.CONTENT_TYPE.getKey(), "application/json");
+        headers.put(DittoHeaderDefinition.CORRELATION_ID.getKey(), "correlation-id");
+
+        final CompactHeaders underTest = CompactHeaders.of(headers);
+
+        assertThat(underTest.keySet()).containsExactly(DittoHeaderDefinition.CORRELATION_ID.getKey(),
+                DittoHeaderDefinition.CONTENT_TYPE.getKey(), CUSTOM_KEY);
+    }
+
+    @Test
+    public void ofCompactHeadersReturnsSameInstance() {
+        final CompactHeaders compactHeaders = CompactHeaders.of(new HashMap<>());
+
+        assertThat(CompactHeaders.of(compactHeaders)).isSameAs(compactHeaders);
+    }
+
+    @Test
+    public void entrySetIsUnmodifiable() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put(CUSTOM_KEY, "custom");
+        final CompactHeaders underTest = CompactHeaders.of(headers);
+
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.entrySet().iterator().next().setValue("other"));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> underTest.entrySet().clear());
+    }
+
+}
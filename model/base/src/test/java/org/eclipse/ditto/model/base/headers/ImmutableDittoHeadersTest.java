@@ -115,9 +115,37 @@ public final class ImmutableDittoHeadersTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields("authorizationContext", "readGrantedSubjects", "readRevokedSubjects",
+                        "acknowledgementRequests")
                 .verify();
     }
 
+    @Test
+    public void parsedHeaderValuesAreKeptByUnchangedCopies() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .readGrantedSubjects(KNOWN_READ_GRANTED_SUBJECTS)
+                .build();
+        final AuthorizationContext authorizationContext = dittoHeaders.getAuthorizationContext();
+
+        final DittoHeaders underTest = dittoHeaders.toBuilder().correlationId(KNOWN_CORRELATION_ID).build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(authorizationContext);
+        assertThat(underTest.getReadGrantedSubjects()).isEqualTo(dittoHeaders.getReadGrantedSubjects());
+    }
+
+    @Test
+    public void parsedHeaderSetsAreReturnedAsCopies() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .readGrantedSubjects(KNOWN_READ_GRANTED_SUBJECTS)
+                .build();
+
+        underTest.getReadGrantedSubjects().clear();
+
+        assertThat(underTest.getReadGrantedSubjects())
+                .containsExactlyInAnyOrderElementsOf(KNOWN_READ_GRANTED_SUBJECTS);
+    }
+
     @Test
     public void settingAllKnownHeadersWorksAsExpected() {
         final Map<String, String> expectedHeaderMap = createMapContainingAllKnownHeaders();
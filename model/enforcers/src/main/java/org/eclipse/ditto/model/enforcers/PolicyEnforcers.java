@@ -15,6 +15,7 @@ package org.eclipse.ditto.model.enforcers;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.model.enforcers.trie.BitSetPolicyEnforcer;
 import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.model.policies.Policy;
 
@@ -55,6 +56,21 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policy);
     }
 
+    /**
+     * Returns a Enforcer which delivers the same results as {@link #throughputOptimizedEvaluator(Policy)} but stores
+     * subjects and permissions as bit sets.
+     * Its throughput hardly depends on the number of subjects of the Policy, which makes it especially suited for
+     * Policies with many subjects, at the price of a slightly longer initialization.
+     *
+     * @param policy the Policy to initialize the evaluator with.
+     * @return the initialized Enforcer optimized for Policies with many subjects.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     * @since 1.2.0
+     */
+    public static Enforcer manySubjectsOptimizedEvaluator(final Policy policy) {
+        return BitSetPolicyEnforcer.newInstance(policy);
+    }
+
     /**
      * Returns a Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
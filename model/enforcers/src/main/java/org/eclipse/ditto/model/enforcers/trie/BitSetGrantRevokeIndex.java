@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.enforcers.trie.PermissionSubjectsBitSets.NO_WEIGHT;
+
+import java.util.BitSet;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable counterpart of {@link GrantRevokeIndex} based on interned permissions and subjects.
+ */
+@Immutable
+final class BitSetGrantRevokeIndex {
+
+    private final PermissionSubjectsBitSets grantMap;
+    private final PermissionSubjectsBitSets revokeMap;
+
+    private BitSetGrantRevokeIndex(final PermissionSubjectsBitSets grantMap,
+            final PermissionSubjectsBitSets revokeMap) {
+
+        this.grantMap = grantMap;
+        this.revokeMap = revokeMap;
+    }
+
+    /**
+     * Interns the given index.
+     *
+     * @param grantRevokeIndex the index to intern.
+     * @param interner the interner which knows all permissions and subjects of {@code grantRevokeIndex}.
+     * @return the interned index.
+     */
+    static BitSetGrantRevokeIndex of(final GrantRevokeIndex grantRevokeIndex, final PolicyInterner interner) {
+        return new BitSetGrantRevokeIndex(PermissionSubjectsBitSets.of(grantRevokeIndex.getGranted(), interner),
+                PermissionSubjectsBitSets.of(grantRevokeIndex.getRevoked(), interner));
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjectIndexes the subjects to check.
+     * @param permissionIndexes the permissions to check.
+     * @return the result of the check.
+     * @see GrantRevokeIndex#hasPermissions(java.util.Collection, java.util.Collection)
+     */
+    boolean hasPermissions(final BitSet subjectIndexes, final int[] permissionIndexes) {
+        final int grantWeight = grantMap.getMaxNonemptyWeightForAllPermissions(subjectIndexes, permissionIndexes);
+        if (NO_WEIGHT == grantWeight) {
+            return false;
+        }
+        final int revokeWeight = revokeMap.getMaxWeightForAllPermissions(subjectIndexes, permissionIndexes);
+        return NO_WEIGHT == revokeWeight || revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the subjects for whom <em>all</em> of the given permissions are granted.
+     *
+     * @param permissionIndexes the permissions to check.
+     * @return the indexes of the granted subjects.
+     */
+    BitSet getGrantedSubjects(final int[] permissionIndexes) {
+        return grantMap.getSubjectIntersect(permissionIndexes);
+    }
+
+    /**
+     * Returns the subjects for whom <em>any</em> of the given permissions are revoked.
+     *
+     * @param permissionIndexes the permissions to check.
+     * @return the indexes of the revoked subjects.
+     */
+    BitSet getRevokedSubjects(final int[] permissionIndexes) {
+        return revokeMap.getSubjectUnion(permissionIndexes);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
+import org.eclipse.ditto.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.ResourceKey;
+
+/**
+ * Enforcer which evaluates the same tries as {@link TrieBasedPolicyEnforcer} but interns the subject IDs and
+ * permissions of the policy to small integers.
+ * Granted and revoked subjects are stored as {@link BitSet}s, thus checking permissions and collecting subjects are
+ * bit operations whose costs hardly depend on the number of subjects of the policy.
+ * The subjects of an authorization context and the checked permissions are interned once per call, which pays off
+ * especially for building JSON views.
+ * <p>
+ * Building this enforcer takes slightly longer than building a {@code TrieBasedPolicyEnforcer} as the tries are
+ * interned after they were computed.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class BitSetPolicyEnforcer implements Enforcer {
+
+    private final PolicyInterner interner;
+    private final BitSetPolicyTrie policyTrie;
+
+    private BitSetPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        final PolicyTrie bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
+        final PolicyTrie bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        interner = PolicyInterner.of(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie);
+        policyTrie = BitSetPolicyTrie.of(inheritedTrie, bottomUpGrantTrie, bottomUpRevokeTrie, interner);
+    }
+
+    /**
+     * Constructs a bit set based policy enforcer from a policy.
+     *
+     * @param policy the policy to interpret.
+     * @return the policy enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public static BitSetPolicyEnforcer newInstance(final Policy policy) {
+        return new BitSetPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        @Nullable final BitSetPolicyTrie exactNode = seekToExactNodeOrNull(resourceKey);
+        final BitSetGrantRevokeIndex grantRevokeIndex = null != exactNode
+                ? exactNode.getBottomUpRevokeIndex()
+                : seekToLeastAncestor(resourceKey).getInheritedIndex();
+
+        return grantRevokeIndex.hasPermissions(getSubjectIndexes(authorizationContext),
+                interner.getPermissionIndexes(permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        return getPartialGrantRevokeIndex(resourceKey).hasPermissions(getSubjectIndexes(authorizationContext),
+                interner.getPermissionIndexes(permissions));
+    }
+
+    @Deprecated
+    @Override
+    public EffectedSubjectIds getSubjectIdsWithPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetGrantRevokeIndex grantRevokeIndex = seekToLeastAncestor(resourceKey).getInheritedIndex();
+        final int[] permissionIndexes = interner.getPermissionIndexes(permissions);
+        return ImmutableEffectedSubjectIds.of(
+                interner.getSubjectIds(grantRevokeIndex.getGrantedSubjects(permissionIndexes)),
+                interner.getSubjectIds(grantRevokeIndex.getRevokedSubjects(permissionIndexes)));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final BitSetGrantRevokeIndex grantRevokeIndex = seekToLeastAncestor(resourceKey).getInheritedIndex();
+        final int[] permissionIndexes = interner.getPermissionIndexes(permissions);
+        return DefaultEffectedSubjects.of(
+                interner.getSubjects(grantRevokeIndex.getGrantedSubjects(permissionIndexes)),
+                interner.getSubjects(grantRevokeIndex.getRevokedSubjects(permissionIndexes)));
+    }
+
+    @Deprecated
+    @Override
+    public Set<String> getSubjectIdsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return interner.getSubjectIds(getPartialGrantRevokeIndex(resourceKey)
+                .getGrantedSubjects(interner.getPermissionIndexes(permissions)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return interner.getSubjects(getPartialGrantRevokeIndex(resourceKey)
+                .getGrantedSubjects(interner.getPermissionIndexes(permissions)));
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (policyTrie.hasChild(JsonKey.of(resourceKey.getResourceType()))) {
+            return seekToLeastAncestor(resourceKey).buildJsonView(jsonFields, getSubjectIndexes(authorizationContext),
+                    interner.getPermissionIndexes(permissions));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private BitSet getSubjectIndexes(final AuthorizationContext authorizationContext) {
+        return interner.getSubjectIndexes(authorizationContext.getAuthorizationSubjectIds());
+    }
+
+    /**
+     * Returns the index of the bottom up grant trie if the resource is mentioned in the policy; otherwise the
+     * grants/revokes are inherited from a super-resource.
+     */
+    private BitSetGrantRevokeIndex getPartialGrantRevokeIndex(final ResourceKey resourceKey) {
+        @Nullable final BitSetPolicyTrie exactNode = seekToExactNodeOrNull(resourceKey);
+        return null != exactNode
+                ? exactNode.getBottomUpGrantIndex()
+                : seekToLeastAncestor(resourceKey).getInheritedIndex();
+    }
+
+    @Nullable
+    private BitSetPolicyTrie seekToExactNodeOrNull(final ResourceKey resourceKey) {
+        return policyTrie.seekToExactNodeOrNull(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+    private BitSetPolicyTrie seekToLeastAncestor(final ResourceKey resourceKey) {
+        return policyTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+    }
+
+}
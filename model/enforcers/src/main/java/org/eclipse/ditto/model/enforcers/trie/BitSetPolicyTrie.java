@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+
+/**
+ * Immutable trie of a policy which combines the inherited, the bottom up grant and the bottom up revoke
+ * {@link PolicyTrie} in one node per resource.
+ * As those tries have the same shape, each node holds the interned grant-revoke-index of all three of them.
+ */
+@Immutable
+final class BitSetPolicyTrie {
+
+    private final BitSetGrantRevokeIndex inheritedIndex;
+    private final BitSetGrantRevokeIndex bottomUpGrantIndex;
+    private final BitSetGrantRevokeIndex bottomUpRevokeIndex;
+    private final Map<JsonKey, BitSetPolicyTrie> children;
+
+    private BitSetPolicyTrie(final BitSetGrantRevokeIndex inheritedIndex,
+            final BitSetGrantRevokeIndex bottomUpGrantIndex,
+            final BitSetGrantRevokeIndex bottomUpRevokeIndex,
+            final Map<JsonKey, BitSetPolicyTrie> children) {
+
+        this.inheritedIndex = inheritedIndex;
+        this.bottomUpGrantIndex = bottomUpGrantIndex;
+        this.bottomUpRevokeIndex = bottomUpRevokeIndex;
+        this.children = children;
+    }
+
+    /**
+     * Interns the given policy tries which must have the same shape.
+     *
+     * @param inheritedTrie the trie with grants and revokes pushed down from ancestors to descendants.
+     * @param bottomUpGrantTrie the trie with grants pushed up from descendants to ancestors.
+     * @param bottomUpRevokeTrie the trie with revokes pushed up from descendants to ancestors.
+     * @param interner the interner which knows all permissions and subjects of the tries.
+     * @return the interned trie.
+     */
+    static BitSetPolicyTrie of(final PolicyTrie inheritedTrie, final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie, final PolicyInterner interner) {
+
+        final Map<JsonKey, PolicyTrie> inheritedChildren = inheritedTrie.getChildren();
+        final Map<JsonKey, BitSetPolicyTrie> children;
+        if (inheritedChildren.isEmpty()) {
+            children = Collections.emptyMap();
+        } else {
+            children = new HashMap<>(inheritedChildren.size());
+            inheritedChildren.forEach((key, inheritedChild) -> children.put(key, of(inheritedChild,
+                    bottomUpGrantTrie.getChildren().get(key),
+                    bottomUpRevokeTrie.getChildren().get(key),
+                    interner)));
+        }
+        return new BitSetPolicyTrie(BitSetGrantRevokeIndex.of(inheritedTrie.getGrantRevokeIndex(), interner),
+                BitSetGrantRevokeIndex.of(bottomUpGrantTrie.getGrantRevokeIndex(), interner),
+                BitSetGrantRevokeIndex.of(bottomUpRevokeTrie.getGrantRevokeIndex(), interner),
+                children);
+    }
+
+    /**
+     * Returns the grant-revoke-index with grants and revokes inherited from ancestors.
+     *
+     * @return the index.
+     */
+    BitSetGrantRevokeIndex getInheritedIndex() {
+        return inheritedIndex;
+    }
+
+    /**
+     * Returns the grant-revoke-index which contains the grants of all descendants.
+     *
+     * @return the index.
+     */
+    BitSetGrantRevokeIndex getBottomUpGrantIndex() {
+        return bottomUpGrantIndex;
+    }
+
+    /**
+     * Returns the grant-revoke-index which contains the revokes of all descendants.
+     *
+     * @return the index.
+     */
+    BitSetGrantRevokeIndex getBottomUpRevokeIndex() {
+        return bottomUpRevokeIndex;
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path to match.
+     * @return the best matched node.
+     */
+    BitSetPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (path.hasNext()) {
+            @Nullable final BitSetPolicyTrie child = result.children.get(path.next());
+            if (null == child) {
+                return result;
+            }
+            result = child;
+        }
+        return result;
+    }
+
+    /**
+     * Seek to the trie node whose path from root matches {@code path} exactly.
+     *
+     * @param path the path to match.
+     * @return the exactly matched node or {@code null} if no node matches {@code path} exactly.
+     */
+    @Nullable
+    BitSetPolicyTrie seekToExactNodeOrNull(final Iterator<JsonKey> path) {
+        BitSetPolicyTrie result = this;
+        while (path.hasNext()) {
+            result = result.children.get(path.next());
+            if (null == result) {
+                return null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the view of the given JSON fields based on the inherited grants and revokes of this node and its
+     * descendants.
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjectIndexes the subjects to build the view for.
+     * @param permissionIndexes the permissions which are required for a field to be contained in the view.
+     * @return the view.
+     * @see PolicyTrie#buildJsonView(Iterable, java.util.Collection, org.eclipse.ditto.model.policies.Permissions)
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjectIndexes,
+            final int[] permissionIndexes) {
+
+        return buildJsonView(this, inheritedIndex, jsonFields, subjectIndexes, permissionIndexes);
+    }
+
+    /*
+     * A JSON field without corresponding child node inherits the index of the node of its parent, which is passed
+     * along with a null node.
+     */
+    private static JsonObject buildJsonView(@Nullable final BitSetPolicyTrie node,
+            final BitSetGrantRevokeIndex index,
+            final Iterable<JsonField> jsonFields,
+            final BitSet subjectIndexes,
+            final int[] permissionIndexes) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            @Nullable final BitSetPolicyTrie child = null != node ? node.children.get(field.getKey()) : null;
+            final BitSetGrantRevokeIndex childIndex = null != child ? child.inheritedIndex : index;
+            @Nullable final JsonValue jsonView =
+                    getViewForJsonValueOrNull(child, childIndex, field.getValue(), subjectIndexes, permissionIndexes);
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private static JsonValue getViewForJsonValueOrNull(@Nullable final BitSetPolicyTrie node,
+            final BitSetGrantRevokeIndex index,
+            final JsonValue jsonValue,
+            final BitSet subjectIndexes,
+            final int[] permissionIndexes) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            final JsonObject candidate =
+                    buildJsonView(node, index, jsonValue.asObject(), subjectIndexes, permissionIndexes);
+            result = filterCandidate(candidate, index, subjectIndexes, permissionIndexes);
+        } else if (jsonValue.isArray()) {
+            final JsonArrayBuilder candidateBuilder = JsonFactory.newArrayBuilder();
+            for (final JsonValue element : jsonValue.asArray()) {
+                @Nullable final JsonValue elementView =
+                        getViewForJsonValueOrNull(node, index, element, subjectIndexes, permissionIndexes);
+                if (null != elementView) {
+                    candidateBuilder.add(elementView);
+                }
+            }
+            final JsonArray candidate = candidateBuilder.build();
+            result = filterCandidate(candidate, index, subjectIndexes, permissionIndexes);
+        } else if (index.hasPermissions(subjectIndexes, permissionIndexes)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
+    @Nullable
+    private static <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate,
+            final BitSetGrantRevokeIndex index, final BitSet subjectIndexes, final int[] permissionIndexes) {
+
+        if (!candidate.isEmpty() || index.hasPermissions(subjectIndexes, permissionIndexes)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable counterpart of {@link PermissionSubjectsMap} based on interned permissions and subjects.
+ * For each permission the related subjects are kept as one {@link BitSet} per weight, thus the operations of the
+ * relation are bit operations on the subject indexes.
+ */
+@Immutable
+final class PermissionSubjectsBitSets {
+
+    /**
+     * The weight returned if no given subject is related to the given permissions.
+     */
+    static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    /**
+     * The related subjects indexed by permission index; {@code null} for permissions not present in the relation.
+     */
+    private final WeightedSubjects[] subjectsByPermission;
+
+    private PermissionSubjectsBitSets(final WeightedSubjects[] subjectsByPermission) {
+        this.subjectsByPermission = subjectsByPermission;
+    }
+
+    /**
+     * Interns the given relation.
+     *
+     * @param permissionSubjectsMap the relation to intern.
+     * @param interner the interner which knows all permissions and subjects of {@code permissionSubjectsMap}.
+     * @return the interned relation.
+     */
+    static PermissionSubjectsBitSets of(final PermissionSubjectsMap permissionSubjectsMap,
+            final PolicyInterner interner) {
+
+        final WeightedSubjects[] subjectsByPermission = new WeightedSubjects[interner.getPermissionCount()];
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                subjectsByPermission[interner.getPermissionIndex(permission)] =
+                        WeightedSubjects.of(subjectWeights, interner));
+        return new PermissionSubjectsBitSets(subjectsByPermission);
+    }
+
+    /**
+     * Returns the maximum weight of the given subjects related to <em>some</em> of the given permissions.
+     *
+     * @param subjectIndexes the subjects to check.
+     * @param permissionIndexes the permissions to check.
+     * @return the maximum weight or {@link #NO_WEIGHT}.
+     * @see PermissionSubjectsMap#getMaxWeightForAllPermissions(java.util.Collection, java.util.Collection)
+     */
+    int getMaxWeightForAllPermissions(final BitSet subjectIndexes, final int[] permissionIndexes) {
+        int result = NO_WEIGHT;
+        for (final int permissionIndex : permissionIndexes) {
+            @Nullable final WeightedSubjects weightedSubjects = getWeightedSubjectsOrNull(permissionIndex);
+            if (null != weightedSubjects) {
+                result = Math.max(result, weightedSubjects.getMaxWeight(subjectIndexes));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the maximum weight of the given subjects if <em>all</em> given permissions are related to some of the
+     * given subjects.
+     *
+     * @param subjectIndexes the subjects to check.
+     * @param permissionIndexes the permissions to check.
+     * @return the maximum weight or {@link #NO_WEIGHT}.
+     * @see PermissionSubjectsMap#getMaxNonemptyWeightForAllPermissions(java.util.Collection, java.util.Collection)
+     */
+    int getMaxNonemptyWeightForAllPermissions(final BitSet subjectIndexes, final int[] permissionIndexes) {
+        int result = NO_WEIGHT;
+        for (final int permissionIndex : permissionIndexes) {
+            @Nullable final WeightedSubjects weightedSubjects = getWeightedSubjectsOrNull(permissionIndex);
+            if (null == weightedSubjects) {
+                return NO_WEIGHT;
+            }
+            final int weight = weightedSubjects.getMaxWeight(subjectIndexes);
+            if (NO_WEIGHT == weight) {
+                return NO_WEIGHT;
+            }
+            result = Math.max(result, weight);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subjects each of which is related to <em>some</em> of the given permissions.
+     *
+     * @param permissionIndexes the permissions to check.
+     * @return the indexes of the subjects.
+     * @see PermissionSubjectsMap#getSubjectUnion(java.util.Set)
+     */
+    BitSet getSubjectUnion(final int[] permissionIndexes) {
+        final BitSet result = new BitSet();
+        for (final int permissionIndex : permissionIndexes) {
+            @Nullable final WeightedSubjects weightedSubjects = getWeightedSubjectsOrNull(permissionIndex);
+            if (null != weightedSubjects) {
+                result.or(weightedSubjects.subjects);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the subjects each of which is related to <em>all</em> of the given permissions which are present in
+     * this relation.
+     *
+     * @param permissionIndexes the permissions to check.
+     * @return the indexes of the subjects.
+     * @see PermissionSubjectsMap#getSubjectIntersect(java.util.Set)
+     */
+    BitSet getSubjectIntersect(final int[] permissionIndexes) {
+        @Nullable BitSet result = null;
+        for (final int permissionIndex : permissionIndexes) {
+            @Nullable final WeightedSubjects weightedSubjects = getWeightedSubjectsOrNull(permissionIndex);
+            if (null != weightedSubjects) {
+                if (null == result) {
+                    result = (BitSet) weightedSubjects.subjects.clone();
+                } else {
+                    result.and(weightedSubjects.subjects);
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    @Nullable
+    private WeightedSubjects getWeightedSubjectsOrNull(final int permissionIndex) {
+        if (PolicyInterner.UNKNOWN == permissionIndex) {
+            return null;
+        }
+        return subjectsByPermission[permissionIndex];
+    }
+
+    /**
+     * The subjects related to one permission grouped by their weight.
+     */
+    @Immutable
+    private static final class WeightedSubjects {
+
+        private final int[] weights;
+        private final BitSet[] subjectsByWeight;
+        private final BitSet subjects;
+
+        private WeightedSubjects(final int[] weights, final BitSet[] subjectsByWeight, final BitSet subjects) {
+            this.weights = weights;
+            this.subjectsByWeight = subjectsByWeight;
+            this.subjects = subjects;
+        }
+
+        private static WeightedSubjects of(final Map<String, Integer> subjectWeights, final PolicyInterner interner) {
+            final Map<Integer, BitSet> subjectsByWeight = new TreeMap<>(Comparator.reverseOrder());
+            final BitSet subjects = new BitSet(interner.getSubjectCount());
+            subjectWeights.forEach((subjectId, weight) -> {
+                final int subjectIndex = interner.getSubjectIndex(subjectId);
+                subjectsByWeight.computeIfAbsent(weight, w -> new BitSet(interner.getSubjectCount()))
+                        .set(subjectIndex);
+                subjects.set(subjectIndex);
+            });
+            return new WeightedSubjects(subjectsByWeight.keySet().stream().mapToInt(Integer::intValue).toArray(),
+                    subjectsByWeight.values().toArray(new BitSet[0]), subjects);
+        }
+
+        private int getMaxWeight(final BitSet subjectIndexes) {
+            // weights are sorted descending
+            for (int i = 0; i < weights.length; i++) {
+                if (subjectsByWeight[i].intersects(subjectIndexes)) {
+                    return weights[i];
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+    }
+
+}
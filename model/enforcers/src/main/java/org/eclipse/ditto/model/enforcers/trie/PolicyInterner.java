@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+
+/**
+ * Maps the subject IDs and permissions of a policy to small integers.
+ * Sets of subjects are represented as {@link BitSet}s of subject indexes.
+ */
+@Immutable
+final class PolicyInterner {
+
+    /**
+     * Index of subjects and permissions which do not occur in the policy.
+     */
+    static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> subjectIndexes;
+    private final String[] subjectIds;
+    private final AuthorizationSubject[] subjects;
+    private final Map<String, Integer> permissionIndexes;
+
+    private PolicyInterner(final List<String> subjectIds, final Map<String, Integer> subjectIndexes,
+            final Map<String, Integer> permissionIndexes) {
+
+        this.subjectIndexes = subjectIndexes;
+        this.subjectIds = subjectIds.toArray(new String[0]);
+        subjects = subjectIds.stream().map(AuthorizationSubject::newInstance).toArray(AuthorizationSubject[]::new);
+        this.permissionIndexes = permissionIndexes;
+    }
+
+    /**
+     * Interns all subject IDs and permissions of the given policy tries.
+     *
+     * @param policyTries the tries to intern.
+     * @return the interner.
+     */
+    static PolicyInterner of(final PolicyTrie... policyTries) {
+        final List<String> subjectIds = new ArrayList<>();
+        final Map<String, Integer> subjectIndexes = new HashMap<>();
+        final Map<String, Integer> permissionIndexes = new HashMap<>();
+        for (final PolicyTrie policyTrie : policyTries) {
+            collect(policyTrie, subjectIds, subjectIndexes, permissionIndexes);
+        }
+        return new PolicyInterner(subjectIds, subjectIndexes, permissionIndexes);
+    }
+
+    private static void collect(final PolicyTrie policyTrie, final List<String> subjectIds,
+            final Map<String, Integer> subjectIndexes, final Map<String, Integer> permissionIndexes) {
+
+        final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+        collect(grantRevokeIndex.getGranted(), subjectIds, subjectIndexes, permissionIndexes);
+        collect(grantRevokeIndex.getRevoked(), subjectIds, subjectIndexes, permissionIndexes);
+        policyTrie.getChildren()
+                .values()
+                .forEach(child -> collect(child, subjectIds, subjectIndexes, permissionIndexes));
+    }
+
+    private static void collect(final PermissionSubjectsMap permissionSubjectsMap, final List<String> subjectIds,
+            final Map<String, Integer> subjectIndexes, final Map<String, Integer> permissionIndexes) {
+
+        permissionSubjectsMap.forEach((permission, subjectWeights) -> {
+            permissionIndexes.putIfAbsent(permission, permissionIndexes.size());
+            for (final String subjectId : subjectWeights.keySet()) {
+                if (null == subjectIndexes.putIfAbsent(subjectId, subjectIds.size())) {
+                    subjectIds.add(subjectId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the index of the given subject ID.
+     *
+     * @param subjectId the subject ID.
+     * @return the index or {@link #UNKNOWN} if the subject does not occur in the policy.
+     */
+    int getSubjectIndex(final String subjectId) {
+        return subjectIndexes.getOrDefault(subjectId, UNKNOWN);
+    }
+
+    /**
+     * Returns the indexes of those of the given subject IDs which occur in the policy.
+     *
+     * @param subjectIds the subject IDs.
+     * @return the subject indexes.
+     */
+    BitSet getSubjectIndexes(final Collection<String> subjectIds) {
+        final BitSet result = new BitSet(this.subjectIds.length);
+        for (final String subjectId : subjectIds) {
+            final int subjectIndex = getSubjectIndex(subjectId);
+            if (UNKNOWN != subjectIndex) {
+                result.set(subjectIndex);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of interned subject IDs.
+     *
+     * @return the number of subject IDs.
+     */
+    int getSubjectCount() {
+        return subjectIds.length;
+    }
+
+    /**
+     * Returns the index of the given permission.
+     *
+     * @param permission the permission.
+     * @return the index or {@link #UNKNOWN} if the permission does not occur in the policy.
+     */
+    int getPermissionIndex(final String permission) {
+        return permissionIndexes.getOrDefault(permission, UNKNOWN);
+    }
+
+    /**
+     * Returns the indexes of the given permissions in iteration order.
+     *
+     * @param permissions the permissions.
+     * @return the permission indexes which are {@link #UNKNOWN} for permissions not occurring in the policy.
+     */
+    int[] getPermissionIndexes(final Collection<String> permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            result[i++] = getPermissionIndex(permission);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of interned permissions.
+     *
+     * @return the number of permissions.
+     */
+    int getPermissionCount() {
+        return permissionIndexes.size();
+    }
+
+    /**
+     * Returns the subject IDs of the given subject indexes.
+     *
+     * @param subjectIndexes the subject indexes.
+     * @return the subject IDs.
+     */
+    Set<String> getSubjectIds(final BitSet subjectIndexes) {
+        final Set<String> result = new HashSet<>();
+        subjectIndexes.stream().forEach(subjectIndex -> result.add(subjectIds[subjectIndex]));
+        return result;
+    }
+
+    /**
+     * Returns the authorization subjects of the given subject indexes.
+     *
+     * @param subjectIndexes the subject indexes.
+     * @return the authorization subjects.
+     */
+    Set<AuthorizationSubject> getSubjects(final BitSet subjectIndexes) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        subjectIndexes.stream().forEach(subjectIndex -> result.add(subjects[subjectIndex]));
+        return result;
+    }
+
+}
@@ -67,6 +67,17 @@ final class PolicyTrie {
         this.children = children;
     }
 
+    /**
+     * Creates a trie node from its grant-revoke-index and its children. The node takes ownership of both arguments.
+     *
+     * @param grantRevokeIndex The grant-revoke-index of the node.
+     * @param children The children of the node.
+     * @return The node.
+     */
+    static PolicyTrie of(final GrantRevokeIndex grantRevokeIndex, final Map<JsonKey, PolicyTrie> children) {
+        return new PolicyTrie(grantRevokeIndex, children);
+    }
+
     /**
      * Interprets a {@link org.eclipse.ditto.model.policies.Policy} as trie. For each policy entry, a map from
      * granted/revoked permissions to their corresponding subjects is added to a trie node at the exact location of the
@@ -93,7 +104,13 @@ final class PolicyTrie {
         });
     }
 
-    private static Collection<String> getSubjectIds(final Subjects subjects) {
+    /**
+     * Returns the IDs of the given subjects as they are stored in the grant-revoke-indexes of a trie.
+     *
+     * @param subjects The subjects of a policy entry.
+     * @return The subject IDs.
+     */
+    static Collection<String> getSubjectIds(final Subjects subjects) {
         return subjects.stream()
                 .map(Subject::getId)
                 .map(SubjectId::toString)
@@ -161,7 +178,14 @@ final class PolicyTrie {
         return computeTransitiveClosure(this, new GrantRevokeIndex());
     }
 
-    private static PolicyTrie computeTransitiveClosure(final PolicyTrie thisTrie, final GrantRevokeIndex inherited) {
+    /**
+     * Computes the transitive closure of a subtrie.
+     *
+     * @param thisTrie Root of the subtrie in the raw trie.
+     * @param inherited The grant-revoke-index of the parent of {@code thisTrie} in the inherited trie.
+     * @return The subtrie with grants and revokes pushed down from {@code inherited} and from ancestors to descendants.
+     */
+    static PolicyTrie computeTransitiveClosure(final PolicyTrie thisTrie, final GrantRevokeIndex inherited) {
         final GrantRevokeIndex thisMap = inherited.copyWithDecrementedWeight().overrideBy(thisTrie.grantRevokeIndex);
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(thisTrie.children.size());
         thisTrie.children.forEach((key, oldChild) -> newChildren.put(key, computeTransitiveClosure(oldChild, thisMap)));
@@ -176,22 +200,30 @@ final class PolicyTrie {
      */
     PolicyTrie getBottomUpGrantTrie() {
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
-        final PermissionSubjectsMap newGrantMap = grantRevokeIndex.getGranted().copy();
+        children.forEach((key, oldChild) -> newChildren.put(key, oldChild.getBottomUpGrantTrie()));
+        return withBottomUpGrants(grantRevokeIndex, newChildren);
+    }
 
-        children.forEach((key, oldChild) -> {
-            final PolicyTrie newChild = oldChild.getBottomUpGrantTrie();
-            newChildren.put(key, newChild);
+    /**
+     * Creates a node of a bottom up grant trie from the grant-revoke-index of the corresponding node of the inherited
+     * trie and the already computed children of the bottom up grant trie.
+     *
+     * @param inheritedIndex The grant-revoke-index of the node in the inherited trie.
+     * @param bottomUpGrantChildren The children of the node in the bottom up grant trie.
+     * @return The node of the bottom up grant trie.
+     */
+    static PolicyTrie withBottomUpGrants(final GrantRevokeIndex inheritedIndex,
+            final Map<JsonKey, PolicyTrie> bottomUpGrantChildren) {
 
-            final GrantRevokeIndex newChildGrantRevokeIndex = newChild.getGrantRevokeIndex();
-            final PermissionSubjectsMap granted = newChildGrantRevokeIndex.getGranted();
-            newGrantMap.addAllEntriesFrom(granted.copyWithIncrementedWeight());
-        });
+        final PermissionSubjectsMap newGrantMap = inheritedIndex.getGranted().copy();
+        bottomUpGrantChildren.values().forEach(newChild ->
+                newGrantMap.addAllEntriesFrom(newChild.grantRevokeIndex.getGranted().copyWithIncrementedWeight()));
 
-        final PermissionSubjectsMap newRevokeMap = grantRevokeIndex.getRevoked().copy();
+        final PermissionSubjectsMap newRevokeMap = inheritedIndex.getRevoked().copy();
         newRevokeMap.removeAllEntriesFrom(newGrantMap);
         final GrantRevokeIndex newGrantRevokeMap = new GrantRevokeIndex(newGrantMap, newRevokeMap);
 
-        return new PolicyTrie(newGrantRevokeMap, newChildren);
+        return new PolicyTrie(newGrantRevokeMap, bottomUpGrantChildren);
     }
 
     /**
@@ -201,21 +233,38 @@ final class PolicyTrie {
      */
     PolicyTrie getBottomUpRevokeTrie() {
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
-        final PermissionSubjectsMap newRevokeMap = grantRevokeIndex.getRevoked().copy();
+        children.forEach((key, oldChild) -> newChildren.put(key, oldChild.getBottomUpRevokeTrie()));
+        return withBottomUpRevokes(grantRevokeIndex, newChildren);
+    }
 
-        children.forEach((key, oldChild) -> {
-            final PolicyTrie newChild = oldChild.getBottomUpRevokeTrie();
-            newChildren.put(key, newChild);
+    /**
+     * Creates a node of a bottom up revoke trie from the grant-revoke-index of the corresponding node of the inherited
+     * trie and the already computed children of the bottom up revoke trie.
+     *
+     * @param inheritedIndex The grant-revoke-index of the node in the inherited trie.
+     * @param bottomUpRevokeChildren The children of the node in the bottom up revoke trie.
+     * @return The node of the bottom up revoke trie.
+     */
+    static PolicyTrie withBottomUpRevokes(final GrantRevokeIndex inheritedIndex,
+            final Map<JsonKey, PolicyTrie> bottomUpRevokeChildren) {
 
-            final GrantRevokeIndex newChildGrantRevokeIndex = newChild.getGrantRevokeIndex();
-            final PermissionSubjectsMap revoked = newChildGrantRevokeIndex.getRevoked();
-            newRevokeMap.addAllEntriesFrom(revoked.copyWithIncrementedWeight());
-        });
+        final PermissionSubjectsMap newRevokeMap = inheritedIndex.getRevoked().copy();
+        bottomUpRevokeChildren.values().forEach(newChild ->
+                newRevokeMap.addAllEntriesFrom(newChild.grantRevokeIndex.getRevoked().copyWithIncrementedWeight()));
 
-        final PermissionSubjectsMap newGrantMap = grantRevokeIndex.getGranted().copy();
+        final PermissionSubjectsMap newGrantMap = inheritedIndex.getGranted().copy();
         final GrantRevokeIndex newGrantRevokeMap = new GrantRevokeIndex(newGrantMap, newRevokeMap);
 
-        return new PolicyTrie(newGrantRevokeMap, newChildren);
+        return new PolicyTrie(newGrantRevokeMap, bottomUpRevokeChildren);
+    }
+
+    /**
+     * Returns the children of this node.
+     *
+     * @return an unmodifiable view of the children by their keys.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
     }
 
     /**
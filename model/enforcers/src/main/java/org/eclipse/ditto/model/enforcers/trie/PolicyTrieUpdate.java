@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
+
+/**
+ * Applies a change of a policy to the tries of a {@link TrieBasedPolicyEnforcer} copy-on-write.
+ * <p>
+ * Only the raw trie nodes at resources of changed policy entries are recomputed. A changed raw node changes the
+ * inherited trie below the node and the bottom up tries on the path from the root to the node; all other nodes are
+ * shared with the tries of the unchanged policy.
+ * </p>
+ */
+@Immutable
+final class PolicyTrieUpdate {
+
+    private final PolicyTrie rawTrie;
+
+    /**
+     * Nodes of the raw trie whose grant-revoke-index changed, which were created or which were removed.
+     */
+    private final Set<JsonPointer> changedNodes;
+
+    /**
+     * All prefixes of {@code changedNodes}, i. e., all nodes with a changed descendant or being changed themselves.
+     */
+    private final Set<JsonPointer> changedPaths;
+
+    private PolicyTrieUpdate(final PolicyTrie rawTrie, final Set<JsonPointer> changedNodes) {
+        this.rawTrie = rawTrie;
+        this.changedNodes = changedNodes;
+        changedPaths = new HashSet<>();
+        changedNodes.forEach(changedNode -> changedPaths.addAll(getPrefixes(changedNode)));
+    }
+
+    /**
+     * Computes the raw trie of an updated policy from the raw trie of the old policy.
+     *
+     * @param oldRawTrie the raw trie of {@code oldPolicy}.
+     * @param oldPolicy the policy before the update.
+     * @param newPolicy the policy after the update.
+     * @return the update.
+     */
+    static PolicyTrieUpdate of(final PolicyTrie oldRawTrie, final Iterable<PolicyEntry> oldPolicy,
+            final Iterable<PolicyEntry> newPolicy) {
+
+        final Set<JsonPointer> resources = getResourcesOfChangedEntries(oldPolicy, newPolicy);
+        if (resources.isEmpty()) {
+            return new PolicyTrieUpdate(oldRawTrie, Collections.emptySet());
+        }
+
+        // raw nodes existing only because of their descendants have to be checked for removal as well
+        final Set<JsonPointer> nodesToRecompute = new HashSet<>();
+        resources.forEach(resource -> nodesToRecompute.addAll(getPrefixes(resource)));
+        final RawTrieUpdater rawTrieUpdater = new RawTrieUpdater(nodesToRecompute, newPolicy);
+        final PolicyTrie newRawTrie = rawTrieUpdater.updateRawNode(oldRawTrie, JsonPointer.empty());
+
+        return new PolicyTrieUpdate(Objects.requireNonNull(newRawTrie), rawTrieUpdater.changedNodes);
+    }
+
+    /**
+     * Returns the raw trie of the updated policy.
+     *
+     * @return the raw trie.
+     */
+    PolicyTrie getRawTrie() {
+        return rawTrie;
+    }
+
+    /**
+     * Computes the inherited trie of the updated policy.
+     *
+     * @param oldInheritedTrie the inherited trie of the old policy.
+     * @return the inherited trie of the updated policy.
+     */
+    PolicyTrie updateTransitiveClosure(final PolicyTrie oldInheritedTrie) {
+        if (changedNodes.isEmpty()) {
+            return oldInheritedTrie;
+        }
+        return updateInheritedNode(oldInheritedTrie, rawTrie, new GrantRevokeIndex(), JsonPointer.empty());
+    }
+
+    /**
+     * Computes the bottom up grant trie of the updated policy.
+     *
+     * @param oldBottomUpGrantTrie the bottom up grant trie of the old policy.
+     * @param newInheritedTrie the inherited trie of the updated policy.
+     * @return the bottom up grant trie of the updated policy.
+     */
+    PolicyTrie updateBottomUpGrantTrie(final PolicyTrie oldBottomUpGrantTrie, final PolicyTrie newInheritedTrie) {
+        if (changedNodes.isEmpty()) {
+            return oldBottomUpGrantTrie;
+        }
+        return updateBottomUpNode(oldBottomUpGrantTrie, newInheritedTrie, JsonPointer.empty(),
+                PolicyTrie::getBottomUpGrantTrie, PolicyTrie::withBottomUpGrants);
+    }
+
+    /**
+     * Computes the bottom up revoke trie of the updated policy.
+     *
+     * @param oldBottomUpRevokeTrie the bottom up revoke trie of the old policy.
+     * @param newInheritedTrie the inherited trie of the updated policy.
+     * @return the bottom up revoke trie of the updated policy.
+     */
+    PolicyTrie updateBottomUpRevokeTrie(final PolicyTrie oldBottomUpRevokeTrie, final PolicyTrie newInheritedTrie) {
+        if (changedNodes.isEmpty()) {
+            return oldBottomUpRevokeTrie;
+        }
+        return updateBottomUpNode(oldBottomUpRevokeTrie, newInheritedTrie, JsonPointer.empty(),
+                PolicyTrie::getBottomUpRevokeTrie, PolicyTrie::withBottomUpRevokes);
+    }
+
+    private PolicyTrie updateInheritedNode(@Nullable final PolicyTrie oldNode, final PolicyTrie rawNode,
+            final GrantRevokeIndex parentIndex, final JsonPointer pointer) {
+
+        if (null == oldNode || changedNodes.contains(pointer)) {
+            return PolicyTrie.computeTransitiveClosure(rawNode, parentIndex);
+        }
+        // neither this node nor its ancestors changed, hence its index stays the same
+        final GrantRevokeIndex index = oldNode.getGrantRevokeIndex();
+        final Map<JsonKey, PolicyTrie> oldChildren = oldNode.getChildren();
+        final Map<JsonKey, PolicyTrie> children = new HashMap<>(rawNode.getChildren().size());
+        rawNode.getChildren().forEach((key, rawChild) -> {
+            final JsonPointer childPointer = pointer.addLeaf(key);
+            children.put(key, changedPaths.contains(childPointer)
+                    ? updateInheritedNode(oldChildren.get(key), rawChild, index, childPointer)
+                    : oldChildren.get(key));
+        });
+        return PolicyTrie.of(index, children);
+    }
+
+    private PolicyTrie updateBottomUpNode(@Nullable final PolicyTrie oldNode, final PolicyTrie inheritedNode,
+            final JsonPointer pointer,
+            final Function<PolicyTrie, PolicyTrie> computeSubtrie,
+            final BiFunction<GrantRevokeIndex, Map<JsonKey, PolicyTrie>, PolicyTrie> computeNode) {
+
+        if (null == oldNode || changedNodes.contains(pointer)) {
+            return computeSubtrie.apply(inheritedNode);
+        }
+        final Map<JsonKey, PolicyTrie> oldChildren = oldNode.getChildren();
+        final Map<JsonKey, PolicyTrie> children = new HashMap<>(inheritedNode.getChildren().size());
+        inheritedNode.getChildren().forEach((key, inheritedChild) -> {
+            final JsonPointer childPointer = pointer.addLeaf(key);
+            children.put(key, changedPaths.contains(childPointer)
+                    ? updateBottomUpNode(oldChildren.get(key), inheritedChild, childPointer, computeSubtrie,
+                    computeNode)
+                    : oldChildren.get(key));
+        });
+        return computeNode.apply(inheritedNode.getGrantRevokeIndex(), children);
+    }
+
+    private static Set<JsonPointer> getResourcesOfChangedEntries(final Iterable<PolicyEntry> oldPolicy,
+            final Iterable<PolicyEntry> newPolicy) {
+
+        final Map<Label, PolicyEntry> oldEntries = new HashMap<>();
+        oldPolicy.forEach(entry -> oldEntries.put(entry.getLabel(), entry));
+
+        final Set<JsonPointer> result = new HashSet<>();
+        for (final PolicyEntry newEntry : newPolicy) {
+            @Nullable final PolicyEntry oldEntry = oldEntries.remove(newEntry.getLabel());
+            if (!newEntry.equals(oldEntry)) {
+                addResources(newEntry, result);
+                if (null != oldEntry) {
+                    addResources(oldEntry, result);
+                }
+            }
+        }
+        // entries which were deleted
+        oldEntries.values().forEach(oldEntry -> addResources(oldEntry, result));
+        return result;
+    }
+
+    private static void addResources(final PolicyEntry policyEntry, final Collection<JsonPointer> resources) {
+        for (final Resource resource : policyEntry.getResources()) {
+            resources.add(toPointer(resource));
+        }
+    }
+
+    private static JsonPointer toPointer(final Resource resource) {
+        JsonPointer result = JsonPointer.empty();
+        final Iterator<JsonKey> keyIterator = PolicyTrie.getJsonKeyIterator(resource.getResourceKey());
+        while (keyIterator.hasNext()) {
+            result = result.addLeaf(keyIterator.next());
+        }
+        return result;
+    }
+
+    private static Collection<JsonPointer> getPrefixes(final JsonPointer pointer) {
+        final Collection<JsonPointer> result = new HashSet<>();
+        JsonPointer prefix = JsonPointer.empty();
+        result.add(prefix);
+        for (final JsonKey key : pointer) {
+            prefix = prefix.addLeaf(key);
+            result.add(prefix);
+        }
+        return result;
+    }
+
+    /**
+     * Recomputes the raw trie nodes at the given pointers from the updated policy and collects the changed nodes.
+     */
+    private static final class RawTrieUpdater {
+
+        private final Map<JsonPointer, Set<JsonKey>> childKeysToRecompute;
+        private final Map<JsonPointer, GrantRevokeIndex> recomputedIndexes;
+        private final Set<JsonPointer> changedNodes;
+
+        private RawTrieUpdater(final Set<JsonPointer> nodesToRecompute, final Iterable<PolicyEntry> newPolicy) {
+            childKeysToRecompute = new HashMap<>();
+            for (final JsonPointer node : nodesToRecompute) {
+                node.getLeaf().ifPresent(leaf -> childKeysToRecompute
+                        .computeIfAbsent(node.cutLeaf(), parent -> new HashSet<>())
+                        .add(leaf));
+            }
+            recomputedIndexes = new HashMap<>();
+            for (final PolicyEntry policyEntry : newPolicy) {
+                @Nullable Collection<String> subjectIds = null;
+                for (final Resource resource : policyEntry.getResources()) {
+                    final JsonPointer pointer = toPointer(resource);
+                    if (nodesToRecompute.contains(pointer)) {
+                        if (null == subjectIds) {
+                            subjectIds = PolicyTrie.getSubjectIds(policyEntry.getSubjects());
+                        }
+                        // same as PolicyTrie#addPolicyEntry
+                        final GrantRevokeIndex index =
+                                recomputedIndexes.computeIfAbsent(pointer, p -> new GrantRevokeIndex());
+                        final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                        index.getGranted()
+                                .addTotalRelationOfWeightZero(effectedPermissions.getGrantedPermissions(), subjectIds);
+                        index.getRevoked()
+                                .addTotalRelationOfWeightZero(effectedPermissions.getRevokedPermissions(), subjectIds);
+                    }
+                }
+            }
+            changedNodes = new HashSet<>();
+        }
+
+        /*
+         * Returns null if the node is removed, i. e., if no policy entry has a resource at or below the node.
+         */
+        @Nullable
+        private PolicyTrie updateRawNode(@Nullable final PolicyTrie oldNode, final JsonPointer pointer) {
+            final Map<JsonKey, PolicyTrie> children =
+                    null != oldNode ? new HashMap<>(oldNode.getChildren()) : new HashMap<>();
+            for (final JsonKey childKey : childKeysToRecompute.getOrDefault(pointer, Collections.emptySet())) {
+                @Nullable final PolicyTrie newChild = updateRawNode(children.get(childKey), pointer.addLeaf(childKey));
+                if (null != newChild) {
+                    children.put(childKey, newChild);
+                } else {
+                    children.remove(childKey);
+                }
+            }
+
+            if (pointer.isEmpty()) {
+                // the root always exists and never holds a resource
+                return PolicyTrie.of(Objects.requireNonNull(oldNode).getGrantRevokeIndex(), children);
+            }
+
+            @Nullable final GrantRevokeIndex recomputedIndex = recomputedIndexes.get(pointer);
+            if (null == recomputedIndex && children.isEmpty()) {
+                if (null != oldNode) {
+                    changedNodes.add(pointer);
+                }
+                return null;
+            }
+            final GrantRevokeIndex index = null != recomputedIndex ? recomputedIndex : new GrantRevokeIndex();
+            if (null == oldNode || !index.equals(oldNode.getGrantRevokeIndex())) {
+                changedNodes.add(pointer);
+            }
+            return PolicyTrie.of(index, children);
+        }
+
+    }
+
+}
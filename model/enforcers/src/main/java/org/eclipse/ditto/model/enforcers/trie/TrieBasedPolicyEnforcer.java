@@ -14,6 +14,7 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -65,6 +66,16 @@ import org.eclipse.ditto.model.policies.ResourceKey;
  */
 public final class TrieBasedPolicyEnforcer implements Enforcer {
 
+    /**
+     * The interpreted policy entries.
+     */
+    private final Set<PolicyEntry> policyEntries;
+
+    /**
+     * PolicyTrie of the policy entries without any propagation; kept to update this enforcer incrementally.
+     */
+    private final PolicyTrie rawTrie;
+
     /**
      * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
      */
@@ -80,13 +91,27 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
-    private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
-        final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
+    private TrieBasedPolicyEnforcer(final Set<PolicyEntry> policyEntries) {
+        this.policyEntries = Collections.unmodifiableSet(policyEntries);
+        rawTrie = PolicyTrie.fromPolicy(policyEntries);
+        inheritedTrie = rawTrie.getTransitiveClosure();
         bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
         bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
     }
 
+    private TrieBasedPolicyEnforcer(final Set<PolicyEntry> policyEntries,
+            final PolicyTrie rawTrie,
+            final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie) {
+
+        this.policyEntries = Collections.unmodifiableSet(policyEntries);
+        this.rawTrie = rawTrie;
+        this.inheritedTrie = inheritedTrie;
+        this.bottomUpGrantTrie = bottomUpGrantTrie;
+        this.bottomUpRevokeTrie = bottomUpRevokeTrie;
+    }
+
     /**
      * Constructs a trie-based policy enforcer from a policy.
      *
@@ -95,7 +120,40 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      * @throws NullPointerException if {@code policy} is {@code null}.
      */
     public static TrieBasedPolicyEnforcer newInstance(final Policy policy) {
-        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
+        return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret").getEntriesSet());
+    }
+
+    /**
+     * Returns the policy entries this enforcer interprets. As the enforcer depends on the policy entries only, it may
+     * be shared by several policies with equal entries.
+     *
+     * @return The unmodifiable set of policy entries.
+     * @since 1.2.0
+     */
+    public Set<PolicyEntry> getPolicyEntries() {
+        return policyEntries;
+    }
+
+    /**
+     * Returns an enforcer for an updated version of the policy of this enforcer. The result is the same as
+     * {@code TrieBasedPolicyEnforcer.newInstance(updatedPolicy)}, but only the parts of the tries which depend on
+     * changed policy entries are recomputed. All other parts are shared with this enforcer.
+     *
+     * @param updatedPolicy The updated policy.
+     * @return The policy enforcer for {@code updatedPolicy}.
+     * @throws NullPointerException if {@code updatedPolicy} is {@code null}.
+     * @since 1.2.0
+     */
+    public TrieBasedPolicyEnforcer withPolicy(final Policy updatedPolicy) {
+        checkNotNull(updatedPolicy, "updated policy");
+        final Set<PolicyEntry> updatedPolicyEntries = updatedPolicy.getEntriesSet();
+        final PolicyTrieUpdate update = PolicyTrieUpdate.of(rawTrie, policyEntries, updatedPolicyEntries);
+        final PolicyTrie newInheritedTrie = update.updateTransitiveClosure(inheritedTrie);
+        return new TrieBasedPolicyEnforcer(updatedPolicyEntries,
+                update.getRawTrie(),
+                newInheritedTrie,
+                update.updateBottomUpGrantTrie(bottomUpGrantTrie, newInheritedTrie),
+                update.updateBottomUpRevokeTrie(bottomUpRevokeTrie, newInheritedTrie));
     }
 
     /**
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.largepolicies;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the enforcers with large generated policies and a Thing of about 50 KB, see
+ * {@link LargePolicyWorkload}.
+ * <p>
+ * Run {@link #main(String...)} to include the allocation rates of the benchmarks, or pass {@code -prof gc} to the
+ * benchmark jar.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LargePoliciesBenchmark {
+
+    private static final long SEED = 4711L;
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+
+    /**
+     * The enforcer algorithms to compare.
+     */
+    public enum Evaluator {
+        THROUGHPUT_OPTIMIZED(PolicyEnforcers::throughputOptimizedEvaluator),
+        MEMORY_OPTIMIZED(PolicyEnforcers::memoryOptimizedEvaluator),
+        MANY_SUBJECTS_OPTIMIZED(PolicyEnforcers::manySubjectsOptimizedEvaluator);
+
+        private final Function<Policy, Enforcer> factory;
+
+        Evaluator(final Function<Policy, Enforcer> factory) {
+            this.factory = factory;
+        }
+
+        Enforcer create(final Policy policy) {
+            return factory.apply(policy);
+        }
+
+    }
+
+    @Param
+    public Evaluator evaluator;
+
+    @Param({"100", "500"})
+    public int numberOfSubjects;
+
+    private LargePolicyWorkload workload;
+    private Enforcer enforcer;
+
+    @Setup
+    public void setUp() {
+        workload = LargePolicyWorkload.generate(numberOfSubjects, SEED);
+        enforcer = evaluator.create(workload.getPolicy());
+    }
+
+    @Benchmark
+    public Enforcer construction() {
+        return evaluator.create(workload.getPolicy());
+    }
+
+    /**
+     * Checks partial permissions on each resource of the Thing.
+     */
+    @Benchmark
+    public void hasPartialPermissions(final Blackhole blackhole) {
+        for (final ResourceKey resourceKey : workload.getResourceKeys()) {
+            blackhole.consume(enforcer.hasPartialPermissions(resourceKey, workload.getAuthorizationContext(), READ));
+        }
+    }
+
+    @Benchmark
+    public Set<String> getSubjectIdsWithPartialPermission() {
+        return enforcer.getSubjectIdsWithPartialPermission(THING_ROOT, READ);
+    }
+
+    @Benchmark
+    public JsonObject buildJsonView() {
+        return enforcer.buildJsonView(THING_ROOT, workload.getThing(), workload.getAuthorizationContext(), READ);
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LargePoliciesBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.largepolicies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectType;
+
+/**
+ * A large generated Thing together with a large generated Policy protecting it.
+ * <p>
+ * The Thing has about {@value #THING_SIZE_IN_CHARS} characters in its JSON representation. The Policy has one entry
+ * per {@value #SUBJECTS_PER_ENTRY} subjects: the first one administers everything, all others grant permissions on a
+ * few random resources of the Thing and revoke them on some deeper resources. Generation is deterministic for equal arguments.
+ * </p>
+ */
+public final class LargePolicyWorkload {
+
+    /**
+     * Minimum length of the JSON string of the generated Thing.
+     */
+    static final int THING_SIZE_IN_CHARS = 50 * 1024;
+
+    private static final int SUBJECTS_PER_ENTRY = 5;
+    private static final int NUMBER_OF_ATTRIBUTES = 20;
+    private static final int PROPERTIES_PER_FEATURE = 8;
+    private static final int SUBJECTS_PER_AUTHORIZATION_CONTEXT = 3;
+    private static final String READ = "READ";
+    private static final String WRITE = "WRITE";
+
+    private final Policy policy;
+    private final JsonObject thing;
+    private final List<ResourceKey> resourceKeys;
+    private final AuthorizationContext authorizationContext;
+
+    private LargePolicyWorkload(final Policy policy, final JsonObject thing, final List<ResourceKey> resourceKeys,
+            final AuthorizationContext authorizationContext) {
+
+        this.policy = policy;
+        this.thing = thing;
+        this.resourceKeys = Collections.unmodifiableList(resourceKeys);
+        this.authorizationContext = authorizationContext;
+    }
+
+    /**
+     * Generates a workload.
+     *
+     * @param numberOfSubjects the number of subjects of the policy.
+     * @param seed the seed of the random choices.
+     * @return the workload.
+     * @throws IllegalArgumentException if {@code numberOfSubjects} is smaller than the number of subjects of one
+     * policy entry.
+     */
+    public static LargePolicyWorkload generate(final int numberOfSubjects, final long seed) {
+        if (numberOfSubjects < SUBJECTS_PER_ENTRY) {
+            throw new IllegalArgumentException("At least " + SUBJECTS_PER_ENTRY + " subjects are required!");
+        }
+        final Random random = new Random(seed);
+        final JsonObject thing = generateThing(random);
+        final List<JsonPointer> paths = new ArrayList<>();
+        collectPaths(JsonPointer.empty(), thing, paths);
+        final Policy policy = generatePolicy(random, numberOfSubjects, paths);
+
+        final List<ResourceKey> resourceKeys = new ArrayList<>(paths.size());
+        paths.forEach(path -> resourceKeys.add(ResourceKey.newInstance("thing", path)));
+
+        final List<AuthorizationSubject> authorizationSubjects = new ArrayList<>();
+        for (int i = 0; i < SUBJECTS_PER_AUTHORIZATION_CONTEXT; i++) {
+            authorizationSubjects.add(AuthorizationSubject.newInstance(subjectId(random.nextInt(numberOfSubjects))));
+        }
+        authorizationSubjects.add(AuthorizationSubject.newInstance("integration:unknown"));
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, authorizationSubjects);
+
+        return new LargePolicyWorkload(policy, thing, resourceKeys, authorizationContext);
+    }
+
+    /**
+     * @return the generated policy.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the generated Thing.
+     */
+    public JsonObject getThing() {
+        return thing;
+    }
+
+    /**
+     * @return the keys of all resources of the Thing down to the values of the feature properties.
+     */
+    public List<ResourceKey> getResourceKeys() {
+        return resourceKeys;
+    }
+
+    /**
+     * @return an authorization context with some subjects of the policy and one unknown subject.
+     */
+    public AuthorizationContext getAuthorizationContext() {
+        return authorizationContext;
+    }
+
+    private static JsonObject generateThing(final Random random) {
+        final JsonObjectBuilder attributes = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < NUMBER_OF_ATTRIBUTES; i++) {
+            attributes.set("a" + i, JsonFactory.newObjectBuilder()
+                    .set("name", randomText(random, 16))
+                    .set("description", randomText(random, 64))
+                    .set("enabled", random.nextBoolean())
+                    .build());
+        }
+        final JsonObjectBuilder thingBuilder = JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:large-thing")
+                .set("policyId", "org.eclipse.ditto:large-policy")
+                .set("attributes", attributes.build());
+
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        int size = thingBuilder.build().toString().length();
+        for (int i = 0; size < THING_SIZE_IN_CHARS; i++) {
+            final JsonObject feature = generateFeature(random);
+            features.set("f" + i, feature);
+            size += feature.toString().length() + 8;
+        }
+        return thingBuilder.set("features", features.build()).build();
+    }
+
+    private static JsonObject generateFeature(final Random random) {
+        final JsonObjectBuilder properties = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < PROPERTIES_PER_FEATURE; i++) {
+            final JsonArrayBuilder history = JsonFactory.newArrayBuilder();
+            for (int j = 0; j < 4; j++) {
+                history.add(random.nextDouble());
+            }
+            properties.set("p" + i, JsonFactory.newObjectBuilder()
+                    .set("value", random.nextDouble())
+                    .set("unit", randomText(random, 8))
+                    .set("history", history.build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                .set("properties", properties.build())
+                .build();
+    }
+
+    private static String randomText(final Random random, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    private static void collectPaths(final JsonPointer path, final JsonObject jsonObject,
+            final List<JsonPointer> paths) {
+
+        paths.add(path);
+        jsonObject.forEach(field -> {
+            final JsonPointer fieldPath = path.addLeaf(field.getKey());
+            if (field.getValue().isObject()) {
+                collectPaths(fieldPath, field.getValue().asObject(), paths);
+            } else if (!"history".equals(field.getKey().toString())) {
+                paths.add(fieldPath);
+            }
+        });
+    }
+
+    private static Policy generatePolicy(final Random random, final int numberOfSubjects,
+            final List<JsonPointer> paths) {
+
+        final PolicyBuilder policyBuilder =
+                PoliciesModelFactory.newPolicyBuilder(PolicyId.of("org.eclipse.ditto", "large-policy"));
+        final PolicyBuilder.LabelScoped adminEntry = policyBuilder.forLabel("admin")
+                .setGrantedPermissions("thing", "/", READ, WRITE)
+                .setGrantedPermissions("policy", "/", READ, WRITE);
+        for (int i = 0; i < SUBJECTS_PER_ENTRY; i++) {
+            adminEntry.setSubject(subject(i));
+        }
+
+        for (int first = SUBJECTS_PER_ENTRY; first < numberOfSubjects; first += SUBJECTS_PER_ENTRY) {
+            final List<Subject> subjects = new ArrayList<>();
+            for (int i = first; i < Math.min(first + SUBJECTS_PER_ENTRY, numberOfSubjects); i++) {
+                subjects.add(subject(i));
+            }
+            final List<Resource> resources = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final JsonPointer grantedPath = paths.get(random.nextInt(paths.size()));
+                resources.add(resource(grantedPath, randomPermissions(random), Collections.emptyList()));
+                final JsonPointer revokedPath = randomDescendant(random, grantedPath, paths);
+                if (!revokedPath.equals(grantedPath)) {
+                    resources.add(resource(revokedPath, Collections.emptyList(), randomPermissions(random)));
+                }
+            }
+            policyBuilder.set(PoliciesModelFactory.newPolicyEntry("entry" + first, subjects, resources));
+        }
+        return policyBuilder.build();
+    }
+
+    private static Subject subject(final int index) {
+        return Subject.newInstance(subjectId(index), SubjectType.GENERATED);
+    }
+
+    private static String subjectId(final int index) {
+        return "integration:subject" + index;
+    }
+
+    private static List<String> randomPermissions(final Random random) {
+        return random.nextInt(4) == 0 ? Arrays.asList(READ, WRITE) : Collections.singletonList(READ);
+    }
+
+    private static JsonPointer randomDescendant(final Random random, final JsonPointer path,
+            final List<JsonPointer> paths) {
+
+        final List<JsonPointer> descendants = new ArrayList<>();
+        for (final JsonPointer candidate : paths) {
+            if (candidate.getLevelCount() > path.getLevelCount() && isPrefix(path, candidate)) {
+                descendants.add(candidate);
+            }
+        }
+        return descendants.isEmpty() ? path : descendants.get(random.nextInt(descendants.size()));
+    }
+
+    private static boolean isPrefix(final JsonPointer prefix, final JsonPointer path) {
+        for (int i = 0; i < prefix.getLevelCount(); i++) {
+            if (!prefix.get(i).equals(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Resource resource(final JsonPointer path, final Iterable<String> grantedPermissions,
+            final Iterable<String> revokedPermissions) {
+
+        final EffectedPermissions effectedPermissions =
+                EffectedPermissions.newInstance(grantedPermissions, revokedPermissions);
+        return PoliciesModelFactory.newResource(ResourceKey.newInstance("thing", path), effectedPermissions);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench.largepolicies;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LargePolicyWorkload}.
+ */
+public final class LargePolicyWorkloadTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+
+    @Test
+    public void generatesLargeThingAndPolicy() {
+        final LargePolicyWorkload underTest = LargePolicyWorkload.generate(100, 1L);
+
+        assertThat(underTest.getThing().toString().length()).isGreaterThanOrEqualTo(
+                LargePolicyWorkload.THING_SIZE_IN_CHARS);
+        assertThat(underTest.getPolicy().getSize()).isEqualTo(20);
+        assertThat(underTest.getResourceKeys()).contains(THING_ROOT);
+    }
+
+    @Test
+    public void generationIsDeterministic() {
+        final LargePolicyWorkload first = LargePolicyWorkload.generate(50, 1L);
+        final LargePolicyWorkload second = LargePolicyWorkload.generate(50, 1L);
+
+        assertThat(second.getPolicy()).isEqualTo(first.getPolicy());
+        assertThat(second.getThing()).isEqualTo(first.getThing());
+        assertThat(second.getAuthorizationContext()).isEqualTo(first.getAuthorizationContext());
+    }
+
+    @Test
+    public void allEvaluatorsAgreeOnWorkload() {
+        final LargePolicyWorkload workload = LargePolicyWorkload.generate(100, 1L);
+        final Enforcer expected = PolicyEnforcers.memoryOptimizedEvaluator(workload.getPolicy());
+
+        for (final LargePoliciesBenchmark.Evaluator evaluator : LargePoliciesBenchmark.Evaluator.values()) {
+            final Enforcer underTest = evaluator.create(workload.getPolicy());
+            for (final ResourceKey resourceKey : workload.getResourceKeys()) {
+                assertThat(underTest.hasPartialPermissions(resourceKey, workload.getAuthorizationContext(), READ))
+                        .describedAs("%s %s", evaluator, resourceKey)
+                        .isEqualTo(expected.hasPartialPermissions(resourceKey, workload.getAuthorizationContext(),
+                                READ));
+            }
+            assertThat(underTest.getSubjectIdsWithPartialPermission(THING_ROOT, READ))
+                    .isEqualTo(expected.getSubjectIdsWithPartialPermission(THING_ROOT, READ));
+            assertThat(underTest.buildJsonView(THING_ROOT, workload.getThing(), workload.getAuthorizationContext(),
+                    READ))
+                    .isEqualTo(expected.buildJsonView(THING_ROOT, workload.getThing(),
+                            workload.getAuthorizationContext(), READ));
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link BitSetPolicyEnforcer}.
+ */
+public final class BitSetPolicyEnforcerTest {
+
+    @Test
+    public void behavesLikeTrieBasedPolicyEnforcerForRandomPolicies() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 50; i++) {
+            final Policy policy = RandomPolicies.randomPolicy(random);
+            RandomPolicies.assertSameResults(policy.getEntriesSet(),
+                    TrieBasedPolicyEnforcer.newInstance(policy),
+                    BitSetPolicyEnforcer.newInstance(policy),
+                    RandomPolicies.randomAuthorizationContexts(random));
+        }
+    }
+
+    @Test
+    public void buildJsonViewOfNullObject() {
+        final Permissions permissions = Permissions.newInstance("READ", "WRITE");
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("dummy:test", SubjectType.GENERATED)
+                .setGrantedPermissions("foo", "/foo", permissions)
+                .build();
+        final BitSetPolicyEnforcer underTest = BitSetPolicyEnforcer.newInstance(policy);
+
+        final JsonObject createdJsonView = underTest.buildJsonView(ResourceKey.newInstance("foo", "bar"),
+                JsonFactory.nullObject(),
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("itsMe")),
+                Permissions.none());
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.nullObject());
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectType;
+
+/**
+ * Generates random policies over a small set of subjects, permissions and resources and compares enforcers of them.
+ */
+final class RandomPolicies {
+
+    static final List<String> SUBJECT_IDS =
+            Arrays.asList("test:s0", "test:s1", "test:s2", "test:s3", "test:s4", "test:s5");
+
+    private static final List<String> PERMISSIONS = Arrays.asList("READ", "WRITE", "ADMIN");
+
+    private static final List<ResourceKey> POLICY_RESOURCES = Arrays.asList(
+            ResourceKey.newInstance("thing", "/"),
+            ResourceKey.newInstance("thing", "/attributes"),
+            ResourceKey.newInstance("thing", "/attributes/a"),
+            ResourceKey.newInstance("thing", "/attributes/a/b"),
+            ResourceKey.newInstance("thing", "/features/f/properties"),
+            ResourceKey.newInstance("thing", "/features/f/properties/x"),
+            ResourceKey.newInstance("policy", "/"));
+
+    private static final List<ResourceKey> CHECKED_RESOURCES = Arrays.asList(
+            ResourceKey.newInstance("thing", "/"),
+            ResourceKey.newInstance("thing", "/attributes"),
+            ResourceKey.newInstance("thing", "/attributes/a"),
+            ResourceKey.newInstance("thing", "/attributes/a/b"),
+            ResourceKey.newInstance("thing", "/attributes/a/b/c"),
+            ResourceKey.newInstance("thing", "/attributes/z"),
+            ResourceKey.newInstance("thing", "/features"),
+            ResourceKey.newInstance("thing", "/features/f/properties/x"),
+            ResourceKey.newInstance("policy", "/entries"),
+            ResourceKey.newInstance("message", "/"));
+
+    private static final List<Permissions> CHECKED_PERMISSIONS = Arrays.asList(
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"),
+            Permissions.newInstance("READ", "EXECUTE"),
+            Permissions.none());
+
+    private static final JsonObject THING = JsonFactory.newObject("{\"thingId\":\"a:b\",\"attributes\":{\"a\":" +
+            "{\"b\":{\"c\":1},\"d\":[1,{\"e\":2}]},\"z\":true}," +
+            "\"features\":{\"f\":{\"properties\":{\"x\":1,\"y\":2}}}}");
+
+    private RandomPolicies() {
+        throw new AssertionError();
+    }
+
+    static Policy randomPolicy(final Random random) {
+        final PolicyBuilder policyBuilder = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("namespace", "id"));
+        final int numberOfEntries = 1 + random.nextInt(5);
+        for (int i = 0; i < numberOfEntries; i++) {
+            policyBuilder.set(randomPolicyEntry(random, "label" + i));
+        }
+        return policyBuilder.build();
+    }
+
+    static PolicyEntry randomPolicyEntry(final Random random, final String label) {
+        final List<Subject> subjects = new ArrayList<>();
+        randomSubset(random, SUBJECT_IDS, 1).forEach(subjectId -> subjects.add(subject(subjectId)));
+        final List<Resource> resources = new ArrayList<>();
+        randomSubset(random, POLICY_RESOURCES, 1).forEach(resourceKey ->
+                resources.add(randomResource(random, resourceKey)));
+        return PoliciesModelFactory.newPolicyEntry(label, subjects, resources);
+    }
+
+    static Subject subject(final String subjectId) {
+        return Subject.newInstance(subjectId, SubjectType.GENERATED);
+    }
+
+    static Resource randomResource(final Random random) {
+        return randomResource(random, POLICY_RESOURCES.get(random.nextInt(POLICY_RESOURCES.size())));
+    }
+
+    private static Resource randomResource(final Random random, final ResourceKey resourceKey) {
+        final EffectedPermissions effectedPermissions = EffectedPermissions.newInstance(
+                randomSubset(random, PERMISSIONS, 0), randomSubset(random, PERMISSIONS, 0));
+        return PoliciesModelFactory.newResource(resourceKey, effectedPermissions);
+    }
+
+    static List<AuthorizationContext> randomAuthorizationContexts(final Random random) {
+        final List<AuthorizationContext> result = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final List<AuthorizationSubject> subjects = new ArrayList<>();
+            randomSubset(random, SUBJECT_IDS, 0).forEach(id -> subjects.add(AuthorizationSubject.newInstance(id)));
+            subjects.add(AuthorizationSubject.newInstance("test:unknown"));
+            result.add(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects));
+        }
+        return result;
+    }
+
+    /**
+     * Asserts that both enforcers give the same answers for the checked resources and permissions.
+     *
+     * @param description description of the compared enforcers, formatted only on failure.
+     * @param expected the enforcer giving the expected answers.
+     * @param underTest the enforcer under test.
+     * @param authorizationContexts the authorization contexts to check.
+     */
+    @SuppressWarnings("deprecation")
+    static void assertSameResults(final Object description, final Enforcer expected, final Enforcer underTest,
+            final Iterable<AuthorizationContext> authorizationContexts) {
+
+        for (final AuthorizationContext authorizationContext : authorizationContexts) {
+            for (final Permissions permissions : CHECKED_PERMISSIONS) {
+                for (final ResourceKey resourceKey : CHECKED_RESOURCES) {
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                    assertThat(underTest.getSubjectIdsWithPermission(resourceKey, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                    assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                    assertThat(underTest.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+                    assertThat(underTest.buildJsonView(resourceKey, THING, authorizationContext, permissions))
+                            .describedAs("%s %s %s %s", description, authorizationContext, permissions, resourceKey)
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    private static <T> List<T> randomSubset(final Random random, final List<T> elements, final int minSize) {
+        final List<T> result = new ArrayList<>();
+        do {
+            result.clear();
+            for (final T element : elements) {
+                if (random.nextInt(3) == 0) {
+                    result.add(element);
+                }
+            }
+        } while (result.size() < minSize);
+        return result;
+    }
+
+}
@@ -14,6 +14,9 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
+import java.util.Random;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
@@ -24,7 +27,9 @@ import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectId;
 import org.eclipse.ditto.model.policies.SubjectType;
 import org.junit.Test;
 
@@ -47,6 +52,67 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void withPolicyBehavesLikeNewInstance() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10; i++) {
+            Policy policy = RandomPolicies.randomPolicy(random);
+            TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+            for (int j = 0; j < 10; j++) {
+                final Policy previousPolicy = policy;
+                policy = randomModification(random, policy);
+                underTest = underTest.withPolicy(policy);
+
+                assertThat(underTest.getPolicyEntries()).isEqualTo(policy.getEntriesSet());
+                RandomPolicies.assertSameResults(previousPolicy.getEntriesSet() + " -> " + policy.getEntriesSet(),
+                        TrieBasedPolicyEnforcer.newInstance(policy),
+                        underTest,
+                        RandomPolicies.randomAuthorizationContexts(random));
+            }
+        }
+    }
+
+    @Test
+    public void withPolicyDifferingOnlyInRevision() {
+        final Policy policy = defaultPolicy(PolicyId.of("namespace", "id"));
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        final TrieBasedPolicyEnforcer updated = underTest.withPolicy(policy.toBuilder().setRevision(2L).build());
+
+        assertThat(updated.hasUnrestrictedPermissions(ResourceKey.newInstance("foo", "/foo"),
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("dummy:test")),
+                Permissions.newInstance("READ"))).isTrue();
+    }
+
+    private static Policy randomModification(final Random random, final Policy policy) {
+        final String label = "label" + random.nextInt(6);
+        final List<String> subjectIds = RandomPolicies.SUBJECT_IDS;
+        switch (random.nextInt(6)) {
+            case 0:
+                return policy.setEntry(RandomPolicies.randomPolicyEntry(random, label));
+            case 1:
+                return policy.removeEntry(label);
+            case 2:
+                return policy.getEntryFor(label)
+                        .map(entry -> policy.setSubjectFor(label,
+                                RandomPolicies.subject(subjectIds.get(random.nextInt(subjectIds.size())))))
+                        .orElse(policy);
+            case 3:
+                return policy.getEntryFor(label)
+                        .map(entry -> policy.removeSubjectFor(label,
+                                SubjectId.newInstance(subjectIds.get(random.nextInt(subjectIds.size())))))
+                        .orElse(policy);
+            case 4:
+                return policy.getEntryFor(label)
+                        .map(entry -> policy.setResourceFor(label, RandomPolicies.randomResource(random)))
+                        .orElse(policy);
+            default:
+                final Resource resource = RandomPolicies.randomResource(random);
+                return policy.removeResourceFor(label, resource.getResourceKey());
+        }
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
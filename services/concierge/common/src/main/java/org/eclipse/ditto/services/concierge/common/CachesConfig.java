@@ -46,6 +46,14 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the config of the cache of JSON views of retrieved Things.
+     *
+     * @return the config.
+     * @since 1.2.0
+     */
+    CacheConfig getJsonViewCacheConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
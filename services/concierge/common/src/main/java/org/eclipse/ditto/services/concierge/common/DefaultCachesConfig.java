@@ -35,11 +35,13 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final CacheConfig jsonViewCacheConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        jsonViewCacheConfig = DefaultCacheConfig.of(config, "json-view");
     }
 
     /**
@@ -68,6 +70,11 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public CacheConfig getJsonViewCacheConfig() {
+        return jsonViewCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +86,13 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                jsonViewCacheConfig.equals(that.jsonViewCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, jsonViewCacheConfig);
     }
 
     @Override
@@ -93,6 +101,7 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", jsonViewCacheConfig=" + jsonViewCacheConfig +
                 "]";
     }
 
@@ -93,5 +93,16 @@ public final class DefaultCachesConfigTest {
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
+
+        softly.assertThat(underTest.getJsonViewCacheConfig())
+                .as("jsonViewCacheConfig")
+                .satisfies(jsonViewCacheConfig -> {
+                    softly.assertThat(jsonViewCacheConfig.getMaximumSize())
+                            .as(CacheConfig.CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                            .isEqualTo(5000);
+                    softly.assertThat(jsonViewCacheConfig.getExpireAfterWrite())
+                            .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(30L));
+                });
     }
 }
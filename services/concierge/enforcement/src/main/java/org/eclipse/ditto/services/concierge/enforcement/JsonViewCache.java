@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+
+/**
+ * Caches the JSON views of retrieved Things built by enforcers.
+ * <p>
+ * A view is determined by the revision of the Thing, the selected fields, the schema version, the authorization
+ * subjects and the ID and revision of the policy whose enforcer built the view. The revision of the Thing is taken
+ * from the entity tag of the response which is derived from the revision for Things. Keys do not reference the
+ * enforcer itself so that cached views do not keep replaced enforcers alive.
+ * </p>
+ * <p>
+ * Views are built outside of the cache's locks; if several threads miss the same key at the same time, each builds
+ * the view and the first one is cached.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class JsonViewCache {
+
+    private final Cache<Key, JsonObject> views;
+
+    private JsonViewCache(final Cache<Key, JsonObject> views) {
+        this.views = views;
+    }
+
+    /**
+     * Creates a JSON view cache.
+     *
+     * @param cacheConfig the config of the cache.
+     * @param cacheName the name of the cache for metrics.
+     * @param executor the executor for cache maintenance.
+     * @return the cache.
+     * @throws NullPointerException if {@code cacheConfig} or {@code executor} is {@code null}.
+     */
+    public static JsonViewCache of(final CacheConfig cacheConfig, @Nullable final String cacheName,
+            final Executor executor) {
+
+        requireNonNull(cacheConfig, "cacheConfig");
+        requireNonNull(executor, "executor");
+        return new JsonViewCache(CacheFactory.createCache(cacheConfig, cacheName, executor));
+    }
+
+    /**
+     * Returns the cached view of the Thing in a response or the view created by {@code viewBuilder}.
+     * Views of responses without entity tag are never cached.
+     *
+     * @param retrieveThing the command which was answered by {@code response}.
+     * @param response the response containing the full Thing.
+     * @param policyId the ID of the policy whose enforcer builds the view.
+     * @param policyRevision the revision of the policy whose enforcer builds the view.
+     * @param viewBuilder builds the view if it is not cached.
+     * @return the view.
+     */
+    JsonObject getJsonView(final RetrieveThing retrieveThing, final RetrieveThingResponse response,
+            final PolicyId policyId, final long policyRevision, final Supplier<JsonObject> viewBuilder) {
+
+        final Optional<EntityTag> entityTag = response.getDittoHeaders().getETag();
+        if (!entityTag.isPresent()) {
+            return viewBuilder.get();
+        }
+        final Key key = new Key(retrieveThing.getThingEntityId(), entityTag.get(),
+                retrieveThing.getSelectedFields().orElse(null), retrieveThing.getImplementedSchemaVersion(),
+                response.getDittoHeaders().getAuthorizationContext().getAuthorizationSubjects(), policyId,
+                policyRevision);
+        final ConcurrentMap<Key, JsonObject> viewMap = views.asMap();
+        @Nullable final JsonObject cachedView = viewMap.get(key);
+        if (null != cachedView) {
+            return cachedView;
+        }
+        final JsonObject view = viewBuilder.get();
+        @Nullable final JsonObject concurrentlyCachedView = viewMap.putIfAbsent(key, view);
+        return null != concurrentlyCachedView ? concurrentlyCachedView : view;
+    }
+
+    @Immutable
+    private static final class Key {
+
+        private final ThingId thingId;
+        private final EntityTag entityTag;
+        @Nullable private final JsonFieldSelector selectedFields;
+        private final JsonSchemaVersion schemaVersion;
+        private final List<AuthorizationSubject> authorizationSubjects;
+        private final PolicyId policyId;
+        private final long policyRevision;
+
+        private Key(final ThingId thingId, final EntityTag entityTag, @Nullable final JsonFieldSelector selectedFields,
+                final JsonSchemaVersion schemaVersion, final List<AuthorizationSubject> authorizationSubjects,
+                final PolicyId policyId, final long policyRevision) {
+
+            this.thingId = thingId;
+            this.entityTag = entityTag;
+            this.selectedFields = selectedFields;
+            this.schemaVersion = schemaVersion;
+            this.authorizationSubjects = authorizationSubjects;
+            this.policyId = policyId;
+            this.policyRevision = policyRevision;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return policyRevision == that.policyRevision &&
+                    thingId.equals(that.thingId) &&
+                    entityTag.equals(that.entityTag) &&
+                    Objects.equals(selectedFields, that.selectedFields) &&
+                    schemaVersion == that.schemaVersion &&
+                    authorizationSubjects.equals(that.authorizationSubjects) &&
+                    policyId.equals(that.policyId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(thingId, entityTag, selectedFields, schemaVersion, authorizationSubjects, policyId,
+                    policyRevision);
+        }
+
+    }
+
+}
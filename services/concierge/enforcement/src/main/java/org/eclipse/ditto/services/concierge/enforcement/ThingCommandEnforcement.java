@@ -143,6 +143,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private final PreEnforcer preEnforcer;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
     private final PolicyIdReferencePlaceholderResolver policyIdReferencePlaceholderResolver;
+    @Nullable private final JsonViewCache jsonViewCache;
 
     private ThingCommandEnforcement(final Contextual<ThingCommand> data,
             final ActorRef thingsShardRegion,
@@ -151,7 +152,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
             final PreEnforcer preEnforcer,
-            final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
+            final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+            @Nullable final JsonViewCache jsonViewCache) {
 
         super(data);
         this.thingsShardRegion = requireNonNull(thingsShardRegion);
@@ -162,6 +164,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
         this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
         this.preEnforcer = preEnforcer;
+        this.jsonViewCache = jsonViewCache;
         thingEnforcerRetriever =
                 PolicyOrAclEnforcerRetrieverFactory.create(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         policyEnforcerRetriever = new EnforcerRetriever(IdentityCache.INSTANCE, policyEnforcerCache);
@@ -196,7 +199,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 final EntityId policyId = enforcerKeyEntry.getValueOrThrow().getId();
                 enforcementResult = enforceThingCommandByPolicyEnforcer(signal(),
                         PolicyId.of(policyId),
-                        enforcerEntry.getValueOrThrow());
+                        enforcerEntry.getValueOrThrow(),
+                        enforcerEntry.getRevision());
             }
             return CompletableFuture.completedFuture(enforcementResult);
         }
@@ -316,10 +320,12 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      *
      * @param policyId Id of the thing's policy.
      * @param enforcer the policy enforcer.
+     * @param policyRevision revision of the policy from which {@code enforcer} was built.
      * @return the contextual including message and receiver
      */
     private Contextual<WithDittoHeaders> enforceThingCommandByPolicyEnforcer(
-            final ThingCommand<?> thingCommand, final PolicyId policyId, final Enforcer enforcer) {
+            final ThingCommand<?> thingCommand, final PolicyId policyId, final Enforcer enforcer,
+            final long policyRevision) {
 
         return authorizeByPolicy(enforcer, thingCommand)
                 .map(commandWithReadSubjects -> {
@@ -330,10 +336,12 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
 
                             final RetrieveThing retrieveThing = (RetrieveThing) thingQueryCommand;
                             return withMessageToReceiverViaAskFuture(retrieveThing, sender(),
-                                    () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer));
+                                    () -> retrieveThingAndPolicy(retrieveThing, policyId, enforcer,
+                                            policyRevision));
                         } else {
                             return withMessageToReceiverViaAskFuture(thingQueryCommand, sender(),
-                                    () -> askThingsShardRegionAndBuildJsonView(thingQueryCommand, enforcer));
+                                    () -> askThingsShardRegionAndBuildJsonView(thingQueryCommand, policyId,
+                                            enforcer, policyRevision));
                         }
                     } else {
                         return forwardToThingsShardRegion(commandWithReadSubjects);
@@ -346,16 +354,20 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * Retrieve for response of a query command and limit the response according to a policy enforcer.
      *
      * @param commandWithReadSubjects the command to ask.
+     * @param policyId ID of the thing's policy.
      * @param enforcer enforcer to build JsonView with.
+     * @param policyRevision revision of the policy from which {@code enforcer} was built.
      * @return always {@code true}.
      */
     private CompletionStage<WithDittoHeaders> askThingsShardRegionAndBuildJsonView(
-            final ThingQueryCommand commandWithReadSubjects, final Enforcer enforcer) {
+            final ThingQueryCommand commandWithReadSubjects, final PolicyId policyId, final Enforcer enforcer,
+            final long policyRevision) {
 
         return Patterns.ask(thingsShardRegion, commandWithReadSubjects, getAskTimeout())
                 .handle((response, error) -> {
                     if (response instanceof ThingQueryCommandResponse) {
-                        return reportJsonViewForThingQuery((ThingQueryCommandResponse) response, enforcer);
+                        return reportJsonViewForThingQuery(commandWithReadSubjects,
+                                (ThingQueryCommandResponse) response, policyId, enforcer, policyRevision);
                     } else if (response instanceof DittoRuntimeException) {
                         return (DittoRuntimeException) response;
                     } else if (isAskTimeoutException(response, error)) {
@@ -377,10 +389,11 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param retrieveThing the retrieve-thing command.
      * @param policyId ID of the thing's policy.
      * @param enforcer the enforcer for the command.
+     * @param policyRevision revision of the policy from which {@code enforcer} was built.
      * @return always {@code true}.
      */
     private CompletionStage<WithDittoHeaders> retrieveThingAndPolicy(final RetrieveThing retrieveThing,
-            final PolicyId policyId, final Enforcer enforcer) {
+            final PolicyId policyId, final Enforcer enforcer, final long policyRevision) {
 
         final DittoHeaders dittoHeadersWithoutPreconditionHeaders = retrieveThing.getDittoHeaders()
                 .toBuilder()
@@ -414,7 +427,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                     });
         } else {
             // sender is not authorized to view the policy, ignore the request to embed policy.
-            return askThingsShardRegionAndBuildJsonView(retrieveThing, enforcer);
+            return askThingsShardRegionAndBuildJsonView(retrieveThing, policyId, enforcer, policyRevision);
         }
     }
 
@@ -521,19 +534,56 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     /**
      * Mixin-private: report thing query response with view on entity restricted by enforcer.
      *
+     * @param thingQueryCommand the query.
      * @param thingQueryCommandResponse response of query.
+     * @param policyId ID of the thing's policy.
      * @param enforcer the enforcer.
+     * @param policyRevision revision of the policy from which {@code enforcer} was built.
      */
-    private ThingQueryCommandResponse reportJsonViewForThingQuery(
-            final ThingQueryCommandResponse<?> thingQueryCommandResponse, final Enforcer enforcer) {
+    private ThingQueryCommandResponse reportJsonViewForThingQuery(final ThingQueryCommand<?> thingQueryCommand,
+            final ThingQueryCommandResponse<?> thingQueryCommandResponse, final PolicyId policyId,
+            final Enforcer enforcer, final long policyRevision) {
 
         try {
-            return buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse, enforcer);
+            if (null != jsonViewCache && thingQueryCommand instanceof RetrieveThing &&
+                    thingQueryCommandResponse instanceof RetrieveThingResponse) {
+                return buildCachedJsonViewForRetrieveThingResponse((RetrieveThing) thingQueryCommand,
+                        (RetrieveThingResponse) thingQueryCommandResponse, policyId, enforcer, policyRevision,
+                        jsonViewCache);
+            } else {
+                return buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse, enforcer);
+            }
         } catch (final RuntimeException e) {
             throw reportError("Error after building JsonView", e);
         }
     }
 
+    /**
+     * Limit view on the Thing of a {@code RetrieveThingResponse} by enforcer, reusing views built before for the same
+     * Thing revision, query, authorization subjects and policy revision.
+     *
+     * @param retrieveThing the command answered by {@code response}.
+     * @param response the response.
+     * @param policyId ID of the thing's policy.
+     * @param enforcer the enforcer.
+     * @param policyRevision revision of the policy from which {@code enforcer} was built.
+     * @param jsonViewCache the cache of JSON views.
+     * @return response with view on entity restricted by enforcer.
+     */
+    private static RetrieveThingResponse buildCachedJsonViewForRetrieveThingResponse(
+            final RetrieveThing retrieveThing, final RetrieveThingResponse response, final PolicyId policyId,
+            final Enforcer enforcer, final long policyRevision, final JsonViewCache jsonViewCache) {
+
+        final JsonValue entity = response.getEntity();
+        if (entity.isObject()) {
+            final JsonObject filteredView = jsonViewCache.getJsonView(retrieveThing, response, policyId, policyRevision,
+                    () -> getJsonViewForThingQueryCommandResponse(entity.asObject(), response, enforcer));
+            return response.setEntity(filteredView);
+        } else {
+            return response.setEntity(entity);
+        }
+    }
+
     /**
      * Query caches again to authorize a {@code CreateThing} command with explicit policy ID and no inline policy.
      *
@@ -549,7 +599,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         return policyEnforcerRetriever.retrieve(policyEntityId, (policyIdEntry, policyEnforcerEntry) -> {
             if (policyEnforcerEntry.exists()) {
                 final Contextual<WithDittoHeaders> enforcementResult =
-                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getValueOrThrow());
+                        enforceThingCommandByPolicyEnforcer(command, policyId, policyEnforcerEntry.getValueOrThrow(),
+                                policyEnforcerEntry.getRevision());
                 return CompletableFuture.completedFuture(enforcementResult);
             } else {
                 throw errorForExistingThingWithDeletedPolicy(command, command.getThingEntityId(), policyId);
@@ -1189,8 +1240,14 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      */
     public static final class Provider implements EnforcementProvider<ThingCommand> {
 
-        private static final List<SubjectIssuer> DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION =
+        /**
+         * The subject issuers for which subjects are created when migrating an ACL to a policy by default.
+         *
+         * @since 1.2.0
+         */
+        public static final List<SubjectIssuer> DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION =
                 Collections.singletonList(SubjectIssuer.GOOGLE);
+
         private final ActorRef thingsShardRegion;
         private final ActorRef policiesShardRegion;
         private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
@@ -1198,6 +1255,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         private final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache;
         private final PreEnforcer preEnforcer;
         private final List<SubjectIssuer> subjectIssuersForPolicyMigration;
+        @Nullable private final JsonViewCache jsonViewCache;
 
         /**
          * Constructor.
@@ -1240,6 +1298,33 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
                 @Nullable final PreEnforcer preEnforcer,
                 final List<SubjectIssuer> subjectIssuersForPolicyMigration) {
 
+            this(thingsShardRegion, policiesShardRegion, thingIdCache, policyEnforcerCache, aclEnforcerCache,
+                    preEnforcer, subjectIssuersForPolicyMigration, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param thingsShardRegion the ActorRef to the Things shard region.
+         * @param policiesShardRegion the ActorRef to the Policies shard region.
+         * @param thingIdCache the thing-id-cache.
+         * @param policyEnforcerCache the policy-enforcer cache.
+         * @param aclEnforcerCache the acl-enforcer cache.
+         * @param preEnforcer pre-enforcer function to block undesirable messages to policies shard region.
+         * @param subjectIssuersForPolicyMigration a list of {@code SubjectIssuer}s for which a {@link Subject} will be
+         * created per ACL SID.
+         * @param jsonViewCache the cache of JSON views of retrieved Things, or {@code null} to build every view anew.
+         * @since 1.2.0
+         */
+        public Provider(final ActorRef thingsShardRegion,
+                final ActorRef policiesShardRegion,
+                final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+                final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache,
+                @Nullable final PreEnforcer preEnforcer,
+                final List<SubjectIssuer> subjectIssuersForPolicyMigration,
+                @Nullable final JsonViewCache jsonViewCache) {
+
             this.thingsShardRegion = requireNonNull(thingsShardRegion);
             this.policiesShardRegion = requireNonNull(policiesShardRegion);
             this.thingIdCache = requireNonNull(thingIdCache);
@@ -1247,6 +1332,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             this.aclEnforcerCache = requireNonNull(aclEnforcerCache);
             this.preEnforcer = Optional.ofNullable(preEnforcer).orElse(CompletableFuture::completedFuture);
             this.subjectIssuersForPolicyMigration = requireNonNull(subjectIssuersForPolicyMigration);
+            this.jsonViewCache = jsonViewCache;
         }
 
         @Override
@@ -1269,7 +1355,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         @Override
         public AbstractEnforcement<ThingCommand> createEnforcement(final Contextual<ThingCommand> context) {
             return new ThingCommandEnforcement(context, thingsShardRegion, policiesShardRegion, thingIdCache,
-                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration);
+                    policyEnforcerCache, aclEnforcerCache, preEnforcer, subjectIssuersForPolicyMigration,
+                    jsonViewCache);
         }
 
     }
@@ -23,7 +23,7 @@ import java.util.stream.Collectors;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.json.JsonFieldDefinition;
-import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.things.ThingId;
@@ -115,14 +115,10 @@ public final class PolicyIdReferencePlaceholderResolver implements ReferencePlac
             final ReferencePlaceholder referencePlaceholder, final DittoHeaders dittoHeaders) {
 
         if (response instanceof RetrieveThingResponse) {
-            final JsonValue entity = ((RetrieveThingResponse) response).getEntity();
-            if (!entity.isObject()) {
-                LOGGER.withCorrelationId(dittoHeaders)
-                        .error("Expected RetrieveThingResponse to contain a JsonObject as Entity but was: {}", entity);
-                throw GatewayInternalErrorException.newBuilder().dittoHeaders(dittoHeaders).build();
-            }
-            return entity.asObject()
-                    .getValue(JsonFieldDefinition.ofString(referencePlaceholder.getReferencedField()))
+            final JsonPointer referencedField = referencePlaceholder.getReferencedField();
+            // only parse the referenced field of the retrieved thing
+            return ((RetrieveThingResponse) response).getEntity(referencedField.toFieldSelector())
+                    .getValue(JsonFieldDefinition.ofString(referencedField))
                     .orElseThrow(() -> unknownFieldException(referencePlaceholder, dittoHeaders));
 
         } else if (response instanceof ThingErrorResponse) {
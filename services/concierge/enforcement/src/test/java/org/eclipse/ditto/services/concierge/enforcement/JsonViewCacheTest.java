@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link JsonViewCache}.
+ */
+public final class JsonViewCacheTest {
+
+    private static final ThingId THING_ID = ThingId.of("namespace", "thing");
+    private static final JsonObject THING = JsonObject.newBuilder().set("thingId", THING_ID.toString()).build();
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "policy");
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(authorizationContext("test:user"))
+            .build();
+
+    private final AtomicInteger builtViews = new AtomicInteger();
+    private final Supplier<JsonObject> viewBuilder = () -> {
+        builtViews.incrementAndGet();
+        return THING;
+    };
+
+    private JsonViewCache underTest;
+
+    @Before
+    public void setUp() {
+        underTest = JsonViewCache.of(DefaultCacheConfig.of(ConfigFactory.empty(), "json-view"), null, Runnable::run);
+        builtViews.set(0);
+    }
+
+    @Test
+    public void reusesViewOfSameRevision() {
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, HEADERS);
+
+        underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L, viewBuilder);
+
+        assertThat(builtViews.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void buildsViewForOtherRevisionSubjectsOrPolicy() {
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, HEADERS);
+        final DittoHeaders otherHeaders = HEADERS.toBuilder()
+                .authorizationContext(authorizationContext("test:other"))
+                .build();
+
+        underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response(2L, HEADERS), POLICY_ID, 1L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response(2L, otherHeaders), POLICY_ID, 1L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response(2L, otherHeaders), POLICY_ID, 2L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response(2L, otherHeaders), PolicyId.of("namespace", "other"), 2L,
+                viewBuilder);
+
+        assertThat(builtViews.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void keepsFirstViewIfBuiltConcurrently() {
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, HEADERS);
+        final JsonObject concurrentView = JsonObject.newBuilder().set("concurrent", true).build();
+
+        // a concurrent miss of the same key caches its view while this view is built
+        final JsonObject view = underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L,
+                () -> underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L,
+                        () -> concurrentView));
+
+        assertThat(view).isSameAs(concurrentView);
+        assertThat(underTest.getJsonView(retrieveThing, response(1L, HEADERS), POLICY_ID, 1L, viewBuilder))
+                .isSameAs(concurrentView);
+        assertThat(builtViews.get()).isZero();
+    }
+
+    @Test
+    public void doesNotCacheViewsWithoutEntityTag() {
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, HEADERS);
+        final RetrieveThingResponse response = RetrieveThingResponse.of(THING_ID, THING, HEADERS);
+
+        underTest.getJsonView(retrieveThing, response, POLICY_ID, 1L, viewBuilder);
+        underTest.getJsonView(retrieveThing, response, POLICY_ID, 1L, viewBuilder);
+
+        assertThat(builtViews.get()).isEqualTo(2);
+    }
+
+    private static RetrieveThingResponse response(final long revision, final DittoHeaders dittoHeaders) {
+        return RetrieveThingResponse.of(THING_ID, THING, dittoHeaders.toBuilder()
+                .eTag(EntityTag.strong("\"rev:" + revision + "\""))
+                .build());
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId));
+    }
+
+}
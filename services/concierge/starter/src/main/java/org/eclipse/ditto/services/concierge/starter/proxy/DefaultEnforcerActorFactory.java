@@ -34,6 +34,7 @@ import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
+import org.eclipse.ditto.services.concierge.enforcement.JsonViewCache;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
@@ -80,6 +81,7 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
     private static final String ENFORCER_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_enforcer_cache_";
     private static final String ID_CACHE_METRIC_NAME_PREFIX = "ditto_authorization_id_cache_";
+    private static final String JSON_VIEW_CACHE_METRIC_NAME = "ditto_authorization_json_view_cache";
 
     @Override
     public ActorRef startEnforcerActor(final ActorContext context, final ConciergeConfig conciergeConfig,
@@ -114,6 +116,9 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
                         actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
 
+        final JsonViewCache jsonViewCache = JsonViewCache.of(cachesConfig.getJsonViewCacheConfig(),
+                JSON_VIEW_CACHE_METRIC_NAME, actorSystem.dispatcher());
+
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
         final PreEnforcer preEnforcer = newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
@@ -122,7 +127,8 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final Set<EnforcementProvider<?>> enforcementProviders = new HashSet<>();
         enforcementProviders.add(new ThingCommandEnforcement.Provider(thingsShardRegionProxy,
-                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer));
+                policiesShardRegionProxy, thingIdCache, policyEnforcerCache, aclEnforcerCache, preEnforcer,
+                ThingCommandEnforcement.Provider.DEFAULT_SUBJECT_ISSUERS_FOR_POLICY_MIGRATION, jsonViewCache));
         enforcementProviders.add(new PolicyCommandEnforcement.Provider(policiesShardRegionProxy, policyEnforcerCache));
         enforcementProviders.add(new LiveSignalEnforcement.Provider(thingIdCache, policyEnforcerCache,
                 aclEnforcerCache, liveSignalPub));
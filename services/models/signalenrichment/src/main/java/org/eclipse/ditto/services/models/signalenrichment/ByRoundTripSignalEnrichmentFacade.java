@@ -23,7 +23,6 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
-import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.signals.base.Signal;
@@ -80,16 +79,16 @@ public final class ByRoundTripSignalEnrichmentFacade implements SignalEnrichment
 
         final CompletionStage<Object> askResult = Patterns.ask(commandHandler, command, askTimeout);
 
-        return askResult.thenCompose(ByRoundTripSignalEnrichmentFacade::extractPartialThing);
+        return askResult.thenCompose(response -> extractPartialThing(response, jsonFieldSelector));
     }
 
-    private static CompletionStage<JsonObject> extractPartialThing(final Object object) {
+    private static CompletionStage<JsonObject> extractPartialThing(final Object object,
+            final JsonFieldSelector jsonFieldSelector) {
+
         if (object instanceof RetrieveThingResponse) {
+            // only parse the selected fields of the plain JSON of the response
             final RetrieveThingResponse retrieveThingResponse = (RetrieveThingResponse) object;
-            final JsonSchemaVersion jsonSchemaVersion = retrieveThingResponse.getDittoHeaders()
-                    .getSchemaVersion()
-                    .orElse(JsonSchemaVersion.LATEST);
-            return CompletableFuture.completedFuture(retrieveThingResponse.getEntity(jsonSchemaVersion));
+            return CompletableFuture.completedFuture(retrieveThingResponse.getEntity(jsonFieldSelector));
         } else {
             final CompletableFuture<JsonObject> failedFuture = new CompletableFuture<>();
             failedFuture.completeExceptionally(toThrowable(object));
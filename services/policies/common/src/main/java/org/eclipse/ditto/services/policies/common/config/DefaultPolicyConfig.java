@@ -22,7 +22,11 @@ import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 
 import com.typesafe.config.Config;
@@ -38,11 +42,15 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final GroupCommitConfig groupCommitConfig;
+    private final EventCompressionConfig eventCompressionConfig;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
+        eventCompressionConfig = DefaultEventCompressionConfig.of(scopedConfig);
     }
 
     /**
@@ -71,6 +79,16 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
+    @Override
+    public EventCompressionConfig getEventCompressionConfig() {
+        return eventCompressionConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +100,15 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         final DefaultPolicyConfig that = (DefaultPolicyConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
+                Objects.equals(eventCompressionConfig, that.eventCompressionConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, groupCommitConfig,
+                eventCompressionConfig);
     }
 
     @Override
@@ -96,6 +117,8 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 " supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
+                ", eventCompressionConfig=" + eventCompressionConfig +
                 "]";
     }
 
@@ -16,11 +16,14 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
 /**
  * Provides configuration settings for policy entities.
  */
 @Immutable
-public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithGroupCommitConfig, WithEventCompressionConfig {
 }
@@ -28,7 +28,9 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
-import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalEventCompressor;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
@@ -58,11 +60,22 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
 
     protected final GlobalEventRegistry eventRegistry;
     @Nullable private final ExtendedActorSystem system;
+    private final JournalEventCompressor journalEventCompressor;
 
     protected AbstractPolicyMongoEventAdapter(final Logger logger, @Nullable final ExtendedActorSystem system) {
         this.logger = logger;
         this.system = system;
         eventRegistry = GlobalEventRegistry.getInstance();
+        journalEventCompressor = getJournalEventCompressor(system);
+    }
+
+    private static JournalEventCompressor getJournalEventCompressor(@Nullable final ExtendedActorSystem system) {
+        if (null == system) {
+            return JournalEventCompressor.disabled();
+        }
+        final DittoPoliciesConfig policiesConfig =
+                DittoPoliciesConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+        return JournalEventCompressor.of(policiesConfig.getPolicyConfig().getEventCompressionConfig());
     }
 
     @Override
@@ -82,8 +95,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return journalEventCompressor.toJournal(jsonObject);
         } else {
             throw new IllegalArgumentException(
                     "Unable to toJournal a non-'PolicyEvent' object! Was: " + event.getClass());
@@ -93,7 +105,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom((BsonValue) event));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -101,11 +113,12 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     }
 
     @Nullable
-    private Event tryToCreateEventFrom(final JsonValue json) {
+    private Event tryToCreateEventFrom(final BsonValue bsonValue) {
         try {
-            return createEventFrom(json);
+            return createEventFrom(journalEventCompressor.fromJournal(bsonValue));
         } catch (final JsonParseException | DittoRuntimeException e) {
-            final String message = MessageFormat.format("Could not deserialize PolicyEvent JSON: ''{0}''", json);
+            final String message =
+                    MessageFormat.format("Could not deserialize PolicyEvent JSON: ''{0}''", bsonValue);
             if (system != null) {
                 system.log().error(e, message);
             } else {
@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,17 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} which stores snapshots in the format determined by the given
+     * config.
+     *
+     * @param snapshotConfig the snapshot config.
+     * @since 1.2.0
+     */
+    public PolicyMongoSnapshotAdapter(final SnapshotConfig snapshotConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), snapshotConfig.isCompressed());
+    }
+
     @Override
     protected Policy createJsonifiableFrom(final JsonObject jsonObject) {
         return PoliciesModelFactory.newPolicy(jsonObject);
@@ -23,8 +23,11 @@ import static org.eclipse.ditto.services.policies.persistence.testhelper.ETagTes
 import static org.eclipse.ditto.services.policies.persistence.testhelper.ETagTestUtils.retrieveResourceResponse;
 import static org.eclipse.ditto.services.policies.persistence.testhelper.ETagTestUtils.retrieveSubjectResponse;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.awaitility.Awaitility;
 import org.eclipse.ditto.model.base.entity.Revision;
@@ -90,6 +93,8 @@ import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.AbstractActor;
 import akka.actor.Actor;
 import akka.actor.ActorRef;
@@ -932,6 +937,51 @@ public final class PolicyPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifySubjectsWithGroupCommit() {
+        tearDownBase();
+        setup(ConfigFactory.parseString(
+                "ditto.policies.policy.group-commit { enabled = true, window = 100ms, max-events = 3 }"));
+
+        new TestKit(actorSystem) {
+            {
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow(NoSuchElementException::new);
+                final ActorRef underTest = createPersistenceActorFor(this, policy);
+
+                final CreatePolicy createPolicyCommand = CreatePolicy.of(policy, dittoHeadersV2);
+                underTest.tell(createPolicyCommand, getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+
+                // the first three modifications are persisted as soon as the group is full, the last one after the
+                // window has passed
+                final List<Subject> subjectsToAdd = IntStream.range(0, 4)
+                        .mapToObj(i -> Subject.newInstance(SubjectIssuer.GOOGLE, "groupedSubject" + i))
+                        .collect(Collectors.toList());
+                subjectsToAdd.forEach(subject ->
+                        underTest.tell(ModifySubject.of(policyId, POLICY_LABEL, subject, dittoHeadersV2), getRef()));
+                subjectsToAdd.forEach(subject ->
+                        expectMsgEquals(modifySubjectResponse(policyId, POLICY_LABEL, subject, dittoHeadersV2, true)));
+
+                // restart actor to verify that all modifications were persisted
+                terminate(this, underTest);
+                final ActorRef underTestAfterRestart = createPersistenceActorFor(this, policy);
+
+                final PolicyBuilder expectedPolicyBuilder = PoliciesModelFactory.newPolicyBuilder(policy);
+                subjectsToAdd.forEach(subject -> expectedPolicyBuilder.setSubjectFor(POLICY_LABEL, subject));
+                final Policy expectedPolicy = expectedPolicyBuilder.setRevision(5L).build();
+                final RetrievePolicy retrievePolicy = RetrievePolicy.of(policyId, dittoHeadersV2);
+                final RetrievePolicyResponse expectedResponse =
+                        retrievePolicyResponse(expectedPolicy, retrievePolicy.getDittoHeaders());
+
+                Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+                    underTestAfterRestart.tell(retrievePolicy, getRef());
+                    expectMsgEquals(expectedResponse);
+                });
+            }
+        };
+    }
+
     @Test
     public void testPolicyPersistenceActorRespondsToCleanupCommandInCreatedState() {
         new TestKit(actorSystem) {{
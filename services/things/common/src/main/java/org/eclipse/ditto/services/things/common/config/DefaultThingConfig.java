@@ -21,9 +21,17 @@ import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CoalescingConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultCoalescingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
 
 import com.typesafe.config.Config;
 
@@ -38,11 +46,19 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final GroupCommitConfig groupCommitConfig;
+    private final CoalescingConfig coalescingConfig;
+    private final EventCompressionConfig eventCompressionConfig;
+    private final WarmUpConfig warmUpConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
+        coalescingConfig = DefaultCoalescingConfig.of(scopedConfig);
+        eventCompressionConfig = DefaultEventCompressionConfig.of(scopedConfig);
+        warmUpConfig = DefaultWarmUpConfig.of(scopedConfig);
     }
 
     /**
@@ -71,6 +87,26 @@ public final class DefaultThingConfig implements ThingConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
+    @Override
+    public CoalescingConfig getCoalescingConfig() {
+        return coalescingConfig;
+    }
+
+    @Override
+    public EventCompressionConfig getEventCompressionConfig() {
+        return eventCompressionConfig;
+    }
+
+    @Override
+    public WarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +118,17 @@ public final class DefaultThingConfig implements ThingConfig {
         final DefaultThingConfig that = (DefaultThingConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
+                Objects.equals(coalescingConfig, that.coalescingConfig) &&
+                Objects.equals(eventCompressionConfig, that.eventCompressionConfig) &&
+                Objects.equals(warmUpConfig, that.warmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, groupCommitConfig,
+                coalescingConfig, eventCompressionConfig, warmUpConfig);
     }
 
     @Override
@@ -96,6 +137,10 @@ public final class DefaultThingConfig implements ThingConfig {
                 "supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
+                ", coalescingConfig=" + coalescingConfig +
+                ", eventCompressionConfig=" + eventCompressionConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 "]";
     }
 
@@ -16,11 +16,16 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithCoalescingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEventCompressionConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithWarmUpConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
-public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithGroupCommitConfig, WithCoalescingConfig, WithEventCompressionConfig, WithWarmUpConfig {
 }
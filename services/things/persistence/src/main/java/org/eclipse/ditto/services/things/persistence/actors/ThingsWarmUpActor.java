@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingIdInvalidException;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.akka.streaming.HotEntitiesPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+
+import akka.Done;
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+
+/**
+ * Actor which flattens the latency peak after restarts of the Things service: on graceful shutdown it records the IDs
+ * of the Things hosted in the local shard region, on startup it claims one recent record of a stopped instance and
+ * recovers its Things by waking them up with a bounded parallelism and rate. As every record is claimed once, the
+ * warm-up does not depend on stable host names and the rate is not multiplied by the number of instances.
+ * <p>
+ * Recording is triggered by {@link Control#RECORD_HOT_THINGS}, e.g. from a task of the coordinated shutdown; the
+ * actor replies with {@link Done} once the IDs are recorded or recording failed.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class ThingsWarmUpActor extends AbstractActor {
+
+    /**
+     * The name of this Actor.
+     */
+    public static final String ACTOR_NAME = "thingsWarmUp";
+
+    private static final String CORRELATION_ID_PREFIX = "things-warm-up-actor-triggered:";
+
+    private static final JsonFieldSelector THING_ID_ONLY = JsonFieldSelector.newInstance("thingId");
+
+    // waking up a Thing takes as long as its recovery
+    private static final Duration WAKE_UP_TIMEOUT = Duration.ofSeconds(30L);
+
+    private static final Duration SHARD_REGION_STATE_TIMEOUT = Duration.ofSeconds(3L);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef thingsShardRegion;
+    private final String instanceId;
+    private final HotEntitiesPersistence hotEntitiesPersistence;
+    private final WarmUpConfig warmUpConfig;
+    private final ActorMaterializer materializer;
+
+    @SuppressWarnings("unused")
+    private ThingsWarmUpActor(final ActorRef thingsShardRegion,
+            final String instanceId,
+            final HotEntitiesPersistence hotEntitiesPersistence,
+            final WarmUpConfig warmUpConfig) {
+
+        this.thingsShardRegion = thingsShardRegion;
+        this.instanceId = instanceId;
+        this.hotEntitiesPersistence = hotEntitiesPersistence;
+        this.warmUpConfig = warmUpConfig;
+        materializer = ActorMaterializer.create(getContext());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this Actor.
+     *
+     * @param thingsShardRegion the shard region of Things.
+     * @param instanceId identifies the service instance among the running instances.
+     * @param hotEntitiesPersistence records and retrieves the IDs of hot Things.
+     * @param warmUpConfig the config of the warm-up.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef thingsShardRegion,
+            final String instanceId,
+            final HotEntitiesPersistence hotEntitiesPersistence,
+            final WarmUpConfig warmUpConfig) {
+
+        return Props.create(ThingsWarmUpActor.class, thingsShardRegion, instanceId, hotEntitiesPersistence,
+                warmUpConfig);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        warmUp();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.RECORD_HOT_THINGS, msg -> recordHotThings())
+                .match(WarmUpCompleted.class, this::warmUpCompleted)
+                .match(HotThingsRecorded.class, this::hotThingsRecorded)
+                .matchAny(m -> {
+                    log.warning("Unknown message: {}", m);
+                    unhandled(m);
+                }).build();
+    }
+
+    private void warmUp() {
+        final Instant notBefore = Instant.now().minus(warmUpConfig.getMaxAge());
+        log.info("Warming up Things recorded since <{}>.", notBefore);
+        final CompletionStage<WarmUpCompleted> warmUpCompleted =
+                hotEntitiesPersistence.claimHotEntityIds(notBefore)
+                        .mapConcat(ThingsWarmUpActor::toThingId)
+                        .statefulMapConcat(() -> {
+                            final Set<ThingId> seenIds = new HashSet<>();
+                            return id -> seenIds.add(id) ? Collections.singletonList(id) : Collections.emptyList();
+                        })
+                        .throttle(warmUpConfig.getRateEntities(), warmUpConfig.getRateFrequency())
+                        .mapAsyncUnordered(warmUpConfig.getParallelism(), this::wakeUp)
+                        .runWith(Sink.fold(0, (count, wokenUp) -> wokenUp ? count + 1 : count), materializer)
+                        .handle(WarmUpCompleted::new);
+        Patterns.pipe(warmUpCompleted, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void warmUpCompleted(final WarmUpCompleted warmUpCompleted) {
+        if (null != warmUpCompleted.error) {
+            log.error(warmUpCompleted.error, "Warm-up of Things failed: {}", warmUpCompleted.error.getMessage());
+        } else {
+            log.info("Warm-up completed: woke up <{}> Things.", warmUpCompleted.count);
+        }
+    }
+
+    private static List<ThingId> toThingId(final String entityId) {
+        try {
+            return Collections.singletonList(ThingId.of(entityId));
+        } catch (final ThingIdInvalidException e) {
+            // the recorded entity ID is no Thing ID
+            return Collections.emptyList();
+        }
+    }
+
+    private CompletionStage<Boolean> wakeUp(final ThingId thingId) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId(CORRELATION_ID_PREFIX + thingId)
+                .build();
+
+        // any response, including an error for a deleted Thing, means that the Thing was recovered
+        return Patterns.ask(thingsShardRegion, SudoRetrieveThing.of(thingId, THING_ID_ONLY, dittoHeaders),
+                WAKE_UP_TIMEOUT)
+                .handle((response, error) -> null == error);
+    }
+
+    private void recordHotThings() {
+        final ActorRef sender = getSender();
+        final CompletionStage<HotThingsRecorded> hotThingsRecorded =
+                Patterns.ask(thingsShardRegion, ShardRegion.getShardRegionStateInstance(), SHARD_REGION_STATE_TIMEOUT)
+                        .thenCompose(shardRegionState -> {
+                            final List<String> entityIds = getEntityIds(shardRegionState);
+                            return hotEntitiesPersistence.setHotEntityIds(instanceId, entityIds)
+                                    .runWith(Sink.head(), materializer)
+                                    .thenApply(done -> entityIds.size());
+                        })
+                        .handle((count, error) -> new HotThingsRecorded(count, error, sender));
+        Patterns.pipe(hotThingsRecorded, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void hotThingsRecorded(final HotThingsRecorded hotThingsRecorded) {
+        if (null != hotThingsRecorded.error) {
+            final Throwable cause = hotThingsRecorded.error instanceof CompletionException
+                    ? hotThingsRecorded.error.getCause()
+                    : hotThingsRecorded.error;
+            log.error(cause, "Failed to record hot Things: {}", cause.getMessage());
+        } else {
+            log.info("Recorded <{}> hot Things for the warm-up after restart.", hotThingsRecorded.count);
+        }
+        hotThingsRecorded.sender.tell(Done.getInstance(), getSelf());
+    }
+
+    private List<String> getEntityIds(final Object shardRegionState) {
+        if (!(shardRegionState instanceof ShardRegion.CurrentShardRegionState)) {
+            throw new IllegalArgumentException(
+                    "Expected CurrentShardRegionState, got: <" + shardRegionState + ">");
+        }
+        return ((ShardRegion.CurrentShardRegionState) shardRegionState).getShards()
+                .stream()
+                .flatMap(shardState -> shardState.getEntityIds().stream())
+                .limit(warmUpConfig.getMaxEntities())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Messages this actor handles.
+     */
+    public enum Control {
+
+        /**
+         * Records the IDs of the Things hosted in the local shard region.
+         */
+        RECORD_HOT_THINGS
+
+    }
+
+    private static final class WarmUpCompleted {
+
+        @Nullable private final Integer count;
+        @Nullable private final Throwable error;
+
+        private WarmUpCompleted(@Nullable final Integer count, @Nullable final Throwable error) {
+            this.count = count;
+            this.error = error;
+        }
+
+    }
+
+    private static final class HotThingsRecorded {
+
+        @Nullable private final Integer count;
+        @Nullable private final Throwable error;
+        private final ActorRef sender;
+
+        private HotThingsRecorded(@Nullable final Integer count, @Nullable final Throwable error,
+                final ActorRef sender) {
+            this.count = count;
+            this.error = error;
+            this.sender = sender;
+        }
+
+    }
+
+}
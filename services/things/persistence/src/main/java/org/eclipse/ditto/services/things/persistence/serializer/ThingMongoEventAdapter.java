@@ -35,7 +35,9 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
-import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalEventCompressor;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
@@ -91,9 +93,17 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final GlobalEventRegistry eventRegistry;
+    private final JournalEventCompressor journalEventCompressor;
 
     public ThingMongoEventAdapter(@Nullable final ExtendedActorSystem system) {
+        this(system, getJournalEventCompressor(system));
+    }
+
+    ThingMongoEventAdapter(@Nullable final ExtendedActorSystem system,
+            final JournalEventCompressor journalEventCompressor) {
+
         this.system = system;
+        this.journalEventCompressor = journalEventCompressor;
         eventRegistry = GlobalEventRegistry.getInstance();
 
         migrationMappings = new HashMap<>();
@@ -125,6 +135,15 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                 jsonObject -> migrateModifiedToCreated(jsonObject, FeaturePropertiesCreated.TYPE));
     }
 
+    private static JournalEventCompressor getJournalEventCompressor(@Nullable final ExtendedActorSystem system) {
+        if (null == system) {
+            return JournalEventCompressor.disabled();
+        }
+        final DittoThingsConfig thingsConfig =
+                DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+        return JournalEventCompressor.of(thingsConfig.getThingConfig().getEventCompressionConfig());
+    }
+
     @Override
     public String manifest(final Object event) {
         if (event instanceof Event) {
@@ -144,8 +163,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
-            final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-            return dittoBsonJson.parse(jsonObject);
+            return journalEventCompressor.toJournal(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -154,7 +172,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom((BsonValue) event));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -162,11 +180,11 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     }
 
     @Nullable
-    private Event tryToCreateEventFrom(final JsonValue json) {
+    private Event tryToCreateEventFrom(final BsonValue bsonValue) {
         try {
-            return createEventFrom(json);
+            return createEventFrom(journalEventCompressor.fromJournal(bsonValue));
         } catch (final JsonParseException | DittoRuntimeException e) {
-            final String message = MessageFormat.format("Could not deserialize ThingEvent JSON: ''{0}''", json);
+            final String message = MessageFormat.format("Could not deserialize ThingEvent JSON: ''{0}''", bsonValue);
             if (system != null) {
                 system.log().error(e, message);
             } else {
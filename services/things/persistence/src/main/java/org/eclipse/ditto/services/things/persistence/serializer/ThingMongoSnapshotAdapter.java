@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,17 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter} which stores snapshots in the format determined by the given
+     * config.
+     *
+     * @param snapshotConfig the snapshot config.
+     * @since 1.2.0
+     */
+    public ThingMongoSnapshotAdapter(final SnapshotConfig snapshotConfig) {
+        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class), snapshotConfig.isCompressed());
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.ExtendedActorSystem;
+import akka.persistence.journal.EventAdapter;
+import akka.persistence.journal.EventSeq;
+
+/**
+ * Event adapter for tests which fails to adapt events of the attribute {@link #REJECTED_ATTRIBUTE}, which makes the
+ * journal reject them, and delegates to {@link ThingMongoEventAdapter} otherwise.
+ */
+public final class RejectingThingMongoEventAdapter implements EventAdapter {
+
+    /**
+     * Key of the attribute whose events are rejected.
+     */
+    static final JsonPointer REJECTED_ATTRIBUTE = JsonPointer.of("rejected");
+
+    private static final JsonPointer REJECTED_RESOURCE_PATH = JsonPointer.of("attributes").append(REJECTED_ATTRIBUTE);
+
+    private final ThingMongoEventAdapter delegate;
+
+    public RejectingThingMongoEventAdapter(@Nullable final ExtendedActorSystem system) {
+        delegate = new ThingMongoEventAdapter(system);
+    }
+
+    @Override
+    public String manifest(final Object event) {
+        return delegate.manifest(event);
+    }
+
+    @Override
+    public Object toJournal(final Object event) {
+        if (event instanceof ThingEvent && REJECTED_RESOURCE_PATH.equals(((ThingEvent<?>) event).getResourcePath())) {
+            throw new IllegalArgumentException("Rejecting event: " + event);
+        }
+        return delegate.toJournal(event);
+    }
+
+    @Override
+    public EventSeq fromJournal(final Object event, final String manifest) {
+        return delegate.fromJournal(event, manifest);
+    }
+
+}
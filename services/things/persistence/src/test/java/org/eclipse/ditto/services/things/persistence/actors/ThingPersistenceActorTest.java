@@ -20,8 +20,10 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyAclResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyAttributeResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyAttributesResponse;
+import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyFeaturePropertyResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyFeaturesResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.modifyThingResponse;
+import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveAttributeResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveAttributesResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveFeatureResponse;
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveFeaturesResponse;
@@ -753,6 +755,338 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAttributeWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 3 }"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer attributeKey = JsonFactory.newPointer("counter");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the first three modifications are persisted as soon as the group is full, the last one after the
+                // window has passed
+                for (int i = 0; i < 4; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                for (int i = 0; i < 4; i++) {
+                    expectMsgEquals(
+                            modifyAttributeResponse(thingId, attributeKey, JsonValue.of(i), dittoHeadersV2, 0 == i));
+                }
+
+                // restart actor to verify that all modifications were persisted
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                underTestAfterRestart.tell(RetrieveAttribute.of(thingId, attributeKey, dittoHeadersV2), getRef());
+                expectMsgEquals(retrieveAttributeResponse(thingId, attributeKey, JsonValue.of(3), dittoHeadersV2));
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeWithGroupCommitRejectedByJournal() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 3 }\n" +
+                        "akka-contrib-mongodb-persistence-things-journal.event-adapters.mongodbobject = \"" +
+                        RejectingThingMongoEventAdapter.class.getName() + "\""));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                watch(underTest);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the journal rejects the group commit as a whole, thus no command of the group succeeds
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, RejectingThingMongoEventAdapter.REJECTED_ATTRIBUTE,
+                        JsonValue.of(true), dittoHeadersV2), getRef());
+                expectMsgClass(ThingUnavailableException.class);
+                expectMsgClass(ThingUnavailableException.class);
+
+                // the actor stops as its state contains the rejected events and recovers from the journal
+                expectTerminated(underTest);
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(1L));
+                assertThat(retrievedThing).hasNotAttribute(counterKey);
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeWithCoalescing() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+        final JsonPointer otherKey = JsonFactory.newPointer("other");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the creation of the counter is persisted as is, its modifications are coalesced into one event
+                // while every sender gets its reply
+                for (int i = 0; i < 4; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                underTest.tell(ModifyAttribute.of(thingId, otherKey, JsonValue.of(true), dittoHeadersV2), getRef());
+                for (int i = 0; i < 4; i++) {
+                    expectMsgEquals(
+                            modifyAttributeResponse(thingId, counterKey, JsonValue.of(i), dittoHeadersV2, 0 == i));
+                }
+                expectMsgEquals(modifyAttributeResponse(thingId, otherKey, JsonValue.of(true), dittoHeadersV2, true));
+
+                // restart actor to verify that the coalesced events were persisted with consecutive revisions
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(
+                        Thing.JsonFields.REVISION.getPointer(), Thing.JsonFields.ATTRIBUTES.getPointer());
+                underTestAfterRestart.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(fieldSelector)
+                        .build(), getRef());
+                final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(4L));
+                assertThat(retrievedThing).hasAttribute(counterKey, JsonValue.of(3));
+                assertThat(retrievedThing).hasAttribute(otherKey, JsonValue.of(true));
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeIsNotCoalescedAcrossRetrieveThing() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+        final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(
+                Thing.JsonFields.REVISION.getPointer(), Thing.JsonFields.ATTRIBUTES.getPointer());
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the retrieved revision has to keep its content, thus the last modification must not be coalesced
+                // into the one answered by the query
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(0), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(fieldSelector)
+                        .build(), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(2), dittoHeadersV2), getRef());
+
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(0), dittoHeadersV2, true));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(1), dittoHeadersV2, false));
+                final Thing queriedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(queriedThing).hasRevision(ThingRevision.newInstance(3L));
+                assertThat(queriedThing).hasAttribute(counterKey, JsonValue.of(1));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(2), dittoHeadersV2, false));
+
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(4L));
+                assertThat(retrievedThing).hasAttribute(counterKey, JsonValue.of(2));
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeWithCoalescingBehindUnrelatedPath() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+        final JsonPointer otherKey = JsonFactory.newPointer("other");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the last modification of the counter is coalesced into the pending one in front of the other
+                // attribute because the other attribute does not overlap with the counter
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(0), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, otherKey, JsonValue.of(true), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(2), dittoHeadersV2), getRef());
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(0), dittoHeadersV2, true));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(1), dittoHeadersV2, false));
+                expectMsgEquals(modifyAttributeResponse(thingId, otherKey, JsonValue.of(true), dittoHeadersV2, true));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(2), dittoHeadersV2, false));
+
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(4L));
+                assertThat(retrievedThing).hasAttribute(counterKey, JsonValue.of(2));
+                assertThat(retrievedThing).hasAttribute(otherKey, JsonValue.of(true));
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeIsNotCoalescedAcrossOverlappingModification() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+        final Attributes attributes = ThingsModelFactory.newAttributesBuilder()
+                .set(counterKey, 10)
+                .build();
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the modification of all attributes overlaps with the counter, thus the modifications of the counter
+                // before and after it must not be coalesced
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(0), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(1), dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttributes.of(thingId, attributes, dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(2), dittoHeadersV2), getRef());
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(0), dittoHeadersV2, true));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(1), dittoHeadersV2, false));
+                expectMsgEquals(modifyAttributesResponse(thingId, attributes, dittoHeadersV2, false));
+                expectMsgEquals(modifyAttributeResponse(thingId, counterKey, JsonValue.of(2), dittoHeadersV2, false));
+
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(5L));
+                assertThat(retrievedThing).hasAttribute(counterKey, JsonValue.of(2));
+            }
+        };
+    }
+
+    @Test
+    public void modifyAttributeIsNotCoalescedForOtherNamespace() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing { enabled = true, namespaces = [\"org.eclipse.other\"] }"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final JsonPointer counterKey = JsonFactory.newPointer("counter");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the namespace of the thing is not configured for coalescing, thus every modification is persisted
+                for (int i = 0; i < 4; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, counterKey, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                }
+                for (int i = 0; i < 4; i++) {
+                    expectMsgEquals(
+                            modifyAttributeResponse(thingId, counterKey, JsonValue.of(i), dittoHeadersV2, 0 == i));
+                }
+
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(5L));
+                assertThat(retrievedThing).hasAttribute(counterKey, JsonValue.of(3));
+            }
+        };
+    }
+
+    @Test
+    public void modifyFeaturePropertyWithCoalescing() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString(
+                "ditto.things.thing.group-commit { enabled = true, window = 100ms, max-events = 10 }\n" +
+                        "ditto.things.thing.coalescing.enabled = true"));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final String featureId = thing.getFeatures()
+                .flatMap(features -> features.stream().findFirst())
+                .map(Feature::getId)
+                .orElseThrow(() -> new NoSuchElementException("Failed to get feature from thing!"));
+        final JsonPointer propertyPointer = JsonFactory.newPointer("counter");
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // the creation of the property is persisted as is, its modifications are coalesced into one event
+                for (int i = 0; i < 4; i++) {
+                    underTest.tell(ModifyFeatureProperty.of(thingId, featureId, propertyPointer, JsonValue.of(i),
+                            dittoHeadersV2), getRef());
+                }
+                for (int i = 0; i < 4; i++) {
+                    expectMsgEquals(modifyFeaturePropertyResponse(thingId, featureId, propertyPointer,
+                            JsonValue.of(i), dittoHeadersV2, 0 == i));
+                }
+
+                final Thing retrievedThing = retrieveThingAfterRestart(this, underTest, thing);
+                assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(3L));
+                assertThat(retrievedThing.getFeatures()
+                        .flatMap(features -> features.getFeature(featureId))
+                        .flatMap(feature -> feature.getProperty(propertyPointer)))
+                        .contains(JsonValue.of(3));
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
@@ -1617,6 +1951,21 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
                 dittoHeaders);
     }
 
+    private Thing retrieveThingAfterRestart(final TestKit testKit, final ActorRef underTest, final Thing thing) {
+        // restart actor to verify what was persisted
+        testKit.watch(underTest);
+        underTest.tell(PoisonPill.getInstance(), testKit.getRef());
+        testKit.expectTerminated(underTest);
+        final ActorRef underTestAfterRestart = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+        final JsonFieldSelector fieldSelector = JsonFactory.newFieldSelector(Thing.JsonFields.REVISION.getPointer(),
+                Thing.JsonFields.ATTRIBUTES.getPointer(), Thing.JsonFields.FEATURES.getPointer());
+        underTestAfterRestart.tell(RetrieveThing.getBuilder(getIdOrThrow(thing), dittoHeadersV2)
+                .withSelectedFields(fieldSelector)
+                .build(), testKit.getRef());
+        return testKit.expectMsgClass(RetrieveThingResponse.class).getThing();
+    }
+
     private ActorRef createPersistenceActorFor(final Thing thing) {
         return createPersistenceActorFor(getIdOrThrow(thing));
     }
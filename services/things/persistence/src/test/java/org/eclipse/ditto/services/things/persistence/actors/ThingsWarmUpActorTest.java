@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.utils.akka.streaming.HotEntitiesPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.cluster.sharding.ShardRegion;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+
+/**
+ * Unit test for {@link ThingsWarmUpActor}.
+ */
+public final class ThingsWarmUpActorTest {
+
+    private static final WarmUpConfig WARM_UP_CONFIG = DefaultWarmUpConfig.of(ConfigFactory.parseString(
+            "warm-up { enabled = true, max-entities = 2, max-age = 5m }"));
+
+    private static final String INSTANCE_ID = "things-1";
+
+    private static ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS), false);
+    }
+
+    @Test
+    public void warmUpWakesUpEachRecordedThingOnce() {
+        new TestKit(actorSystem) {{
+            final TestProbe shardRegion = new TestProbe(actorSystem);
+            final FakeHotEntitiesPersistence persistence =
+                    new FakeHotEntitiesPersistence("ns:thing1", "no thing ID", "ns:thing2", "ns:thing1");
+
+            actorSystem.actorOf(ThingsWarmUpActor.props(shardRegion.ref(), INSTANCE_ID, persistence, WARM_UP_CONFIG));
+
+            final SudoRetrieveThing wakeUp1 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            final SudoRetrieveThing wakeUp2 = shardRegion.expectMsgClass(SudoRetrieveThing.class);
+            shardRegion.expectNoMessage(scala.concurrent.duration.Duration.apply(500, TimeUnit.MILLISECONDS));
+
+            assertThat(wakeUp1.getEntityId().toString()).isEqualTo("ns:thing1");
+            assertThat(wakeUp2.getEntityId().toString()).isEqualTo("ns:thing2");
+            assertThat(persistence.notBefore).isBetween(Instant.now().minus(Duration.ofMinutes(6L)),
+                    Instant.now().minus(Duration.ofMinutes(4L)));
+        }};
+    }
+
+    @Test
+    public void recordHotThingsRecordsEntityIdsOfShardRegion() {
+        new TestKit(actorSystem) {{
+            final TestProbe shardRegion = new TestProbe(actorSystem);
+            final FakeHotEntitiesPersistence persistence = new FakeHotEntitiesPersistence();
+            final ActorRef underTest =
+                    actorSystem.actorOf(ThingsWarmUpActor.props(shardRegion.ref(), INSTANCE_ID, persistence, WARM_UP_CONFIG));
+
+            underTest.tell(ThingsWarmUpActor.Control.RECORD_HOT_THINGS, getRef());
+
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(new ShardRegion.CurrentShardRegionState(toScalaSet(new HashSet<>(Arrays.asList(
+                    new ShardRegion.ShardState("1", toScalaSet(Collections.singleton("ns:thing1"))),
+                    new ShardRegion.ShardState("2", toScalaSet(new HashSet<>(Arrays.asList("ns:thing2", "ns:thing3"))))
+            )))));
+            expectMsg(Done.getInstance());
+
+            assertThat(persistence.instanceId).isEqualTo(INSTANCE_ID);
+            assertThat(persistence.recordedIds.join()).hasSize(WARM_UP_CONFIG.getMaxEntities())
+                    .isSubsetOf("ns:thing1", "ns:thing2", "ns:thing3");
+        }};
+    }
+
+    private static <T> scala.collection.immutable.Set<T> toScalaSet(final Set<T> set) {
+        return JavaConverters.asScalaSetConverter(set).asScala().toSet();
+    }
+
+    private static final class FakeHotEntitiesPersistence implements HotEntitiesPersistence {
+
+        private final List<String> hotEntityIds;
+        private final CompletableFuture<List<String>> recordedIds = new CompletableFuture<>();
+        private volatile String instanceId;
+        private volatile Instant notBefore;
+
+        private FakeHotEntitiesPersistence(final String... hotEntityIds) {
+            this.hotEntityIds = Arrays.asList(hotEntityIds);
+        }
+
+        @Override
+        public Source<Done, NotUsed> setHotEntityIds(final String instanceId, final List<String> entityIds) {
+            this.instanceId = instanceId;
+            recordedIds.complete(entityIds);
+            return Source.single(Done.getInstance());
+        }
+
+        @Override
+        public Source<String, NotUsed> claimHotEntityIds(final Instant notBefore) {
+            this.notBefore = notBefore;
+            return Source.from(hotEntityIds);
+        }
+
+    }
+
+}
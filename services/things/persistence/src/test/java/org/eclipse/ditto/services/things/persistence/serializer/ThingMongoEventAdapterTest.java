@@ -14,13 +14,17 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.eclipse.ditto.model.base.assertions.DittoBaseAssertions.assertThat;
 
+import org.bson.BsonDocument;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.services.utils.persistence.mongo.JournalEventCompressor;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventCompressionConfig;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
 import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
 import org.eclipse.ditto.signals.events.things.AclEntryModified;
@@ -42,8 +46,11 @@ import org.eclipse.ditto.signals.events.things.FeaturesCreated;
 import org.eclipse.ditto.signals.events.things.FeaturesModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 /**
  * Tests for {@link ThingMongoEventAdapter}.
  */
@@ -617,6 +624,33 @@ public final class ThingMongoEventAdapterTest {
                 .isEqualTo(TestConstants.Feature.FLUX_CAPACITOR_PROPERTIES.toJsonString());
     }
 
+    @Test
+    public void eventsAboveThresholdAreStoredCompressedAndReadableByEitherAdapter() {
+        final ThingMongoEventAdapter compressingAdapter = new ThingMongoEventAdapter(null,
+                JournalEventCompressor.of(DefaultEventCompressionConfig.of(ConfigFactory.parseString(
+                        "event-compression { enabled = true, threshold = 1k }"))));
+        final ThingModified largeEvent =
+                ThingModified.of(TestConstants.Thing.THING_V2, TestConstants.Thing.REVISION_NUMBER,
+                        DittoHeaders.empty());
+        final AttributeModified smallEvent = AttributeModified.of(TestConstants.Thing.THING_ID,
+                JsonPointer.of("a"), JsonValue.of(1), TestConstants.Thing.REVISION_NUMBER, DittoHeaders.empty());
+
+        final BsonDocument compressed = (BsonDocument) compressingAdapter.toJournal(largeEvent);
+        final BsonDocument uncompressed = (BsonDocument) compressingAdapter.toJournal(smallEvent);
+
+        assertThat(compressed.containsKey("__eventEncoding")).isTrue();
+        assertThat(compressed.getString("type").getValue()).isEqualTo(ThingModified.TYPE);
+        assertThat(compressed.containsKey("thing")).isFalse();
+        assertThat(uncompressed.containsKey("__eventEncoding")).isFalse();
+        assertThat(uncompressed).isEqualTo(underTest.toJournal(smallEvent));
+        for (final ThingMongoEventAdapter adapter : new ThingMongoEventAdapter[]{underTest, compressingAdapter}) {
+            final Object actual = adapter.fromJournal(compressed, null).events().head();
+            assertThat(actual).isInstanceOf(ThingModified.class);
+            assertThat(((ThingModified) actual).getThing()).isEqualTo(largeEvent.getThing());
+            assertThat(adapter.fromJournal(uncompressed, null).events().head()).isInstanceOf(AttributeModified.class);
+        }
+    }
+
     private static Object toDbObject(final JsonObject jsonObject) {
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(jsonObject);
@@ -17,9 +17,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
 
@@ -48,4 +51,22 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void compressedSnapshotsAreReadableByEitherAdapter() {
+        final ThingMongoSnapshotAdapter compressingAdapter = new ThingMongoSnapshotAdapter(
+                DefaultSnapshotConfig.of(ConfigFactory.parseString("snapshot.compressed = true")));
+        final Thing thing = TestConstants.Thing.THING_V2;
+
+        final Object rawSnapshotEntity = compressingAdapter.toSnapshotStore(thing);
+
+        assertThat(rawSnapshotEntity).isInstanceOf(BsonDocument.class);
+        final BsonDocument bsonDocument = (BsonDocument) rawSnapshotEntity;
+        // scalar fields stay queryable while nested objects are compressed
+        assertThat(bsonDocument.getString("thingId").getValue()).isEqualTo(TestConstants.Thing.THING_ID.toString());
+        assertThat(bsonDocument.containsKey("attributes")).isFalse();
+        final SnapshotOffer snapshotOffer = new SnapshotOffer(SNAPSHOT_METADATA, bsonDocument);
+        assertThat(compressingAdapter.fromSnapshotStore(snapshotOffer)).isEqualTo(thing);
+        assertThat(underTest.fromSnapshotStore(snapshotOffer)).isEqualTo(thing);
+    }
+
+}
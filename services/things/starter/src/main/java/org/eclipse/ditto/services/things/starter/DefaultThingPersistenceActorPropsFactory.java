@@ -16,9 +16,13 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.argumentNotEm
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -30,21 +34,26 @@ import akka.actor.Props;
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
-    private DefaultThingPersistenceActorPropsFactory() {}
+    private final SnapshotAdapter<Thing> snapshotAdapter;
+
+    private DefaultThingPersistenceActorPropsFactory(final SnapshotAdapter<Thing> snapshotAdapter) {
+        this.snapshotAdapter = snapshotAdapter;
+    }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
+     * @param snapshotConfig the config determining the format of Thing snapshots.
      * @return the instance.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory getInstance() {
-        return new DefaultThingPersistenceActorPropsFactory();
+    static DefaultThingPersistenceActorPropsFactory getInstance(final SnapshotConfig snapshotConfig) {
+        return new DefaultThingPersistenceActorPropsFactory(new ThingMongoSnapshotAdapter(snapshotConfig));
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub);
+        return ThingPersistenceActor.props(thingId, distributedPub, snapshotAdapter);
     }
 }
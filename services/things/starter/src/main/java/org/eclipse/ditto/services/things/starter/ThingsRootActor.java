@@ -17,6 +17,7 @@ import static akka.http.javadsl.server.Directives.logResult;
 import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.CLUSTER_ROLE;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
@@ -28,21 +29,27 @@ import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActo
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStreamingActorCreator;
+import org.eclipse.ditto.services.things.persistence.actors.ThingsWarmUpActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
 import org.eclipse.ditto.services.utils.health.DefaultHealthCheckingActorFactory;
 import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmUpConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoHotEntitiesPersistence;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
@@ -74,6 +81,10 @@ public final class ThingsRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "thingsRoot";
 
+    private static final String WARM_UP_COLLECTION_NAME = "things_warm_up";
+
+    private static final Duration RECORD_HOT_THINGS_TIMEOUT = Duration.ofSeconds(5L);
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
@@ -98,6 +109,11 @@ public final class ThingsRootActor extends DittoRootActor {
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
+        final WarmUpConfig warmUpConfig = thingsConfig.getThingConfig().getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            startWarmUpActor(thingsShardRegion, thingsConfig, warmUpConfig);
+        }
+
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
                 ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
                         actorSystem.settings().config(), thingsConfig.getPersistenceOperationsConfig()));
@@ -181,6 +197,32 @@ public final class ThingsRootActor extends DittoRootActor {
         return Props.create(ThingsRootActor.class, thingsConfig, pubSubMediator, materializer, propsFactory);
     }
 
+    private void startWarmUpActor(final ActorRef thingsShardRegion, final ThingsConfig thingsConfig,
+            final WarmUpConfig warmUpConfig) {
+
+        final DittoMongoClient mongoClient = MongoClientWrapper.newInstance(thingsConfig.getMongoDbConfig());
+        final MongoHotEntitiesPersistence hotEntitiesPersistence =
+                MongoHotEntitiesPersistence.of(WARM_UP_COLLECTION_NAME, mongoClient);
+        final ActorRef warmUpActor = startChildActor(ThingsWarmUpActor.ACTOR_NAME,
+                ThingsWarmUpActor.props(thingsShardRegion, InstanceIdentifierSupplier.getInstance().get(),
+                        hotEntitiesPersistence, warmUpConfig));
+
+        // record the hot Things before the shard region hands off its shards
+        final CoordinatedShutdown coordinatedShutdown = CoordinatedShutdown.get(getContext().getSystem());
+        coordinatedShutdown.addTask(
+                CoordinatedShutdown.PhaseServiceRequestsDone(), "record_hot_things", () -> {
+                    log.info("Recording hot Things for the warm-up after restart ...");
+                    return Patterns.ask(warmUpActor, ThingsWarmUpActor.Control.RECORD_HOT_THINGS,
+                            RECORD_HOT_THINGS_TIMEOUT)
+                            .handle((result, error) -> Done.getInstance());
+                });
+        // close the client once the hot Things were recorded in the earlier phase
+        coordinatedShutdown.addTask(CoordinatedShutdown.PhaseServiceStop(), "close_warm_up_mongo_client", () -> {
+            mongoClient.close();
+            return CompletableFuture.completedFuture(Done.getInstance());
+        });
+    }
+
     private static Route createRoute(final ActorSystem actorSystem, final ActorRef healthCheckingActor) {
         final StatusRoute statusRoute = new StatusRoute(new ClusterStatusSupplier(Cluster.get(actorSystem)),
                 healthCheckingActor, actorSystem);
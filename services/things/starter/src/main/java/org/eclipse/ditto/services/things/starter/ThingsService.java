@@ -64,7 +64,8 @@ public final class ThingsService extends DittoService<ThingsConfig> {
             final ActorMaterializer materializer) {
 
         return ThingsRootActor.props(thingsConfig, pubSubMediator, materializer,
-                DefaultThingPersistenceActorPropsFactory.getInstance());
+                DefaultThingPersistenceActorPropsFactory.getInstance(
+                        thingsConfig.getThingConfig().getSnapshotConfig()));
     }
 
 }
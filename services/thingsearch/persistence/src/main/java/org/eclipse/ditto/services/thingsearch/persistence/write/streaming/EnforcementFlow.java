@@ -44,8 +44,11 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerInterner;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerUpdater;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +72,7 @@ final class EnforcementFlow {
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final PolicyEnforcerInterner policyEnforcerInterner;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
@@ -76,6 +80,7 @@ final class EnforcementFlow {
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PolicyEnforcerInterner policyEnforcerInterner,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
@@ -83,6 +88,7 @@ final class EnforcementFlow {
 
         this.thingsShardRegion = thingsShardRegion;
         this.policyEnforcerCache = policyEnforcerCache;
+        this.policyEnforcerInterner = policyEnforcerInterner;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
@@ -107,16 +113,31 @@ final class EnforcementFlow {
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
         final StreamCacheConfig streamCacheConfig = updaterStreamConfig.getCacheConfig();
 
+        final PolicyEnforcerInterner policyEnforcerInterner = PolicyEnforcerInterner.newInstance();
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCacheLoader =
-                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegion);
+                new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegion, policyEnforcerInterner);
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, streamCacheConfig,
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
+        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, policyEnforcerInterner, askTimeout,
                 streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
     }
 
+    /**
+     * Update the cached enforcer of a policy by a policy event instead of reloading it.
+     * A cached enforcer whose revision is not the direct predecessor of the event is left untouched; it is reloaded
+     * as soon as a thing with a newer policy revision is enforced.
+     *
+     * @param policyEvent the policy event.
+     */
+    void updateCachedEnforcer(final PolicyEvent<?> policyEvent) {
+        policyEnforcerCache.asMap().computeIfPresent(getPolicyEntityId(policyEvent.getPolicyEntityId()),
+                (policyId, cachedEntry) ->
+                        PolicyEnforcerUpdater.applyEvent(cachedEntry, policyEvent, policyEnforcerInterner)
+                                .orElse(cachedEntry));
+    }
+
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
         return EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
     }
@@ -28,6 +28,7 @@ import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
@@ -131,6 +132,16 @@ public final class SearchUpdaterStream {
                 .run(actorMaterializer);
     }
 
+    /**
+     * Update the cached policy enforcer used by this stream by a policy event instead of reloading it.
+     *
+     * @param policyEvent the policy event.
+     * @since 1.2.0
+     */
+    public void updateCachedEnforcer(final PolicyEvent<?> policyEvent) {
+        enforcementFlow.updateCachedEnforcer(policyEvent);
+    }
+
     private Source<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSource() {
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
         final StreamStageConfig retrievalConfig = streamConfig.getRetrievalConfig();
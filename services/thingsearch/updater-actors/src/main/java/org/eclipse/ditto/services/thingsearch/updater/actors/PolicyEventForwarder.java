@@ -17,6 +17,7 @@ import static akka.cluster.pubsub.DistributedPubSubMediator.SubscribeAck;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -63,6 +64,7 @@ final class PolicyEventForwarder extends AbstractActor {
     private final ActorRef thingsUpdater;
     private final ThingsSearchUpdaterPersistence persistence;
     private final BlockNamespaceBehavior blockNamespaceBehavior;
+    private final Consumer<PolicyEvent<?>> enforcerCacheUpdater;
     private final Duration interval;
 
     private Map<PolicyId, Long> policyRevisions = new HashMap<>();
@@ -72,10 +74,12 @@ final class PolicyEventForwarder extends AbstractActor {
     private PolicyEventForwarder(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final Consumer<PolicyEvent<?>> enforcerCacheUpdater) {
 
         this.thingsUpdater = thingsUpdater;
         this.persistence = persistence;
+        this.enforcerCacheUpdater = enforcerCacheUpdater;
         blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
         interval = DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
                 .getStreamConfig().getWriteInterval();
@@ -92,14 +96,18 @@ final class PolicyEventForwarder extends AbstractActor {
      * @param pubSubMediator Akka pub-sub-mediator
      * @param thingsUpdater thingsUpdater
      * @param blockedNamespaces blocked namespaces.
+     * @param persistence the search updater persistence.
+     * @param enforcerCacheUpdater updates cached policy enforcers by policy events of non-blocked namespaces.
      * @return the Props object.
      */
     public static Props props(final ActorRef pubSubMediator,
             final ActorRef thingsUpdater,
             final BlockedNamespaces blockedNamespaces,
-            final ThingsSearchUpdaterPersistence persistence) {
+            final ThingsSearchUpdaterPersistence persistence,
+            final Consumer<PolicyEvent<?>> enforcerCacheUpdater) {
 
-        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence);
+        return Props.create(PolicyEventForwarder.class, pubSubMediator, thingsUpdater, blockedNamespaces, persistence,
+                enforcerCacheUpdater);
     }
 
     @Override
@@ -131,6 +139,7 @@ final class PolicyEventForwarder extends AbstractActor {
         blockNamespaceBehavior.block(policyEvent)
                 .whenComplete((result, error) -> {
                     if (error == null) {
+                        enforcerCacheUpdater.accept(policyEvent);
                         self.tell(PolicyTag.of(policyEvent.getPolicyEntityId(), policyEvent.getRevision()), self);
                     }
                 });
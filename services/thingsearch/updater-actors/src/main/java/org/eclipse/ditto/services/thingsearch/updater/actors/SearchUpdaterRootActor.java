@@ -108,9 +108,10 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ActorRef updaterShardRegion =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
-        updaterStreamKillSwitch =
-                startSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
+        final SearchUpdaterStream searchUpdaterStream =
+                createSearchUpdaterStream(searchConfig, actorSystem, shardRegionFactory, numberOfShards,
                         updaterShardRegion, changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+        updaterStreamKillSwitch = searchUpdaterStream.start(getContext());
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
@@ -135,7 +136,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         // start policy event forwarder
         final Props policyEventForwarderProps =
                 PolicyEventForwarder.props(pubSubMediator, thingsUpdaterActor, blockedNamespaces,
-                        searchUpdaterPersistence);
+                        searchUpdaterPersistence, searchUpdaterStream::updateCachedEnforcer);
         startChildActor(PolicyEventForwarder.ACTOR_NAME, policyEventForwarderProps);
 
         // start background sync actor as cluster singleton
@@ -225,7 +226,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         return ClusterUtil.startSingleton(getContext(), SEARCH_ROLE, actorName, props);
     }
 
-    private KillSwitch startSearchUpdaterStream(final SearchConfig searchConfig,
+    private static SearchUpdaterStream createSearchUpdaterStream(final SearchConfig searchConfig,
             final ActorSystem actorSystem,
             final ShardRegionFactory shardRegionFactory,
             final int numberOfShards,
@@ -237,11 +238,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final ActorRef thingsShard = shardRegionFactory.getThingsShardRegion(numberOfShards);
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
 
-        final SearchUpdaterStream searchUpdaterStream =
-                SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, mongoDatabase, blockedNamespaces);
-
-        return searchUpdaterStream.start(getContext());
+        return SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
+                changeQueueActor, mongoDatabase, blockedNamespaces);
     }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.akka.streaming;
+
+import java.time.Instant;
+import java.util.List;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Defines operations for recording the IDs of hot entities of a service instance, e.g. on shutdown, and for claiming
+ * them again, e.g. to recover these entities proactively after a restart.
+ * <p>
+ * Records are not bound to the instance which recorded them: instances of a rolling restart usually do not keep
+ * their host names, so any starting instance claims one of the records left by a stopped instance.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public interface HotEntitiesPersistence {
+
+    /**
+     * Replaces the IDs of hot entities recorded by the given instance.
+     *
+     * @param instanceId identifies the service instance among the running instances, e.g. by its host name.
+     * @param entityIds the IDs of the hot entities of the instance.
+     * @return source that completes after the IDs are recorded.
+     */
+    Source<Done, NotUsed> setHotEntityIds(String instanceId, List<String> entityIds);
+
+    /**
+     * Claims the most recent record of hot entity IDs which was recorded not before the given instant and which was
+     * not claimed yet. A claimed record is removed, so that no other instance recovers the same entities. Records
+     * older than the given instant are removed as well.
+     *
+     * @param notBefore the instant from which on records are relevant.
+     * @return source of the entity IDs of the claimed record; empty if there is no such record.
+     */
+    Source<String, NotUsed> claimHotEntityIds(Instant notBefore);
+
+}
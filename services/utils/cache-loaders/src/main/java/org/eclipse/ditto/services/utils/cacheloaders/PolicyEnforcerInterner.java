@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Shares one enforcer between all policies with equal entries.
+ * <p>
+ * Enforcers are addressed by the set of policy entries, which ignores the policy ID, the revision and the order of
+ * the entries. Policies generated from the same template thus share one enforcer. An enforcer is kept only as long as
+ * it is referenced elsewhere, e. g. by an enforcer cache.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class PolicyEnforcerInterner {
+
+    private final Cache<Set<PolicyEntry>, Enforcer> enforcers;
+
+    private PolicyEnforcerInterner() {
+        enforcers = Caffeine.newBuilder().weakValues().build();
+    }
+
+    /**
+     * Creates a new, empty interner.
+     *
+     * @return the interner.
+     */
+    public static PolicyEnforcerInterner newInstance() {
+        return new PolicyEnforcerInterner();
+    }
+
+    /**
+     * Returns the default enforcer of the given policy or an already existing enforcer of a policy with equal entries.
+     *
+     * @param policy the policy.
+     * @return the enforcer.
+     * @throws NullPointerException if {@code policy} is {@code null}.
+     */
+    public Enforcer getEnforcer(final Policy policy) {
+        requireNonNull(policy, "policy");
+        return getEnforcer(policy.getEntriesSet(), () -> PolicyEnforcers.defaultEvaluator(policy));
+    }
+
+    /**
+     * Returns an already existing enforcer of the given policy entries or the one created by the given supplier.
+     *
+     * @param policyEntries the policy entries.
+     * @param enforcerSupplier creates the enforcer of {@code policyEntries} if none exists.
+     * @return the enforcer.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public Enforcer getEnforcer(final Set<PolicyEntry> policyEntries, final Supplier<Enforcer> enforcerSupplier) {
+        requireNonNull(policyEntries, "policyEntries");
+        requireNonNull(enforcerSupplier, "enforcerSupplier");
+        return enforcers.get(policyEntries, entries -> enforcerSupplier.get());
+    }
+
+}
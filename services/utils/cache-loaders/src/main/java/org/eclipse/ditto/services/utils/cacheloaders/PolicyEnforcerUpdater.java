@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+
+/**
+ * Updates cached policy enforcers by policy events instead of reloading the whole policy.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class PolicyEnforcerUpdater {
+
+    private PolicyEnforcerUpdater() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Applies a policy event to a cached policy enforcer. Only the parts of the enforcer depending on the policy
+     * entries changed by the event are recomputed, unless the interner already knows an enforcer of the updated
+     * entries.
+     *
+     * @param cachedEntry the cached enforcer entry.
+     * @param policyEvent the policy event.
+     * @param policyEnforcerInterner shares the updated enforcer between policies with equal entries.
+     * @return the enforcer entry at the revision of {@code policyEvent}, or an empty Optional if the event cannot be
+     * applied, e. g. because it is not the direct successor of the revision of the cached entry or because it creates
+     * or deletes the whole policy. The cache entry has to be reloaded in that case.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static Optional<Entry<Enforcer>> applyEvent(final Entry<Enforcer> cachedEntry,
+            final PolicyEvent<?> policyEvent,
+            final PolicyEnforcerInterner policyEnforcerInterner) {
+
+        requireNonNull(cachedEntry, "cachedEntry");
+        requireNonNull(policyEvent, "policyEvent");
+        requireNonNull(policyEnforcerInterner, "policyEnforcerInterner");
+
+        if (!cachedEntry.exists() || cachedEntry.getRevision() + 1 != policyEvent.getRevision()) {
+            return Optional.empty();
+        }
+        final Enforcer enforcer = cachedEntry.getValueOrThrow();
+        if (!(enforcer instanceof TrieBasedPolicyEnforcer)) {
+            return Optional.empty();
+        }
+        final TrieBasedPolicyEnforcer trieBasedPolicyEnforcer = (TrieBasedPolicyEnforcer) enforcer;
+        @Nullable final Policy updatedPolicy = applyEvent(trieBasedPolicyEnforcer.getPolicyEntries(), policyEvent);
+        if (null == updatedPolicy) {
+            return Optional.empty();
+        }
+        final Enforcer updatedEnforcer = policyEnforcerInterner.getEnforcer(updatedPolicy.getEntriesSet(),
+                () -> trieBasedPolicyEnforcer.withPolicy(updatedPolicy));
+        return Optional.of(Entry.of(policyEvent.getRevision(), updatedEnforcer));
+    }
+
+    @Nullable
+    private static Policy applyEvent(final Set<PolicyEntry> policyEntries, final PolicyEvent<?> policyEvent) {
+        if (policyEvent instanceof PolicyModified) {
+            return ((PolicyModified) policyEvent).getPolicy();
+        }
+        // the enforcer may be shared by several policies, thus the policy is restored from the entries only
+        final PolicyBuilder policyBuilder =
+                PoliciesModelFactory.newPolicyBuilder(policyEvent.getPolicyEntityId()).setAll(policyEntries);
+        @Nullable final PolicyBuilder updatedPolicyBuilder = applyEvent(policyBuilder, policyEntries, policyEvent);
+        if (null == updatedPolicyBuilder) {
+            return null;
+        }
+        return updatedPolicyBuilder.setRevision(policyEvent.getRevision()).build();
+    }
+
+    @Nullable
+    private static PolicyBuilder applyEvent(final PolicyBuilder policyBuilder, final Set<PolicyEntry> policyEntries,
+            final PolicyEvent<?> policyEvent) {
+
+        final PolicyBuilder result;
+        if (policyEvent instanceof SubjectCreated) {
+            final SubjectCreated subjectCreated = (SubjectCreated) policyEvent;
+            result = policyBuilder.setSubjectFor(subjectCreated.getLabel(), subjectCreated.getSubject());
+        } else if (policyEvent instanceof SubjectModified) {
+            final SubjectModified subjectModified = (SubjectModified) policyEvent;
+            result = policyBuilder.setSubjectFor(subjectModified.getLabel(), subjectModified.getSubject());
+        } else if (policyEvent instanceof SubjectDeleted) {
+            final SubjectDeleted subjectDeleted = (SubjectDeleted) policyEvent;
+            result = policyBuilder.removeSubjectFor(subjectDeleted.getLabel(), subjectDeleted.getSubjectId());
+        } else if (policyEvent instanceof SubjectsModified) {
+            // the subjects replace those of an existing entry like the policies service does
+            final SubjectsModified subjectsModified = (SubjectsModified) policyEvent;
+            result = findEntry(policyEntries, subjectsModified.getLabel())
+                    .map(policyEntry -> policyBuilder.set(PoliciesModelFactory.newPolicyEntry(
+                            subjectsModified.getLabel(), subjectsModified.getSubjects(), policyEntry.getResources())))
+                    .orElseGet(() -> policyBuilder.setSubjectsFor(subjectsModified.getLabel(),
+                            subjectsModified.getSubjects()));
+        } else if (policyEvent instanceof ResourceCreated) {
+            final ResourceCreated resourceCreated = (ResourceCreated) policyEvent;
+            result = policyBuilder.setResourceFor(resourceCreated.getLabel(), resourceCreated.getResource());
+        } else if (policyEvent instanceof ResourceModified) {
+            final ResourceModified resourceModified = (ResourceModified) policyEvent;
+            result = policyBuilder.setResourceFor(resourceModified.getLabel(), resourceModified.getResource());
+        } else if (policyEvent instanceof ResourceDeleted) {
+            final ResourceDeleted resourceDeleted = (ResourceDeleted) policyEvent;
+            result = policyBuilder.removeResourceFor(resourceDeleted.getLabel(), resourceDeleted.getResourceKey());
+        } else if (policyEvent instanceof ResourcesModified) {
+            // the resources replace those of an existing entry like the policies service does
+            final ResourcesModified resourcesModified = (ResourcesModified) policyEvent;
+            result = findEntry(policyEntries, resourcesModified.getLabel())
+                    .map(policyEntry -> policyBuilder.set(PoliciesModelFactory.newPolicyEntry(
+                            resourcesModified.getLabel(), policyEntry.getSubjects(), resourcesModified.getResources())))
+                    .orElseGet(() -> policyBuilder.setResourcesFor(resourcesModified.getLabel(),
+                            resourcesModified.getResources()));
+        } else if (policyEvent instanceof PolicyEntryCreated) {
+            result = policyBuilder.set(((PolicyEntryCreated) policyEvent).getPolicyEntry());
+        } else if (policyEvent instanceof PolicyEntryModified) {
+            result = policyBuilder.set(((PolicyEntryModified) policyEvent).getPolicyEntry());
+        } else if (policyEvent instanceof PolicyEntryDeleted) {
+            result = policyBuilder.remove(((PolicyEntryDeleted) policyEvent).getLabel());
+        } else if (policyEvent instanceof PolicyEntriesModified) {
+            result = policyBuilder.removeAll(policyEntries)
+                    .setAll(((PolicyEntriesModified) policyEvent).getPolicyEntries());
+        } else {
+            // PolicyCreated, PolicyDeleted and unknown events
+            result = null;
+        }
+        return result;
+    }
+
+    private static Optional<PolicyEntry> findEntry(final Set<PolicyEntry> policyEntries, final Label label) {
+        return policyEntries.stream()
+                .filter(policyEntry -> policyEntry.getLabel().equals(label))
+                .findAny();
+    }
+
+}
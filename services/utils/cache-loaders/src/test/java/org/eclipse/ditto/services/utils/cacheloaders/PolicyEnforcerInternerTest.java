@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.junit.Test;
+
+/**
+ * Tests {@link PolicyEnforcerInterner}.
+ */
+public final class PolicyEnforcerInternerTest {
+
+    @Test
+    public void policiesWithEqualEntriesShareEnforcer() {
+        final PolicyEnforcerInterner underTest = PolicyEnforcerInterner.newInstance();
+
+        final Enforcer first = underTest.getEnforcer(policy(PolicyId.of("namespace", "first"), "test:owner", 1L));
+        final Enforcer second = underTest.getEnforcer(policy(PolicyId.of("namespace", "second"), "test:owner", 7L));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void policiesWithDifferentEntriesDoNotShareEnforcer() {
+        final PolicyEnforcerInterner underTest = PolicyEnforcerInterner.newInstance();
+        final PolicyId policyId = PolicyId.of("namespace", "id");
+
+        final Enforcer first = underTest.getEnforcer(policy(policyId, "test:owner", 1L));
+        final Enforcer second = underTest.getEnforcer(policy(policyId, "test:other", 1L));
+
+        assertThat(second).isNotSameAs(first);
+    }
+
+    private static Policy policy(final PolicyId policyId, final String subjectId, final long revision) {
+        return PoliciesModelFactory.newPolicyBuilder(policyId)
+                .forLabel("DEFAULT")
+                .setSubject(subjectId, SubjectType.GENERATED)
+                .setGrantedPermissions(ResourceKey.newInstance("thing", "/"), Permissions.newInstance("READ"))
+                .setRevision(revision)
+                .build();
+    }
+
+}
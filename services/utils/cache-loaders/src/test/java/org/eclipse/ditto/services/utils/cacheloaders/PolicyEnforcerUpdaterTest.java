@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Resources;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectId;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.policies.Subjects;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.PolicyModified;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+import org.junit.Test;
+
+/**
+ * Tests {@link PolicyEnforcerUpdater}.
+ */
+public final class PolicyEnforcerUpdaterTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("namespace", "id");
+    private static final Label LABEL = Label.of("DEFAULT");
+    private static final ResourceKey THING_ROOT = ResourceKey.newInstance("thing", "/");
+    private static final Permissions READ = Permissions.newInstance("READ");
+
+    private static final Label RESTRICTED = Label.of("RESTRICTED");
+    private static final ResourceKey ATTRIBUTES = ResourceKey.newInstance("thing", "/attributes");
+    private static final ResourceKey SECRET = ResourceKey.newInstance("thing", "/attributes/secret");
+    private static final ResourceKey FEATURES = ResourceKey.newInstance("thing", "/features");
+    private static final ResourceKey POLICY_ROOT = ResourceKey.newInstance("policy", "/");
+
+    private static final List<String> SUBJECT_IDS =
+            Arrays.asList("test:owner", "test:device", "test:other", "test:new");
+    private static final List<ResourceKey> RESOURCE_KEYS =
+            Arrays.asList(THING_ROOT, ATTRIBUTES, SECRET, FEATURES, POLICY_ROOT);
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(READ, Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"));
+
+    private static final Policy POLICY = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+            .forLabel(LABEL)
+            .setSubject("test:owner", SubjectType.GENERATED)
+            .setGrantedPermissions(THING_ROOT, READ)
+            .setRevision(1L)
+            .build();
+
+    private static final Policy RESTRICTED_POLICY = POLICY.toBuilder()
+            .forLabel(LABEL)
+            .setGrantedPermissions(THING_ROOT, "READ", "WRITE")
+            .forLabel(RESTRICTED)
+            .setSubject("test:device", SubjectType.GENERATED)
+            .setSubject("test:other", SubjectType.GENERATED)
+            .setGrantedPermissions(ATTRIBUTES, "READ", "WRITE")
+            .setRevokedPermissions(SECRET, "READ")
+            .build();
+
+    @Test
+    public void applySubjectCreated() {
+        final Entry<Enforcer> cachedEntry = Entry.of(1L, PolicyEnforcers.defaultEvaluator(POLICY));
+        final SubjectCreated subjectCreated = SubjectCreated.of(POLICY_ID, LABEL,
+                Subject.newInstance("test:device", SubjectType.GENERATED), 2L, DittoHeaders.empty());
+
+        final Optional<Entry<Enforcer>> updatedEntry = PolicyEnforcerUpdater.applyEvent(cachedEntry, subjectCreated,
+                PolicyEnforcerInterner.newInstance());
+
+        assertThat(updatedEntry).hasValueSatisfying(entry -> {
+            assertThat(entry.getRevision()).isEqualTo(2L);
+            assertThat(entry.getValueOrThrow().hasUnrestrictedPermissions(THING_ROOT,
+                    authorizationContext("test:device"), READ)).isTrue();
+            assertThat(entry.getValueOrThrow().hasUnrestrictedPermissions(THING_ROOT,
+                    authorizationContext("test:owner"), READ)).isTrue();
+        });
+    }
+
+    @Test
+    public void applySubjectModified() {
+        final Subject subject = Subject.newInstance("test:device", SubjectType.newInstance("modified"));
+
+        assertAppliesLikeNewEnforcer(SubjectModified.of(POLICY_ID, RESTRICTED, subject, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setSubjectFor(RESTRICTED, subject));
+    }
+
+    @Test
+    public void applySubjectDeleted() {
+        final SubjectId subjectId = SubjectId.newInstance("test:device");
+
+        assertAppliesLikeNewEnforcer(SubjectDeleted.of(POLICY_ID, RESTRICTED, subjectId, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.removeSubjectFor(RESTRICTED, subjectId));
+    }
+
+    @Test
+    public void applySubjectsModified() {
+        final Subjects subjects = PoliciesModelFactory.newSubjects(
+                Subject.newInstance("test:new", SubjectType.GENERATED));
+
+        assertAppliesLikeNewEnforcer(SubjectsModified.of(POLICY_ID, RESTRICTED, subjects, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setSubjectsFor(RESTRICTED, subjects));
+    }
+
+    @Test
+    public void applyResourceCreated() {
+        final Resource resource = Resource.newInstance(POLICY_ROOT, EffectedPermissions.newInstance(
+                Arrays.asList("READ", "WRITE"), null));
+
+        assertAppliesLikeNewEnforcer(ResourceCreated.of(POLICY_ID, LABEL, resource, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setResourceFor(LABEL, resource));
+    }
+
+    @Test
+    public void applyResourceModified() {
+        final Resource resource = Resource.newInstance(SECRET, EffectedPermissions.newInstance(null,
+                Arrays.asList("READ", "WRITE")));
+
+        assertAppliesLikeNewEnforcer(ResourceModified.of(POLICY_ID, RESTRICTED, resource, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setResourceFor(RESTRICTED, resource));
+    }
+
+    @Test
+    public void applyResourceDeleted() {
+        assertAppliesLikeNewEnforcer(ResourceDeleted.of(POLICY_ID, RESTRICTED, SECRET, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.removeResourceFor(RESTRICTED, SECRET));
+    }
+
+    @Test
+    public void applyResourcesModified() {
+        final Resources resources = PoliciesModelFactory.newResources(
+                Resource.newInstance(FEATURES, EffectedPermissions.newInstance(Arrays.asList("READ"), null)),
+                Resource.newInstance(THING_ROOT, EffectedPermissions.newInstance(null, Arrays.asList("WRITE"))));
+
+        assertAppliesLikeNewEnforcer(
+                ResourcesModified.of(POLICY_ID, RESTRICTED, resources, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setResourcesFor(RESTRICTED, resources));
+    }
+
+    @Test
+    public void applyPolicyEntryCreated() {
+        final PolicyEntry policyEntry = newPolicyEntry("NEW", "test:new", THING_ROOT);
+
+        assertAppliesLikeNewEnforcer(PolicyEntryCreated.of(POLICY_ID, policyEntry, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setEntry(policyEntry));
+    }
+
+    @Test
+    public void applyPolicyEntryModified() {
+        final PolicyEntry policyEntry = newPolicyEntry(RESTRICTED, "test:new", FEATURES);
+
+        assertAppliesLikeNewEnforcer(PolicyEntryModified.of(POLICY_ID, policyEntry, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.setEntry(policyEntry));
+    }
+
+    @Test
+    public void applyPolicyEntryDeleted() {
+        assertAppliesLikeNewEnforcer(PolicyEntryDeleted.of(POLICY_ID, RESTRICTED, 2L, DittoHeaders.empty()),
+                RESTRICTED_POLICY.removeEntry(RESTRICTED));
+    }
+
+    @Test
+    public void applyPolicyEntriesModified() {
+        final List<PolicyEntry> policyEntries = Arrays.asList(newPolicyEntry(LABEL, "test:owner", POLICY_ROOT),
+                newPolicyEntry("NEW", "test:new", ATTRIBUTES));
+
+        assertAppliesLikeNewEnforcer(PolicyEntriesModified.of(POLICY_ID, policyEntries, 2L, DittoHeaders.empty()),
+                PoliciesModelFactory.newPolicyBuilder(POLICY_ID).setAll(policyEntries).build());
+    }
+
+    @Test
+    public void applyPolicyModified() {
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .set(newPolicyEntry(RESTRICTED, "test:owner", SECRET))
+                .build();
+
+        assertAppliesLikeNewEnforcer(PolicyModified.of(policy, 2L, DittoHeaders.empty()), policy);
+    }
+
+    @Test
+    public void doNotApplyEventWithRevisionGap() {
+        final Entry<Enforcer> cachedEntry = Entry.of(1L, PolicyEnforcers.defaultEvaluator(POLICY));
+        final SubjectCreated subjectCreated = SubjectCreated.of(POLICY_ID, LABEL,
+                Subject.newInstance("test:device", SubjectType.GENERATED), 3L, DittoHeaders.empty());
+
+        assertThat(PolicyEnforcerUpdater.applyEvent(cachedEntry, subjectCreated,
+                PolicyEnforcerInterner.newInstance())).isEmpty();
+    }
+
+    @Test
+    public void doNotApplyPolicyDeleted() {
+        final Entry<Enforcer> cachedEntry = Entry.of(1L, PolicyEnforcers.defaultEvaluator(POLICY));
+
+        assertThat(PolicyEnforcerUpdater.applyEvent(cachedEntry, PolicyDeleted.of(POLICY_ID, 2L, DittoHeaders.empty()),
+                PolicyEnforcerInterner.newInstance())).isEmpty();
+    }
+
+    private static void assertAppliesLikeNewEnforcer(final PolicyEvent<?> policyEvent, final Policy expectedPolicy) {
+        final Entry<Enforcer> cachedEntry = Entry.of(1L, PolicyEnforcers.defaultEvaluator(RESTRICTED_POLICY));
+        final Enforcer expectedEnforcer = PolicyEnforcers.defaultEvaluator(expectedPolicy);
+
+        final Optional<Entry<Enforcer>> updatedEntry = PolicyEnforcerUpdater.applyEvent(cachedEntry, policyEvent,
+                PolicyEnforcerInterner.newInstance());
+
+        assertThat(updatedEntry).hasValueSatisfying(entry -> {
+            assertThat(entry.getRevision()).isEqualTo(2L);
+            final Enforcer updatedEnforcer = entry.getValueOrThrow();
+            assertThat(updatedEnforcer).isInstanceOf(TrieBasedPolicyEnforcer.class);
+            assertThat(((TrieBasedPolicyEnforcer) updatedEnforcer).getPolicyEntries())
+                    .isEqualTo(expectedPolicy.getEntriesSet());
+            assertSameResults(expectedEnforcer, updatedEnforcer);
+        });
+    }
+
+    private static void assertSameResults(final Enforcer expected, final Enforcer actual) {
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                final String description = resourceKey + " " + permissions;
+                assertThat(actual.getSubjectIdsWithPermission(resourceKey, permissions))
+                        .describedAs(description)
+                        .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                for (final String subjectId : SUBJECT_IDS) {
+                    final AuthorizationContext authorizationContext = authorizationContext(subjectId);
+                    assertThat(actual.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(subjectId + " " + description)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(actual.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs(subjectId + " " + description)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    private static PolicyEntry newPolicyEntry(final CharSequence label, final String subjectId,
+            final ResourceKey resourceKey) {
+
+        return PoliciesModelFactory.newPolicyEntry(label,
+                PoliciesModelFactory.newSubjects(Subject.newInstance(subjectId, SubjectType.GENERATED)),
+                PoliciesModelFactory.newResources(Resource.newInstance(resourceKey,
+                        EffectedPermissions.newInstance(Arrays.asList("READ", "WRITE"), null))));
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId));
+    }
+
+}
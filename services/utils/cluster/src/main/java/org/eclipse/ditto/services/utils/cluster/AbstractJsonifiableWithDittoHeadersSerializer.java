@@ -125,6 +125,34 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
                 .tag(METRIC_DIRECTION, "out");
     }
 
+    /**
+     * Returns the mapping strategies used to deserialize the messages of this serializer.
+     *
+     * @return the mapping strategies.
+     * @since 1.2.0
+     */
+    protected final MappingStrategies getMappingStrategies() {
+        return mappingStrategies;
+    }
+
+    /**
+     * Counts one serialized message for the metrics of this serializer.
+     *
+     * @since 1.2.0
+     */
+    protected final void countOutgoingMessage() {
+        outCounter.increment();
+    }
+
+    /**
+     * Counts one deserialized message for the metrics of this serializer.
+     *
+     * @since 1.2.0
+     */
+    protected final void countIncomingMessage() {
+        inCounter.increment();
+    }
+
     @Override
     public int identifier() {
         return identifier;
@@ -141,19 +169,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
             final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
             jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
+            jsonObjectBuilder.set(JSON_PAYLOAD, getPayloadJson((Jsonifiable<?>) object, dittoHeaders));
             final JsonObject jsonObject = jsonObjectBuilder.build();
             try {
                 serializeIntoByteBuffer(jsonObject, buf);
@@ -179,6 +195,26 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    /**
+     * Returns the JSON representation of the passed Jsonifiable which is transmitted as payload.
+     *
+     * @param jsonifiable the Jsonifiable to serialize.
+     * @param dittoHeaders the headers of {@code jsonifiable} which determine the schema version of the payload.
+     * @return the payload.
+     * @since 1.2.0
+     */
+    protected static JsonValue getPayloadJson(final Jsonifiable<?> jsonifiable, final DittoHeaders dittoHeaders) {
+        final JsonValue result;
+        if (jsonifiable instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            result = ((Jsonifiable.WithPredicate) jsonifiable).toJson(schemaVersion,
+                    FieldType.regularOrSpecial());
+        } else {
+            result = jsonifiable.toJson();
+        }
+        return result;
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
@@ -209,7 +245,14 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
-    private static DittoHeaders getDittoHeadersOrEmpty(final Object object) {
+    /**
+     * Returns the headers of the passed object if it has some.
+     *
+     * @param object the object to be serialized.
+     * @return the headers of {@code object} or empty headers.
+     * @since 1.2.0
+     */
+    protected static DittoHeaders getDittoHeadersOrEmpty(final Object object) {
         if (object instanceof WithDittoHeaders) {
             @Nullable final DittoHeaders dittoHeaders = ((WithDittoHeaders<?>) object).getDittoHeaders();
             if (null != dittoHeaders) {
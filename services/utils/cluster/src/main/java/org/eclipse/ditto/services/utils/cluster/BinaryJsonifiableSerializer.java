@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.BinaryToHexConverter;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Serializer of Ditto for Jsonifiables which identifies the types known to the configured {@link MappingStrategies}
+ * by a numeric type ID instead of a string manifest.
+ * <p>
+ * Headers and payload are written as two separate CBOR values directly into the buffer without a wrapping envelope
+ * object. The binary format is:
+ * </p>
+ * <ol>
+ * <li>the type ID as 8 byte long if the manifest is empty,</li>
+ * <li>the length of the CBOR headers as 4 byte int,</li>
+ * <li>the headers as CBOR object,</li>
+ * <li>the length of the binary payload as 4 byte int or -1 if there is none,</li>
+ * <li>the raw bytes of the binary payload,</li>
+ * <li>the payload as CBOR value.</li>
+ * </ol>
+ * <p>
+ * Signals {@link WithBinaryPayload} thus transmit their binary payload as raw bytes instead of Base64 encoded within
+ * the CBOR payload.
+ * </p>
+ * <p>
+ * {@link SignalEnvelope}s are written as the length of the entity ID as 4 byte int, the UTF-8 bytes of the entity ID
+ * and the format above. Their manifest is the manifest of the signal prefixed by {@code ~}. On deserialization, only
+ * entity ID and headers are parsed; the rest is kept in serialized form until the signal is requested.
+ * </p>
+ * <p>
+ * The type ID is the 64 bit FNV-1a hash of the UTF-8 bytes of the manifest. It thus is stable across releases and
+ * services as long as the manifest does not change. Types without mapping strategy keep their string manifest.
+ * </p>
+ * <p>
+ * In order to switch to this serializer during a rolling upgrade, it has to be registered on all cluster members
+ * first; only afterwards the serialization bindings may be changed to it.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public final class BinaryJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 1130471597;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryJsonifiableSerializer.class);
+
+    private static final String TYPE_ID_MANIFEST = "";
+    private static final String ENVELOPE_MANIFEST_PREFIX = "~";
+
+    private static final int NO_BINARY_PAYLOAD = -1;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final ManifestProvider manifestProvider;
+    private final Map<String, Long> typeIdsByManifest;
+    private final Map<Long, String> manifestsByTypeId;
+
+    /**
+     * Constructs a new {@code BinaryJsonifiableSerializer} object.
+     *
+     * @param actorSystem the ExtendedActorSystem to use in order to dynamically load mapping strategies in parent.
+     * @throws IllegalStateException if the type IDs of two manifests of the mapping strategies collide.
+     */
+    public BinaryJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance(), "BINARY");
+        manifestProvider = ManifestProvider.getInstance();
+        manifestsByTypeId = getManifestsByTypeId(getMappingStrategies().keySet());
+        typeIdsByManifest = new HashMap<>(manifestsByTypeId.size());
+        manifestsByTypeId.forEach((typeId, manifest) -> typeIdsByManifest.put(manifest, typeId));
+    }
+
+    private static Map<Long, String> getManifestsByTypeId(final Collection<String> manifests) {
+        final Map<Long, String> result = new HashMap<>(manifests.size());
+        for (final String manifest : manifests) {
+            @Nullable final String collidingManifest = result.put(getTypeId(manifest), manifest);
+            if (null != collidingManifest) {
+                throw new IllegalStateException(MessageFormat.format(
+                        "The manifests <{0}> and <{1}> have the same type ID!", collidingManifest, manifest));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the type ID of the given manifest.
+     *
+     * @param manifest the manifest.
+     * @return the 64 bit FNV-1a hash of the UTF-8 bytes of {@code manifest}.
+     */
+    static long getTypeId(final String manifest) {
+        long result = FNV_OFFSET_BASIS;
+        for (final byte b : manifest.getBytes(CHARSET)) {
+            result ^= b & 0xff;
+            result *= FNV_PRIME;
+        }
+        return result;
+    }
+
+    @Override
+    public String manifest(final Object o) {
+        if (o instanceof SignalEnvelope) {
+            return ENVELOPE_MANIFEST_PREFIX + getFrameManifest(((SignalEnvelope) o).getManifest());
+        }
+        return getFrameManifest(manifestProvider.apply(o));
+    }
+
+    private String getFrameManifest(final String manifest) {
+        return typeIdsByManifest.containsKey(manifest) ? TYPE_ID_MANIFEST : manifest;
+    }
+
+    @Override
+    public void toBinary(final Object object, final ByteBuffer buf) {
+        if (!(object instanceof Jsonifiable) && !(object instanceof SignalEnvelope)) {
+            super.toBinary(object, buf);
+            return;
+        }
+        try {
+            if (object instanceof SignalEnvelope) {
+                writeEnvelope((SignalEnvelope) object, buf);
+            } else {
+                writeFrame(object, manifestProvider.apply(object), buf);
+            }
+            countOutgoingMessage();
+        } catch (final BufferOverflowException e) {
+            final String errorMessage = MessageFormat.format(
+                    "Could not put bytes of <{0}> into ByteBuffer due to BufferOverflow", object);
+            LOG.error(errorMessage, e);
+            throw new IllegalArgumentException(errorMessage, e);
+        } catch (final IOException e) {
+            final String errorMessage = MessageFormat.format("Serialization failed with {0} on <{1}>",
+                    e.getClass().getName(), object);
+            LOG.warn(errorMessage, e);
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private void writeEnvelope(final SignalEnvelope envelope, final ByteBuffer buf) throws IOException {
+        final byte[] entityId = envelope.getEntityId().toString().getBytes(CHARSET);
+        buf.putInt(entityId.length);
+        buf.put(entityId);
+        final Optional<ByteBuffer> serializedPayload = envelope.getSerializedPayload();
+        if (serializedPayload.isPresent()) {
+            // forward the payload as received; it is independent of the headers which are written separately
+            writeTypeId(envelope.getManifest(), buf);
+            writeHeaders(envelope.getDittoHeaders(), buf);
+            buf.put(serializedPayload.get());
+        } else {
+            writeFrame(envelope.getSignal(), envelope.getManifest(), buf);
+        }
+    }
+
+    private void writeFrame(final Object object, final String manifest, final ByteBuffer buf) throws IOException {
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
+        @Nullable final ByteBuffer binaryPayload = getBinaryPayload(object);
+        final JsonValue payload;
+        if (null != binaryPayload) {
+            final JsonSchemaVersion schemaVersion = dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+            payload = ((WithBinaryPayload<?>) object).toJsonWithoutBinaryPayload(schemaVersion,
+                    FieldType.regularOrSpecial());
+        } else {
+            payload = getPayloadJson((Jsonifiable<?>) object, dittoHeaders);
+        }
+        writeTypeId(manifest, buf);
+        writeHeaders(dittoHeaders, buf);
+        if (null != binaryPayload) {
+            buf.putInt(binaryPayload.remaining());
+            buf.put(binaryPayload);
+        } else {
+            buf.putInt(NO_BINARY_PAYLOAD);
+        }
+        CborFactory.writeToByteBuffer(payload, buf);
+    }
+
+    private void writeTypeId(final String manifest, final ByteBuffer buf) {
+        @Nullable final Long typeId = typeIdsByManifest.get(manifest);
+        if (null != typeId) {
+            buf.putLong(typeId);
+        }
+    }
+
+    private void writeHeaders(final DittoHeaders dittoHeaders, final ByteBuffer buf) throws IOException {
+        final int headersLengthPosition = buf.position();
+        buf.putInt(0);
+        serializeIntoByteBuffer(dittoHeaders.toJson(), buf);
+        buf.putInt(headersLengthPosition, buf.position() - headersLengthPosition - Integer.BYTES);
+    }
+
+    @Nullable
+    private static ByteBuffer getBinaryPayload(final Object object) {
+        if (object instanceof WithBinaryPayload) {
+            // duplicate in order to leave the position of the payload of the signal untouched
+            return ((WithBinaryPayload<?>) object).getBinaryPayload().map(ByteBuffer::duplicate).orElse(null);
+        }
+        return null;
+    }
+
+    @Override
+    public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        final ByteBuffer originalBuffer = buf.duplicate();
+        try {
+            final Object result;
+            if (manifest.startsWith(ENVELOPE_MANIFEST_PREFIX)) {
+                result = readEnvelope(buf, manifest.substring(ENVELOPE_MANIFEST_PREFIX.length()));
+            } else {
+                result = readFrame(buf, manifest);
+            }
+            countIncomingMessage();
+            return result;
+        } catch (final NotSerializableException e) {
+            return e;
+        } catch (final DittoRuntimeException | JsonRuntimeException | BufferUnderflowException |
+                IllegalArgumentException e) {
+            LOG.error("Got <{}> during deserialization for manifest <{}> while processing message: <{}>.",
+                    e.getClass().getSimpleName(), manifest,
+                    BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(originalBuffer), e);
+            return new NotSerializableException(manifest);
+        }
+    }
+
+    private SignalEnvelope readEnvelope(final ByteBuffer buf, final String frameManifest)
+            throws NotSerializableException {
+
+        final byte[] entityIdBytes = new byte[buf.getInt()];
+        buf.get(entityIdBytes);
+        final String entityId = new String(entityIdBytes, CHARSET);
+        final String typeManifest = readTypeManifest(buf, frameManifest);
+        final MappingStrategy mappingStrategy = getMappingStrategy(typeManifest);
+        final DittoHeaders dittoHeaders = readHeaders(buf);
+
+        // copy as the buffer may be reused by the transport after deserialization
+        final byte[] serializedPayload = new byte[buf.remaining()];
+        buf.get(serializedPayload);
+
+        return SignalEnvelope.deserialized(typeManifest,
+                entityId.isEmpty() ? DefaultEntityId.dummy() : DefaultEntityId.of(entityId),
+                dittoHeaders,
+                ByteBuffer.wrap(serializedPayload),
+                headers -> toSignal(readBody(ByteBuffer.wrap(serializedPayload), mappingStrategy, headers),
+                        typeManifest));
+    }
+
+    private static Signal<?> toSignal(final Jsonifiable<?> jsonifiable, final String manifest) {
+        if (jsonifiable instanceof Signal) {
+            return (Signal<?>) jsonifiable;
+        }
+        throw new IllegalStateException(MessageFormat.format("Manifest <{0}> of envelope is no signal!", manifest));
+    }
+
+    private Jsonifiable<?> readFrame(final ByteBuffer buf, final String manifest) throws NotSerializableException {
+        final MappingStrategy mappingStrategy = getMappingStrategy(readTypeManifest(buf, manifest));
+        final DittoHeaders dittoHeaders = readHeaders(buf);
+        return readBody(buf, mappingStrategy, dittoHeaders);
+    }
+
+    private String readTypeManifest(final ByteBuffer buf, final String manifest) throws NotSerializableException {
+        return TYPE_ID_MANIFEST.equals(manifest) ? getManifestByTypeId(buf.getLong()) : manifest;
+    }
+
+    private MappingStrategy getMappingStrategy(final String typeManifest) throws NotSerializableException {
+        return getMappingStrategies().getMappingStrategy(typeManifest)
+                .orElseThrow(() -> {
+                    LOG.warn("No strategy found to map manifest <{}> to a Jsonifiable.WithPredicate!", typeManifest);
+                    return new NotSerializableException(typeManifest);
+                });
+    }
+
+    private DittoHeaders readHeaders(final ByteBuffer buf) {
+        final int headersLength = buf.getInt();
+        final ByteBuffer headersBuffer = buf.slice();
+        headersBuffer.limit(headersLength);
+        buf.position(buf.position() + headersLength);
+
+        return DittoHeaders.newBuilder(toObject(deserializeFromByteBuffer(headersBuffer))).build();
+    }
+
+    private Jsonifiable<?> readBody(final ByteBuffer buf, final MappingStrategy mappingStrategy,
+            final DittoHeaders dittoHeaders) {
+
+        @Nullable final ByteBuffer binaryPayload = readBinaryPayload(buf);
+        final Jsonifiable<?> result = mappingStrategy.map(toObject(deserializeFromByteBuffer(buf)), dittoHeaders);
+        if (null != binaryPayload && result instanceof WithBinaryPayload) {
+            return (Jsonifiable<?>) ((WithBinaryPayload<?>) result).setBinaryPayload(binaryPayload);
+        }
+        return result;
+    }
+
+    @Nullable
+    private static ByteBuffer readBinaryPayload(final ByteBuffer buf) {
+        final int binaryPayloadLength = buf.getInt();
+        if (NO_BINARY_PAYLOAD == binaryPayloadLength) {
+            return null;
+        }
+        // copy as the buffer may be reused by the transport after deserialization
+        final byte[] binaryPayload = new byte[binaryPayloadLength];
+        buf.get(binaryPayload);
+        return ByteBuffer.wrap(binaryPayload);
+    }
+
+    private String getManifestByTypeId(final long typeId) throws NotSerializableException {
+        @Nullable final String result = manifestsByTypeId.get(typeId);
+        if (null == result) {
+            LOG.warn("No manifest found for type ID <{}>!", typeId);
+            throw new NotSerializableException(String.valueOf(typeId));
+        }
+        return result;
+    }
+
+    private static JsonObject toObject(final JsonValue jsonValue) {
+        if (jsonValue.isObject()) {
+            return jsonValue.asObject();
+        } else if (jsonValue.isNull()) {
+            return JsonFactory.nullObject();
+        }
+        throw JsonParseException.newBuilder()
+                .message(MessageFormat.format("Expected object but received value <{0}>!", jsonValue))
+                .build();
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        CborFactory.writeToByteBuffer(jsonObject, byteBuffer);
+    }
+
+    @Override
+    protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        return CborFactory.readFrom(byteBuffer);
+    }
+
+}
@@ -23,6 +23,11 @@ import akka.actor.ExtendedActorSystem;
 
 /**
  * Serializer of Eclipse Ditto for Jsonifiables via CBOR-based {@code ditto-json}.
+ * <p>
+ * Deserialized JSON objects and arrays keep their CBOR representation and are only decoded when they are accessed.
+ * Values which are only forwarded, e. g. the payload of events published to other cluster nodes, are serialized again
+ * by copying their CBOR representation.
+ * </p>
  */
 public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
 
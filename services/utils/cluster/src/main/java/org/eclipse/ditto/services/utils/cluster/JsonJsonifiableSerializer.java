@@ -41,13 +41,11 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
 
     @Override
     protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
-        final String jsonStr = jsonObject.toString();
-        byteBuffer.put(CHARSET.encode(jsonStr));
+        jsonObject.writeTo(byteBuffer);
     }
 
     @Override
     protected JsonValue deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
-        String json = CHARSET.decode(byteBuffer).toString();
-        return JsonFactory.readFrom(json);
+        return JsonFactory.readFrom(byteBuffer);
     }
 }
@@ -91,6 +91,9 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         } else if (message instanceof ShardedMessageEnvelope) {
             // message was sent from the same cluster node
             entity = createJsonifiableFrom((ShardedMessageEnvelope) message);
+        } else if (message instanceof SignalEnvelope) {
+            // the payload of the signal was not parsed for routing; the entity needs the signal itself
+            entity = ((SignalEnvelope) message).getSignal();
         } else {
             entity = message;
         }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Envelope of a signal which exposes the manifest, the entity ID and the headers of the signal immediately, while the
+ * signal itself is parsed only when it is requested for the first time.
+ * <p>
+ * Actors which only route signals, e.g. by their entity ID or their headers, thus do not pay for parsing the payload.
+ * {@link BinaryJsonifiableSerializer} deserializes envelopes by reading the headers only; an envelope which is
+ * forwarded before its signal was parsed is serialized again by copying the serialized payload.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@ThreadSafe
+public final class SignalEnvelope implements WithDittoHeaders<SignalEnvelope>, WithId {
+
+    private final String manifest;
+    private final EntityId entityId;
+    private final DittoHeaders dittoHeaders;
+    @Nullable private final ByteBuffer serializedPayload;
+    private final Function<DittoHeaders, Signal<?>> signalParser;
+
+    // lazily initialized; racy but safe as signals are immutable
+    @Nullable private Signal<?> signal;
+
+    private SignalEnvelope(final String manifest,
+            final EntityId entityId,
+            final DittoHeaders dittoHeaders,
+            @Nullable final ByteBuffer serializedPayload,
+            final Function<DittoHeaders, Signal<?>> signalParser,
+            @Nullable final Signal<?> signal) {
+
+        this.manifest = manifest;
+        this.entityId = entityId;
+        this.dittoHeaders = dittoHeaders;
+        this.serializedPayload = serializedPayload;
+        this.signalParser = signalParser;
+        this.signal = signal;
+    }
+
+    /**
+     * Returns an envelope of the given signal.
+     *
+     * @param signal the signal.
+     * @return the envelope.
+     * @throws NullPointerException if {@code signal} is {@code null}.
+     */
+    public static SignalEnvelope of(final Signal<?> signal) {
+        checkNotNull(signal, "signal");
+        return new SignalEnvelope(ManifestProvider.getInstance().apply(signal), signal.getEntityId(),
+                signal.getDittoHeaders(), null, signal::setDittoHeaders, signal);
+    }
+
+    /**
+     * Returns an envelope of a serialized signal.
+     *
+     * @param manifest the manifest of the signal.
+     * @param entityId the entity ID of the signal.
+     * @param dittoHeaders the headers of the signal.
+     * @param serializedPayload the serialized signal without its headers.
+     * @param signalParser parses the signal with the given headers from {@code serializedPayload}.
+     * @return the envelope.
+     */
+    static SignalEnvelope deserialized(final String manifest,
+            final EntityId entityId,
+            final DittoHeaders dittoHeaders,
+            final ByteBuffer serializedPayload,
+            final Function<DittoHeaders, Signal<?>> signalParser) {
+
+        return new SignalEnvelope(checkNotNull(manifest, "manifest"), checkNotNull(entityId, "entityId"),
+                checkNotNull(dittoHeaders, "dittoHeaders"), serializedPayload.asReadOnlyBuffer(),
+                checkNotNull(signalParser, "signalParser"), null);
+    }
+
+    /**
+     * Returns the manifest of the signal.
+     *
+     * @return the manifest.
+     */
+    public String getManifest() {
+        return manifest;
+    }
+
+    @Override
+    public EntityId getEntityId() {
+        return entityId;
+    }
+
+    @Override
+    public DittoHeaders getDittoHeaders() {
+        return dittoHeaders;
+    }
+
+    @Override
+    public SignalEnvelope setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SignalEnvelope(manifest, entityId, checkNotNull(dittoHeaders, "dittoHeaders"), serializedPayload,
+                signalParser, null);
+    }
+
+    /**
+     * Returns the signal of this envelope, parsing it if that did not happen yet.
+     *
+     * @return the signal.
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if the signal cannot be parsed.
+     */
+    public Signal<?> getSignal() {
+        Signal<?> result = signal;
+        if (null == result) {
+            result = signalParser.apply(dittoHeaders);
+            signal = result;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether the signal of this envelope was already parsed.
+     *
+     * @return {@code true} if {@link #getSignal()} does not need to parse the signal.
+     */
+    public boolean isParsed() {
+        return null != signal;
+    }
+
+    /**
+     * Returns the serialized signal without its headers if this envelope was deserialized.
+     *
+     * @return the serialized signal.
+     */
+    Optional<ByteBuffer> getSerializedPayload() {
+        return Optional.ofNullable(serializedPayload).map(ByteBuffer::duplicate);
+    }
+
+    /**
+     * Envelopes are equal if their signals are equal; thus both signals are parsed.
+     */
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SignalEnvelope that = (SignalEnvelope) o;
+        return Objects.equals(manifest, that.manifest) &&
+                Objects.equals(entityId, that.entityId) &&
+                Objects.equals(dittoHeaders, that.dittoHeaders) &&
+                Objects.equals(getSignal(), that.getSignal());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(manifest, entityId, dittoHeaders);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "manifest=" + manifest +
+                ", entityId=" + entityId +
+                ", dittoHeaders=" + dittoHeaders +
+                ", parsed=" + isParsed() +
+                "]";
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
@@ -26,6 +27,9 @@ import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.model.messages.MessageHeaders;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
@@ -33,6 +37,7 @@ import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
 import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
 import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
 import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -51,7 +56,8 @@ import akka.actor.ExtendedActorSystem;
 import akka.testkit.javadsl.TestKit;
 
 /**
- * Unit test for {@link JsonJsonifiableSerializer} and {@link CborJsonifiableSerializer}.
+ * Unit test for {@link JsonJsonifiableSerializer}, {@link CborJsonifiableSerializer} and
+ * {@link BinaryJsonifiableSerializer}.
  */
 @RunWith(Enclosed.class)
 public final class SharedJsonifiableSerializerTest {
@@ -69,6 +75,12 @@ public final class SharedJsonifiableSerializerTest {
             public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
                 return new CborJsonifiableSerializer(actorSystem);
             }
+        },
+        BINARY_JSONIFIABLE_SERIALIZER {
+            @Override
+            public AbstractJsonifiableWithDittoHeadersSerializer getInstance(final ExtendedActorSystem actorSystem) {
+                return new BinaryJsonifiableSerializer(actorSystem);
+            }
         };
 
         abstract AbstractJsonifiableWithDittoHeadersSerializer getInstance(ExtendedActorSystem actorSystem);
@@ -141,6 +153,22 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThingResponse);
         }
 
+        @Test
+        public void binaryMessageCommandSerializationWorksAsExpected() {
+            final MessageHeaders messageHeaders = MessageHeaders.newBuilder(MessageDirection.TO, thingId, "subject")
+                    .contentType("application/octet-stream")
+                    .build();
+            final Message<Object> message = Message.newBuilder(messageHeaders)
+                    .rawPayload(ByteBuffer.wrap(new byte[]{0, 1, 2, (byte) 0xff}))
+                    .build();
+            final SendThingMessage<Object> sendThingMessage = SendThingMessage.of(thingId, message, DITTO_HEADERS);
+
+            final byte[] serialized = underTest.toBinary(sendThingMessage);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(sendThingMessage));
+
+            assertThat(deserialized).isEqualTo(sendThingMessage);
+        }
+
         @Test
         public void shardedMessageEnvelopeSerializationWorksAsExpected() {
             final EntityId id = DefaultEntityId.generateRandom();
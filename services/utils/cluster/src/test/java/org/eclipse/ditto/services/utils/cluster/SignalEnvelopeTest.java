@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.messages.Message;
+import org.eclipse.ditto.model.messages.MessageDirection;
+import org.eclipse.ditto.model.messages.MessageHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link SignalEnvelope}.
+ */
+public final class SignalEnvelopeTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("correlationId")
+            .build();
+
+    private static ExtendedActorSystem actorSystem;
+
+    private ThingId thingId;
+    private BinaryJsonifiableSerializer underTest;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.parseMap(
+                Map.of("ditto.mapping-strategy.implementation", CommandsStrategy.class.getName())));
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Before
+    public void setUp() {
+        thingId = ThingId.generateRandom();
+        underTest = new BinaryJsonifiableSerializer(actorSystem);
+    }
+
+    @Test
+    public void deserializedEnvelopeParsesSignalOnDemand() {
+        final CreateThing createThing =
+                CreateThing.of(Thing.newBuilder().setId(thingId).build(), null, DITTO_HEADERS);
+
+        final SignalEnvelope deserialized = serializeAndDeserialize(SignalEnvelope.of(createThing));
+
+        assertThat(deserialized.isParsed()).isFalse();
+        assertThat(deserialized.getEntityId().toString()).isEqualTo(thingId.toString());
+        assertThat(deserialized.getDittoHeaders()).isEqualTo(DITTO_HEADERS);
+        assertThat(deserialized.getSignal()).isEqualTo(createThing);
+        assertThat(deserialized.isParsed()).isTrue();
+    }
+
+    @Test
+    public void unparsedEnvelopeIsForwardedWithChangedHeaders() {
+        final MessageHeaders messageHeaders = MessageHeaders.newBuilder(MessageDirection.TO, thingId, "subject")
+                .contentType("application/octet-stream")
+                .build();
+        final Message<Object> message = Message.newBuilder(messageHeaders)
+                .rawPayload(ByteBuffer.wrap(new byte[]{0, 1, 2, (byte) 0xff}))
+                .build();
+        final SendThingMessage<Object> sendThingMessage = SendThingMessage.of(thingId, message, DITTO_HEADERS);
+        final DittoHeaders changedHeaders = DITTO_HEADERS.toBuilder().putHeader("custom", "value").build();
+
+        final SignalEnvelope received = serializeAndDeserialize(SignalEnvelope.of(sendThingMessage));
+        final SignalEnvelope forwarded = serializeAndDeserialize(received.setDittoHeaders(changedHeaders));
+
+        assertThat(received.isParsed()).isFalse();
+        assertThat(forwarded.getDittoHeaders()).isEqualTo(changedHeaders);
+        assertThat(forwarded.getSignal()).isEqualTo(sendThingMessage.setDittoHeaders(changedHeaders));
+    }
+
+    @Test
+    public void shardRegionExtractorRoutesWithoutParsingSignal() {
+        final CreateThing createThing =
+                CreateThing.of(Thing.newBuilder().setId(thingId).build(), null, DITTO_HEADERS);
+        final ShardRegionExtractor extractor = ShardRegionExtractor.of(10, actorSystem);
+
+        final SignalEnvelope deserialized = serializeAndDeserialize(SignalEnvelope.of(createThing));
+
+        assertThat(extractor.entityId(deserialized)).isEqualTo(thingId.toString());
+        assertThat(extractor.shardId(deserialized)).isEqualTo(extractor.shardId(createThing));
+        assertThat(deserialized.isParsed()).isFalse();
+        assertThat(extractor.entityMessage(deserialized)).isEqualTo(createThing);
+    }
+
+    private SignalEnvelope serializeAndDeserialize(final SignalEnvelope signalEnvelope) {
+        final byte[] serialized = underTest.toBinary(signalEnvelope);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(signalEnvelope));
+        assertThat(deserialized).isInstanceOf(SignalEnvelope.class);
+        return (SignalEnvelope) deserialized;
+    }
+
+    private static final class CommandsStrategy extends MappingStrategies {
+
+        CommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
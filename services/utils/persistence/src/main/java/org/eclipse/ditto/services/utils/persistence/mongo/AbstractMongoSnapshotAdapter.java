@@ -43,9 +43,23 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final boolean compressed;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a snapshot adapter which optionally stores snapshots as compressed CBOR.
+     * Snapshots are read in both formats regardless of {@code compressed}.
+     *
+     * @param logger the logger to use.
+     * @param compressed whether to store snapshots as compressed CBOR instead of expanded BSON documents.
+     * @since 1.2.0
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final boolean compressed) {
         this.logger = logger;
+        this.compressed = compressed;
     }
 
     @Override
@@ -54,6 +68,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (compressed) {
+            return CompressedSnapshot.toBson(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
@@ -106,7 +123,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
-        if (rawSnapshotEntity instanceof BsonValue) {
+        if (rawSnapshotEntity instanceof BsonValue && CompressedSnapshot.isCompressed((BsonValue) rawSnapshotEntity)) {
+            return CompressedSnapshot.toJson(((BsonValue) rawSnapshotEntity).asDocument());
+        } else if (rawSnapshotEntity instanceof BsonValue) {
             return convertToJson((BsonValue) rawSnapshotEntity);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
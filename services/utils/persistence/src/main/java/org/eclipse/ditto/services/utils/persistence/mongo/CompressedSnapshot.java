@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+
+/**
+ * Converts the JSON representation of a snapshot entity to a BSON document whose nested objects and arrays are
+ * stored as one deflated CBOR blob, and back.
+ * <p>
+ * Top-level fields with scalar values like ID, revision or lifecycle stay plain BSON fields so that they remain
+ * accessible to queries on the snapshot store, e.g. when streaming snapshot fields.
+ * The metadata fields {@value #ENCODING} and {@value #PAYLOAD_SIZE} distinguish compressed snapshots from expanded
+ * ones, thus both may be stored in the same collection.
+ * </p>
+ */
+@Immutable
+final class CompressedSnapshot {
+
+    static final String ENCODING = "__snapshotEncoding";
+    static final String PAYLOAD_SIZE = "__snapshotPayloadSize";
+    static final String PAYLOAD = "__snapshotPayload";
+
+    private static final DeflatedCborCodec CODEC =
+            new DeflatedCborCodec(ENCODING, PAYLOAD_SIZE, PAYLOAD, "snapshot");
+
+    private CompressedSnapshot() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether the given raw snapshot was stored compressed.
+     *
+     * @param rawSnapshot the snapshot as read from the snapshot store.
+     * @return {@code true} if {@code rawSnapshot} is a compressed snapshot.
+     */
+    static boolean isCompressed(final BsonValue rawSnapshot) {
+        return CODEC.isCompressed(rawSnapshot);
+    }
+
+    /**
+     * Converts the given JSON representation of a snapshot entity to a compressed snapshot.
+     *
+     * @param snapshotJson the JSON representation of the snapshot entity.
+     * @return the compressed snapshot.
+     */
+    static BsonDocument toBson(final JsonObject snapshotJson) {
+        return CODEC.toBson(snapshotJson);
+    }
+
+    /**
+     * Converts the given compressed snapshot back to the JSON representation of the snapshot entity.
+     *
+     * @param compressedSnapshot the compressed snapshot.
+     * @return the JSON representation of the snapshot entity.
+     * @throws JsonParseException if {@code compressedSnapshot} has an unknown encoding or is corrupt.
+     */
+    static JsonObject toJson(final BsonDocument compressedSnapshot) {
+        return CODEC.toJson(compressedSnapshot);
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Converts a JSON object to a BSON document whose nested objects and arrays are stored as one deflated CBOR blob,
+ * and back.
+ * <p>
+ * Top-level fields with scalar values stay plain BSON fields so that they remain accessible to queries.
+ * Three metadata fields with configurable names hold the encoding, the size of the CBOR blob and the deflated blob
+ * itself; the encoding field distinguishes compressed documents from expanded ones.
+ * </p>
+ */
+@Immutable
+final class DeflatedCborCodec {
+
+    private static final String DEFLATED_CBOR = "deflated-cbor";
+
+    private final String encodingField;
+    private final String payloadSizeField;
+    private final String payloadField;
+    private final String description;
+
+    /**
+     * Constructs a new {@code DeflatedCborCodec} object.
+     *
+     * @param encodingField name of the field holding the encoding.
+     * @param payloadSizeField name of the field holding the size of the CBOR blob.
+     * @param payloadField name of the field holding the deflated CBOR blob.
+     * @param description describes the kind of compressed documents in error messages, e.g. "snapshot".
+     */
+    DeflatedCborCodec(final String encodingField, final String payloadSizeField, final String payloadField,
+            final String description) {
+
+        this.encodingField = encodingField;
+        this.payloadSizeField = payloadSizeField;
+        this.payloadField = payloadField;
+        this.description = description;
+    }
+
+    /**
+     * Indicates whether the given BSON value is a compressed document.
+     *
+     * @param bsonValue the BSON value.
+     * @return {@code true} if {@code bsonValue} was created by {@link #toBson(JsonObject)}.
+     */
+    boolean isCompressed(final BsonValue bsonValue) {
+        return bsonValue.isDocument() && bsonValue.asDocument().containsKey(encodingField);
+    }
+
+    /**
+     * Converts the given JSON object to a compressed document.
+     *
+     * @param jsonObject the JSON object.
+     * @return the compressed document.
+     */
+    BsonDocument toBson(final JsonObject jsonObject) {
+        final JsonObjectBuilder plainFields = JsonObject.newBuilder();
+        final JsonObjectBuilder compressedFields = JsonObject.newBuilder();
+        for (final JsonField field : jsonObject) {
+            final JsonValue value = field.getValue();
+            if (value.isObject() || value.isArray()) {
+                compressedFields.set(field);
+            } else {
+                plainFields.set(field);
+            }
+        }
+
+        final byte[] cbor = toCbor(compressedFields.build());
+        final BsonDocument result = DittoBsonJson.getInstance().parse(plainFields.build());
+        result.put(encodingField, new BsonString(DEFLATED_CBOR));
+        result.put(payloadSizeField, new BsonInt32(cbor.length));
+        result.put(payloadField, new BsonBinary(deflate(cbor)));
+        return result;
+    }
+
+    /**
+     * Converts the given compressed document back to the JSON object it was created from.
+     *
+     * @param compressedDocument the compressed document.
+     * @return the JSON object.
+     * @throws JsonParseException if {@code compressedDocument} has an unknown encoding or is corrupt.
+     */
+    JsonObject toJson(final BsonDocument compressedDocument) {
+        final String encoding = compressedDocument.getString(encodingField).getValue();
+        if (!DEFLATED_CBOR.equals(encoding)) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Unknown {0} encoding <{1}>!", description, encoding))
+                    .build();
+        }
+        final int payloadSize = compressedDocument.getInt32(payloadSizeField).getValue();
+        final byte[] payload = compressedDocument.getBinary(payloadField).getData();
+
+        final BsonDocument plainFields = compressedDocument.clone();
+        plainFields.remove(encodingField);
+        plainFields.remove(payloadSizeField);
+        plainFields.remove(payloadField);
+
+        return DittoBsonJson.getInstance().serialize(plainFields).toBuilder()
+                .setAll(CborFactory.readFrom(inflate(payload, payloadSize)).asObject())
+                .build();
+    }
+
+    private byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return CborFactory.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new IllegalStateException(MessageFormat.format("Failed to write {0} as CBOR!", description), e);
+        }
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        // favour speed over ratio as compression happens on the write path of the entity actors
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 16);
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                outputStream.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(final byte[] bytes, final int inflatedSize) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final byte[] result = new byte[inflatedSize];
+            int length = 0;
+            while (length < inflatedSize && !inflater.finished()) {
+                final int inflated = inflater.inflate(result, length, inflatedSize - length);
+                if (0 == inflated && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != inflatedSize) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("Compressed {0} has <{1}> instead of <{2}> bytes!",
+                                description, length, inflatedSize))
+                        .build();
+            }
+            return result;
+        } catch (final DataFormatException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Compressed {0} is corrupt!", description))
+                    .cause(e)
+                    .build();
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
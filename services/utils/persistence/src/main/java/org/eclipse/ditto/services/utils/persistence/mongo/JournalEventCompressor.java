@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EventCompressionConfig;
+
+/**
+ * Converts the JSON representation of events to the BSON values stored in the event journal and back.
+ * <p>
+ * If enabled, events whose JSON representation exceeds the configured threshold are stored with their nested objects
+ * and arrays as one deflated CBOR blob, while scalar fields like the event type stay plain BSON fields.
+ * The metadata field {@value #ENCODING} distinguishes compressed events from expanded ones, thus both are always
+ * readable regardless of the configuration and the setting may be switched at any time.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class JournalEventCompressor {
+
+    static final String ENCODING = "__eventEncoding";
+    static final String PAYLOAD_SIZE = "__eventPayloadSize";
+    static final String PAYLOAD = "__eventPayload";
+
+    private static final DeflatedCborCodec CODEC = new DeflatedCborCodec(ENCODING, PAYLOAD_SIZE, PAYLOAD, "event");
+
+    private static final JournalEventCompressor DISABLED = new JournalEventCompressor(false, 0L);
+
+    private final boolean enabled;
+    private final long threshold;
+
+    private JournalEventCompressor(final boolean enabled, final long threshold) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns an instance of {@code JournalEventCompressor} which compresses events as configured.
+     *
+     * @param eventCompressionConfig the config of the event compression.
+     * @return the instance.
+     * @throws NullPointerException if {@code eventCompressionConfig} is {@code null}.
+     */
+    public static JournalEventCompressor of(final EventCompressionConfig eventCompressionConfig) {
+        checkNotNull(eventCompressionConfig, "eventCompressionConfig");
+        return new JournalEventCompressor(eventCompressionConfig.isEnabled(), eventCompressionConfig.getThreshold());
+    }
+
+    /**
+     * Returns an instance of {@code JournalEventCompressor} which never compresses events but still reads compressed
+     * ones.
+     *
+     * @return the instance.
+     */
+    public static JournalEventCompressor disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Converts the given JSON representation of an event to the BSON document to store in the event journal.
+     *
+     * @param eventJson the JSON representation of the event.
+     * @return the BSON document, compressed if the event exceeds the threshold.
+     * @throws NullPointerException if {@code eventJson} is {@code null}.
+     */
+    public BsonDocument toJournal(final JsonObject eventJson) {
+        checkNotNull(eventJson, "eventJson");
+        if (enabled && eventJson.getUpperBoundForStringSize() > threshold) {
+            return CODEC.toBson(eventJson);
+        }
+        return DittoBsonJson.getInstance().parse(eventJson);
+    }
+
+    /**
+     * Converts the given BSON value read from the event journal back to the JSON representation of the event.
+     *
+     * @param journalEntry the BSON value as read from the event journal, compressed or not.
+     * @return the JSON representation of the event.
+     * @throws NullPointerException if {@code journalEntry} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if {@code journalEntry} is a corrupt compressed event.
+     */
+    public JsonValue fromJournal(final BsonValue journalEntry) {
+        checkNotNull(journalEntry, "journalEntry");
+        if (CODEC.isCompressed(journalEntry)) {
+            return CODEC.toJson(journalEntry.asDocument());
+        }
+        return DittoBsonJson.getInstance().serialize(journalEntry);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final JournalEventCompressor that = (JournalEventCompressor) o;
+        return enabled == that.enabled && threshold == that.threshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, threshold);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", threshold=" + threshold +
+                "]";
+    }
+
+}
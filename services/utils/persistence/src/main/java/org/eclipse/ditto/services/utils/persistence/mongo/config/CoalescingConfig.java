@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for coalescing the events of consecutive modifications of the same resource of an
+ * entity within the window of a group commit.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface CoalescingConfig {
+
+    /**
+     * Indicates whether events modifying the same resource are coalesced. Coalescing only takes effect if group
+     * commit is enabled as well.
+     *
+     * @return {@code true} if coalescing is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the namespaces of the entities whose events are coalesced. An empty list means all namespaces.
+     *
+     * @return the namespaces.
+     */
+    List<String> getNamespaces();
+
+    /**
+     * Indicates whether the events of entities in the given namespace are coalesced.
+     *
+     * @param namespace the namespace of an entity.
+     * @return {@code true} if coalescing is enabled for {@code namespace}.
+     */
+    default boolean isEnabledForNamespace(final String namespace) {
+        return isEnabled() && (getNamespaces().isEmpty() || getNamespaces().contains(namespace));
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CoalescingConfig}.
+     */
+    enum CoalescingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events modifying the same resource are coalesced.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The namespaces of the entities whose events are coalesced.
+         */
+        NAMESPACES("namespaces", Collections.emptyList());
+
+        private final String path;
+        private final Object defaultValue;
+
+        CoalescingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
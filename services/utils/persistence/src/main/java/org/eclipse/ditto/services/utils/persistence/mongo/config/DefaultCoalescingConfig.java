@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for coalescing the events of an entity.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultCoalescingConfig implements CoalescingConfig {
+
+    private static final String CONFIG_PATH = "coalescing";
+
+    private final boolean enabled;
+    private final List<String> namespaces;
+
+    private DefaultCoalescingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(CoalescingConfigValue.ENABLED.getConfigPath());
+        namespaces = Collections.unmodifiableList(
+                new ArrayList<>(config.getStringList(CoalescingConfigValue.NAMESPACES.getConfigPath())));
+    }
+
+    /**
+     * Returns an instance of the default coalescing config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the coalescing config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCoalescingConfig of(final Config config) {
+        return new DefaultCoalescingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CoalescingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<String> getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCoalescingConfig that = (DefaultCoalescingConfig) o;
+        return enabled == that.enabled && Objects.equals(namespaces, that.namespaces);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, namespaces);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", namespaces=" + namespaces +
+                "]";
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the compression of large events in the event journal.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultEventCompressionConfig implements EventCompressionConfig {
+
+    private static final String CONFIG_PATH = "event-compression";
+
+    private final boolean enabled;
+    private final long threshold;
+
+    private DefaultEventCompressionConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(EventCompressionConfigValue.ENABLED.getConfigPath());
+        threshold = getThreshold(config);
+    }
+
+    private static long getThreshold(final ScopedConfig config) {
+        final long result = config.getBytes(EventCompressionConfigValue.THRESHOLD.getConfigPath());
+        if (0 > result) {
+            final String msgPattern = "The event compression threshold must not be negative but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default event compression config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the event compression config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEventCompressionConfig of(final Config config) {
+        return new DefaultEventCompressionConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EventCompressionConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public long getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEventCompressionConfig that = (DefaultEventCompressionConfig) o;
+        return enabled == that.enabled && threshold == that.threshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, threshold);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", threshold=" + threshold +
+                "]";
+    }
+
+}
@@ -34,10 +34,12 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean compressed;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        compressed = config.getBoolean(SnapshotConfigValue.COMPRESSED.getConfigPath());
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -71,6 +73,11 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isCompressed() {
+        return compressed;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +87,13 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold && compressed == that.compressed &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, compressed);
     }
 
     @Override
@@ -93,6 +101,7 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", compressed=" + compressed +
                 "]";
     }
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the warm-up of hot entities after a restart.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public final class DefaultWarmUpConfig implements WarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final int maxEntities;
+    private final Duration maxAge;
+    private final int parallelism;
+    private final int rateEntities;
+    private final Duration rateFrequency;
+
+    private DefaultWarmUpConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WarmUpConfigValue.ENABLED.getConfigPath());
+        maxEntities = getPositiveInt(config, WarmUpConfigValue.MAX_ENTITIES);
+        maxAge = config.getDuration(WarmUpConfigValue.MAX_AGE.getConfigPath());
+        parallelism = getPositiveInt(config, WarmUpConfigValue.PARALLELISM);
+        rateEntities = getPositiveInt(config, WarmUpConfigValue.RATE_ENTITIES);
+        rateFrequency = config.getDuration(WarmUpConfigValue.RATE_FREQUENCY.getConfigPath());
+    }
+
+    private static int getPositiveInt(final ScopedConfig config, final KnownConfigValue configValue) {
+        final int result = config.getInt(configValue.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The value of <{0}> must be positive but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default warm-up config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm-up config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmUpConfig of(final Config config) {
+        return new DefaultWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxEntities() {
+        return maxEntities;
+    }
+
+    @Override
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public int getRateEntities() {
+        return rateEntities;
+    }
+
+    @Override
+    public Duration getRateFrequency() {
+        return rateFrequency;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmUpConfig that = (DefaultWarmUpConfig) o;
+        return enabled == that.enabled &&
+                maxEntities == that.maxEntities &&
+                parallelism == that.parallelism &&
+                rateEntities == that.rateEntities &&
+                Objects.equals(maxAge, that.maxAge) &&
+                Objects.equals(rateFrequency, that.rateFrequency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxEntities, maxAge, parallelism, rateEntities, rateFrequency);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxEntities=" + maxEntities +
+                ", maxAge=" + maxAge +
+                ", parallelism=" + parallelism +
+                ", rateEntities=" + rateEntities +
+                ", rateFrequency=" + rateFrequency +
+                "]";
+    }
+
+}
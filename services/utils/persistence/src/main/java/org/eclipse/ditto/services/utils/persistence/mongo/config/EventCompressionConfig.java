@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for storing large events compressed in the event journal.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface EventCompressionConfig {
+
+    /**
+     * Indicates whether events above the threshold are stored compressed.
+     *
+     * @return {@code true} if event compression is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the size of the JSON representation of an event in bytes above which the event is stored compressed.
+     *
+     * @return the threshold in bytes.
+     */
+    long getThreshold();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EventCompressionConfig}.
+     */
+    enum EventCompressionConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events above the threshold are stored compressed.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The size of an event in bytes above which it is stored compressed.
+         */
+        THRESHOLD("threshold", 16_384L);
+
+        private final String path;
+        private final Object defaultValue;
+
+        EventCompressionConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for persisting the events of consecutive commands to an entity together.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether the events of consecutive commands are persisted together.
+     *
+     * @return {@code true} if group commit is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long events are collected after the first event of a group before the group is persisted.
+     *
+     * @return the window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of events of a group; a group is persisted immediately once it is full.
+     *
+     * @return the maximum number of events.
+     */
+    int getMaxEvents();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the events of consecutive commands are persisted together.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long events are collected after the first event of a group.
+         */
+        WINDOW("window", Duration.ofMillis(10L)),
+
+        /**
+         * The maximum number of events of a group.
+         */
+        MAX_EVENTS("max-events", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots are stored as compressed CBOR instead of expanded BSON documents.
+     * Snapshots of both formats can be read regardless of this setting.
+     *
+     * @return {@code true} if snapshots are stored compressed.
+     * @since 1.2.0
+     */
+    boolean isCompressed();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Whether snapshots are stored as compressed CBOR.
+         */
+        COMPRESSED("compressed", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for recording the IDs of hot entities on graceful shutdown and for recovering
+ * these entities proactively after a restart.
+ *
+ * @since 1.2.0
+ */
+@Immutable
+public interface WarmUpConfig {
+
+    /**
+     * Indicates whether hot entities are recorded on shutdown and recovered on startup.
+     *
+     * @return {@code true} if warm-up is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of entity IDs recorded by one instance on shutdown.
+     *
+     * @return the maximum number of entity IDs.
+     */
+    int getMaxEntities();
+
+    /**
+     * Returns how long recorded entity IDs stay relevant; older records are discarded on startup.
+     *
+     * @return the maximum age of records.
+     */
+    Duration getMaxAge();
+
+    /**
+     * Returns the maximum number of entities recovering concurrently during warm-up.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the number of entities to recover per {@link #getRateFrequency() frequency}.
+     *
+     * @return the number of entities.
+     */
+    int getRateEntities();
+
+    /**
+     * Returns the interval in which at most {@link #getRateEntities()} entities are recovered.
+     *
+     * @return the frequency.
+     */
+    Duration getRateFrequency();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmUpConfig}.
+     */
+    enum WarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether hot entities are recorded on shutdown and recovered on startup.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of entity IDs recorded by one instance.
+         */
+        MAX_ENTITIES("max-entities", 10_000),
+
+        /**
+         * How long recorded entity IDs stay relevant.
+         */
+        MAX_AGE("max-age", Duration.ofMinutes(10L)),
+
+        /**
+         * The maximum number of entities recovering concurrently.
+         */
+        PARALLELISM("parallelism", 10),
+
+        /**
+         * The number of entities to recover per frequency.
+         */
+        RATE_ENTITIES("rate.entities", 100),
+
+        /**
+         * The interval in which at most the configured number of entities are recovered.
+         */
+        RATE_FREQUENCY("rate.frequency", Duration.ofSeconds(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        WarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.streaming;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.akka.streaming.HotEntitiesPersistence;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * MongoDB implementation of {@link HotEntitiesPersistence}.
+ * Stores one document per instance holding the time of recording and the entity IDs. Claiming a record finds and
+ * deletes it atomically.
+ *
+ * @since 1.2.0
+ */
+public final class MongoHotEntitiesPersistence implements HotEntitiesPersistence {
+
+    private static final String FIELD_ID = "_id";
+
+    private static final String FIELD_TIMESTAMP = "ts";
+
+    private static final String FIELD_ENTITY_IDS = "ids";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MongoHotEntitiesPersistence.class);
+
+    private final MongoCollection<Document> collection;
+
+    private MongoHotEntitiesPersistence(final MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param collectionName The name of the collection.
+     * @param mongoClient the client wrapper holding the connection information.
+     * @return a new instance.
+     */
+    public static MongoHotEntitiesPersistence of(final String collectionName, final DittoMongoClient mongoClient) {
+        return new MongoHotEntitiesPersistence(mongoClient.getCollection(collectionName));
+    }
+
+    @Override
+    public Source<Done, NotUsed> setHotEntityIds(final String instanceId, final List<String> entityIds) {
+        final Document toStore = new Document()
+                .append(FIELD_ID, instanceId)
+                .append(FIELD_TIMESTAMP, Date.from(Instant.now()))
+                .append(FIELD_ENTITY_IDS, entityIds);
+        return Source.fromPublisher(
+                collection.replaceOne(Filters.eq(FIELD_ID, instanceId), toStore, new ReplaceOptions().upsert(true)))
+                .map(result -> {
+                    LOGGER.debug("Successfully recorded <{}> hot entities of <{}>.", entityIds.size(), instanceId);
+                    return Done.done();
+                });
+    }
+
+    @Override
+    public Source<String, NotUsed> claimHotEntityIds(final Instant notBefore) {
+        final Date date = Date.from(notBefore);
+        final FindOneAndDeleteOptions mostRecentFirst =
+                new FindOneAndDeleteOptions().sort(Sorts.descending(FIELD_TIMESTAMP));
+        return Source.fromPublisher(collection.deleteMany(Filters.lt(FIELD_TIMESTAMP, date)))
+                .flatMapConcat(deleteResult -> Source.fromPublisher(
+                        collection.findOneAndDelete(Filters.gte(FIELD_TIMESTAMP, date), mostRecentFirst)))
+                .mapConcat(document -> {
+                    LOGGER.debug("Claimed hot entities recorded by <{}>.", document.get(FIELD_ID));
+                    return document.getList(FIELD_ENTITY_IDS, String.class);
+                });
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultCoalescingConfig}.
+ */
+public final class DefaultCoalescingConfigTest {
+
+    private static Config coalescingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        coalescingTestConf = ConfigFactory.load("coalescing-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultCoalescingConfig.class,
+                areImmutable(),
+                assumingFields("namespaces").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultCoalescingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultCoalescingConfig underTest = DefaultCoalescingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CoalescingConfig.CoalescingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(CoalescingConfig.CoalescingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getNamespaces())
+                .as(CoalescingConfig.CoalescingConfigValue.NAMESPACES.getConfigPath())
+                .isEqualTo(CoalescingConfig.CoalescingConfigValue.NAMESPACES.getDefaultValue());
+        softly.assertThat(underTest.isEnabledForNamespace("org.eclipse.ditto")).isFalse();
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultCoalescingConfig underTest = DefaultCoalescingConfig.of(coalescingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(CoalescingConfig.CoalescingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getNamespaces())
+                .as(CoalescingConfig.CoalescingConfigValue.NAMESPACES.getConfigPath())
+                .isEqualTo(Arrays.asList("org.eclipse.ditto.telemetry", "com.acme"));
+        softly.assertThat(underTest.isEnabledForNamespace("com.acme")).isTrue();
+        softly.assertThat(underTest.isEnabledForNamespace("org.eclipse.ditto")).isFalse();
+    }
+
+    @Test
+    public void emptyNamespacesEnableCoalescingForAllNamespaces() {
+        final DefaultCoalescingConfig underTest =
+                DefaultCoalescingConfig.of(ConfigFactory.parseString("coalescing.enabled = true"));
+
+        softly.assertThat(underTest.isEnabledForNamespace("org.eclipse.ditto")).isTrue();
+        softly.assertThat(underTest.isEnabledForNamespace("")).isTrue();
+    }
+
+}
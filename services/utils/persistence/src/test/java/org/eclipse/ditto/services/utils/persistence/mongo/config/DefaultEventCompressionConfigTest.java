@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEventCompressionConfig}.
+ */
+public final class DefaultEventCompressionConfigTest {
+
+    private static Config eventCompressionTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        eventCompressionTestConf = ConfigFactory.load("event-compression-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEventCompressionConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEventCompressionConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEventCompressionConfig underTest = DefaultEventCompressionConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventCompressionConfig.EventCompressionConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(EventCompressionConfig.EventCompressionConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getThreshold())
+                .as(EventCompressionConfig.EventCompressionConfigValue.THRESHOLD.getConfigPath())
+                .isEqualTo(EventCompressionConfig.EventCompressionConfigValue.THRESHOLD.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEventCompressionConfig underTest = DefaultEventCompressionConfig.of(eventCompressionTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(EventCompressionConfig.EventCompressionConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getThreshold())
+                .as(EventCompressionConfig.EventCompressionConfigValue.THRESHOLD.getConfigPath())
+                .isEqualTo(1024L);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig}.
+ */
+public final class DefaultGroupCommitConfigTest {
+
+    private static Config groupCommitTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        groupCommitTestConf = ConfigFactory.load("group-commit-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultGroupCommitConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultGroupCommitConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultGroupCommitConfig underTest = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getWindow())
+                .as(GroupCommitConfig.GroupCommitConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(GroupCommitConfig.GroupCommitConfigValue.WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getMaxEvents())
+                .as(GroupCommitConfig.GroupCommitConfigValue.MAX_EVENTS.getConfigPath())
+                .isEqualTo(GroupCommitConfig.GroupCommitConfigValue.MAX_EVENTS.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultGroupCommitConfig underTest = DefaultGroupCommitConfig.of(groupCommitTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getWindow())
+                .as(GroupCommitConfig.GroupCommitConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(50L));
+        softly.assertThat(underTest.getMaxEvents())
+                .as(GroupCommitConfig.GroupCommitConfigValue.MAX_EVENTS.getConfigPath())
+                .isEqualTo(3);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmUpConfig}.
+ */
+public final class DefaultWarmUpConfigTest {
+
+    private static Config warmUpTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        warmUpTestConf = ConfigFactory.load("warm-up-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmUpConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmUpConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxEntities())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_ENTITIES.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.MAX_ENTITIES.getDefaultValue());
+        softly.assertThat(underTest.getMaxAge())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(WarmUpConfig.WarmUpConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getRateEntities())
+                .as(WarmUpConfig.WarmUpConfigValue.RATE_ENTITIES.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.RATE_ENTITIES.getDefaultValue());
+        softly.assertThat(underTest.getRateFrequency())
+                .as(WarmUpConfig.WarmUpConfigValue.RATE_FREQUENCY.getConfigPath())
+                .isEqualTo(WarmUpConfig.WarmUpConfigValue.RATE_FREQUENCY.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWarmUpConfig underTest = DefaultWarmUpConfig.of(warmUpTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmUpConfig.WarmUpConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxEntities())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_ENTITIES.getConfigPath())
+                .isEqualTo(500);
+        softly.assertThat(underTest.getMaxAge())
+                .as(WarmUpConfig.WarmUpConfigValue.MAX_AGE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(3L));
+        softly.assertThat(underTest.getParallelism())
+                .as(WarmUpConfig.WarmUpConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(4);
+        softly.assertThat(underTest.getRateEntities())
+                .as(WarmUpConfig.WarmUpConfigValue.RATE_ENTITIES.getConfigPath())
+                .isEqualTo(20);
+        softly.assertThat(underTest.getRateFrequency())
+                .as(WarmUpConfig.WarmUpConfigValue.RATE_FREQUENCY.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+    }
+}
@@ -13,12 +13,16 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.entity.id.NamespacedEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -27,6 +31,10 @@ import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.CoalescingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultCoalescingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
@@ -35,6 +43,8 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
@@ -61,6 +71,10 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final GroupCommitConfig NO_GROUP_COMMIT = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+    private static final CoalescingConfig NO_COALESCING = DefaultCoalescingConfig.of(ConfigFactory.empty());
+    private static final String GROUP_COMMIT_TIMER = "groupCommit";
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
@@ -80,6 +94,16 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    // events of the current group commit which are applied to the entity but not persisted yet
+    private final List<E> groupedEvents = new ArrayList<>();
+    // replies which are sent in order of their commands once the events of the current group commit are persisted
+    private final List<PendingReply> groupedReplies = new ArrayList<>();
+    // replies of the group commits whose events are being persisted
+    private final List<PendingReply> persistingReplies = new ArrayList<>();
+    // pending events before this index were exposed by queries and must keep their revision, i. e. not be coalesced
+    private int coalescingBarrier = 0;
+    private long unpersistedEventCount = 0L;
+
     /**
      * Instantiate the actor.
      *
@@ -145,6 +169,28 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for persisting the events of consecutive commands together. Group commit is disabled
+     * unless overridden.
+     *
+     * @return configuration for group commits.
+     * @since 1.2.0
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return NO_GROUP_COMMIT;
+    }
+
+    /**
+     * Returns the configuration for coalescing the events of consecutive modifications of the same resource within
+     * the window of a group commit. Coalescing is disabled unless overridden.
+     *
+     * @return configuration for coalescing.
+     * @since 1.2.0
+     */
+    protected CoalescingConfig getCoalescingConfig() {
+        return NO_COALESCING;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -157,6 +203,12 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract DittoRuntimeExceptionBuilder newNotAccessibleExceptionBuilder();
 
+    /**
+     * @return An exception builder to respond to commands of a group commit whose events could not be persisted.
+     * @since 1.2.0
+     */
+    protected abstract DittoRuntimeExceptionBuilder newUnavailableExceptionBuilder();
+
     /**
      * Publish an event.
      *
@@ -198,15 +250,41 @@ public abstract class AbstractShardedPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        // events of a group commit are applied before they are persisted
+        return lastSequenceNr() + unpersistedEventCount;
     }
 
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (0L < unpersistedEventCount) {
+            log.warning("Discarding <{}> unpersisted events of group commit for entity <{}> on stop.",
+                    unpersistedEventCount, entityId);
+            rejectPendingReplies();
+        }
         super.postStop();
     }
 
+    @Override
+    public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+        // the actor is stopped after this callback and recovers from the journal on the next command
+        rejectPendingReplies();
+        super.onPersistFailure(cause, event, seqNr);
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (0L < unpersistedEventCount) {
+            // events of a group commit are applied before they are persisted, thus the entity does not match the
+            // journal any more; stop to recover from the journal on the next command
+            log.error(cause, "Rejected event of group commit for entity <{}>, stopping to recover from journal.",
+                    entityId);
+            rejectPendingReplies();
+            getContext().stop(getSelf());
+        }
+    }
+
     @Override
     public Receive createReceive() {
         return createDeletedBehavior();
@@ -246,6 +324,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.GROUP_COMMIT, this::groupCommitByWindow)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::matchAnyAfterInitialization)
@@ -276,16 +355,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
+        final E modifiedEvent = setEntitySchemaVersion(event);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
@@ -298,6 +368,17 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private E setEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        }
+        return event;
+    }
+
     /**
      * Check for activity. Shutdown actor if it is lacking.
      *
@@ -337,6 +418,7 @@ public abstract class AbstractShardedPersistenceActor<
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.GROUP_COMMIT, this::groupCommitByWindow)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -384,7 +466,7 @@ public abstract class AbstractShardedPersistenceActor<
         try {
             result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            notifySender(e);
             return;
         }
         result.accept(this);
@@ -394,6 +476,13 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
+        if (getGroupCommitConfig().isEnabled() && !becomeCreated && !becomeDeleted &&
+                !event.getDittoHeaders().isDryRun()) {
+            addToGroupCommit(command, event, response);
+            return;
+        }
+        // events of a group commit have to be persisted before the entity is created or deleted
+        groupCommit();
         persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
             if (command.getDittoHeaders().isResponseRequired()) {
                 notifySender(response);
@@ -410,10 +499,22 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void onQuery(final Command command, final WithDittoHeaders response) {
         if (command.getDittoHeaders().isResponseRequired()) {
+            raiseCoalescingBarrier(command.getResourcePath());
             notifySender(response);
         }
     }
 
+    private void raiseCoalescingBarrier(final JsonPointer queriedResourcePath) {
+        // the response reveals the pending events of overlapping resources together with the current revision;
+        // coalescing a later event into one of them would give that revision a second content
+        for (int i = groupedEvents.size() - 1; coalescingBarrier <= i; i--) {
+            if (isOverlapping(queriedResourcePath, groupedEvents.get(i).getResourcePath())) {
+                coalescingBarrier = i + 1;
+                return;
+            }
+        }
+    }
+
     @Override
     public void onError(final DittoRuntimeException error, final Command errorCausingCommand) {
         if (errorCausingCommand.getDittoHeaders().isResponseRequired()) {
@@ -421,6 +522,131 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private void addToGroupCommit(final Command command, final E event, final WithDittoHeaders response) {
+        final E modifiedEvent = setEntitySchemaVersion(event);
+
+        final int supersededIndex = isCoalescingEnabled() ? findSupersededEvent(modifiedEvent) : -1;
+        if (0 <= supersededIndex) {
+            coalesce(supersededIndex, modifiedEvent);
+        } else {
+            // apply the event right away so that the next command is handled against the resulting entity
+            unpersistedEventCount++;
+            handleEvents.onMessage().apply(modifiedEvent);
+            groupedEvents.add(modifiedEvent);
+        }
+        if (command.getDittoHeaders().isResponseRequired()) {
+            notifySender(response);
+        }
+
+        final GroupCommitConfig groupCommitConfig = getGroupCommitConfig();
+        if (groupedEvents.size() >= groupCommitConfig.getMaxEvents()) {
+            groupCommit();
+        } else if (1 == groupedEvents.size() && 0 > supersededIndex) {
+            timers().startSingleTimer(GROUP_COMMIT_TIMER, Control.GROUP_COMMIT, groupCommitConfig.getWindow());
+        }
+    }
+
+    private void coalesce(final int supersededIndex, final E event) {
+        // last writer wins: the event takes the place and the revision of the pending event it supersedes, thus
+        // the revision of the entity stays the same and matches the sequence number once the group is persisted
+        final E coalescedEvent = (E) event.setRevision(groupedEvents.get(supersededIndex).getRevision());
+        log.debug("Coalescing event <{}> with a pending event of the group commit.", coalescedEvent.getType());
+        handleEvents.onMessage().apply(coalescedEvent);
+        groupedEvents.set(supersededIndex, coalescedEvent);
+    }
+
+    private boolean isCoalescingEnabled() {
+        final String namespace =
+                entityId instanceof NamespacedEntityId ? ((NamespacedEntityId) entityId).getNamespace() : "";
+        return getCoalescingConfig().isEnabledForNamespace(namespace);
+    }
+
+    /**
+     * Find the pending event of the current group commit which the given event supersedes, i. e. the latest pending
+     * event of the same type for the same resource which is not followed by an event for an overlapping resource.
+     * Events for the entity as a whole are never coalesced because their responses reveal the revision; neither are
+     * events which were revealed by the response to a query.
+     *
+     * @param event the event to add to the group commit.
+     * @return index of the superseded event in the pending events, or -1 if there is none.
+     */
+    private int findSupersededEvent(final E event) {
+        final JsonPointer resourcePath = event.getResourcePath();
+        if (resourcePath.isEmpty()) {
+            return -1;
+        }
+        for (int i = groupedEvents.size() - 1; 0 <= i; i--) {
+            final E pendingEvent = groupedEvents.get(i);
+            final JsonPointer pendingResourcePath = pendingEvent.getResourcePath();
+            if (isOverlapping(resourcePath, pendingResourcePath)) {
+                final boolean isSuperseded = coalescingBarrier <= i &&
+                        pendingEvent.getType().equals(event.getType()) &&
+                        pendingResourcePath.equals(resourcePath);
+                return isSuperseded ? i : -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isOverlapping(final JsonPointer path1, final JsonPointer path2) {
+        final int levelCount = Math.min(path1.getLevelCount(), path2.getLevelCount());
+        for (int level = 0; level < levelCount; level++) {
+            if (!path1.get(level).equals(path2.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void groupCommitByWindow(final Control groupCommit) {
+        groupCommit();
+    }
+
+    private void groupCommit() {
+        if (groupedEvents.isEmpty()) {
+            return;
+        }
+        timers().cancel(GROUP_COMMIT_TIMER);
+        final List<E> events = new ArrayList<>(groupedEvents);
+        final int replyCount = groupedReplies.size();
+        persistingReplies.addAll(groupedReplies);
+        groupedEvents.clear();
+        groupedReplies.clear();
+        coalescingBarrier = 0;
+
+        final E lastEvent = events.get(events.size() - 1);
+        log.debug("Persisting <{}> events of group commit.", events.size());
+        persistAll(events, persistedEvent -> {
+            unpersistedEventCount--;
+            publishEvent(persistedEvent);
+            if (persistedEvent == lastEvent) {
+                log.info("Successfully persisted <{}> events of group commit.", events.size());
+                // group commits are persisted in order, thus the replies of this one are the first ones
+                final List<PendingReply> replies = persistingReplies.subList(0, replyCount);
+                replies.forEach(PendingReply::send);
+                replies.clear();
+                if (snapshotThresholdPassed()) {
+                    takeSnapshot("snapshot threshold is reached");
+                }
+            }
+        });
+    }
+
+    private void rejectPendingReplies() {
+        timers().cancel(GROUP_COMMIT_TIMER);
+        final List<PendingReply> pendingReplies = new ArrayList<>(persistingReplies);
+        pendingReplies.addAll(groupedReplies);
+        persistingReplies.clear();
+        groupedReplies.clear();
+        groupedEvents.clear();
+        coalescingBarrier = 0;
+        unpersistedEventCount = 0L;
+
+        final DittoRuntimeExceptionBuilder builder = newUnavailableExceptionBuilder();
+        pendingReplies.forEach(pendingReply -> pendingReply.sender.tell(
+                builder.dittoHeaders(pendingReply.message.getDittoHeaders()).build(), getSelf()));
+    }
+
     private long getNextRevisionNumber() {
         return getRevisionNumber() + 1;
     }
@@ -448,7 +674,10 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (0L < unpersistedEventCount) {
+            log.debug("Not taking snapshot for entity <{}> with unpersisted events of group commit even if {}.",
+                    entityId, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -480,7 +709,12 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void notifySender(final ActorRef sender, final WithDittoHeaders message) {
         accessCounter++;
-        sender.tell(message, getSelf());
+        if (groupedEvents.isEmpty()) {
+            sender.tell(message, getSelf());
+        } else {
+            // keep the order of replies and do not reveal the results of unpersisted events
+            groupedReplies.add(new PendingReply(sender, message, getSelf()));
+        }
     }
 
     private void takeSnapshotByInterval(final Control takeSnapshot) {
@@ -515,6 +749,13 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
+        if (0L < unpersistedEventCount) {
+            // persist the pending events first; commands are stashed until they are persisted
+            log.debug("Persisting group commit of entity <{}> before shutting down.", entityId);
+            groupCommit();
+            scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
+            return;
+        }
         log.debug(shutdownLogTemplate, String.valueOf(entityId));
         passivate();
     }
@@ -562,7 +803,26 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        GROUP_COMMIT
+    }
+
+    private static final class PendingReply {
+
+        private final ActorRef sender;
+        private final WithDittoHeaders message;
+        private final ActorRef self;
+
+        private PendingReply(final ActorRef sender, final WithDittoHeaders message, final ActorRef self) {
+            this.sender = sender;
+            this.message = message;
+            this.self = self;
+        }
+
+        private void send() {
+            sender.tell(message, self);
+        }
+
     }
 
 }
@@ -19,9 +19,11 @@ import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.DDataReader;
+import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
@@ -79,7 +81,7 @@ public final class Publisher<T> extends AbstractActor {
         messageCounter.increment();
         topicCounter.increment(publish.getTopics().size());
         final List<T> hashes = publish.getTopics().stream().map(ddataReader::approximate).collect(Collectors.toList());
-        final Object message = publish.getMessage();
+        final Object message = wrapSignal(publish.getMessage());
         final ActorRef sender = getSender();
         currentPublication = currentPublication.thenCompose(_void ->
                 ddataReader.getSubscribers(hashes)
@@ -91,6 +93,14 @@ public final class Publisher<T> extends AbstractActor {
         );
     }
 
+    private static Object wrapSignal(final Object message) {
+        // subscribers without local subscriptions for the topics of a signal discard it without parsing its payload
+        if (message instanceof Signal) {
+            return SignalEnvelope.of((Signal<?>) message);
+        }
+        return message;
+    }
+
     private void logUnhandled(final Object message) {
         log.warning("Unhandled: <{}>", message);
     }
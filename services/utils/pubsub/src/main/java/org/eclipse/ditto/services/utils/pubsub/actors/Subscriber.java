@@ -13,7 +13,10 @@
 package org.eclipse.ditto.services.utils.pubsub.actors;
 
 import java.util.Collection;
+import java.util.Optional;
 
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriptionsReader;
@@ -22,6 +25,7 @@ import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 
 /**
@@ -36,6 +40,8 @@ public final class Subscriber<T> extends AbstractActor {
      */
     public static final String ACTOR_NAME_PREFIX = "subscriber";
 
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
     private final Class<T> messageClass;
     private final PubSubTopicExtractor<T> topicExtractor;
 
@@ -64,11 +70,33 @@ public final class Subscriber<T> extends AbstractActor {
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
+                .match(SignalEnvelope.class, this::broadcastEnvelopeToLocalSubscribers)
                 .match(messageClass, this::broadcastToLocalSubscribers)
                 .match(SubscriptionsReader.class, this::updateLocalSubscriptions)
                 .build();
     }
 
+    private void broadcastEnvelopeToLocalSubscribers(final SignalEnvelope envelope) {
+        final Optional<Collection<String>> topics = topicExtractor.getTopicsOfEnvelope(envelope);
+        if (topics.isPresent() && localSubscriptions.getSubscribers(topics.get()).isEmpty()) {
+            // false positive of the Bloom filter: discard the signal without parsing its payload
+            falsePositiveCounter.increment();
+            return;
+        }
+        final Object signal;
+        try {
+            signal = envelope.getSignal();
+        } catch (final RuntimeException e) {
+            log.warning("Discarding <{}> as its signal could not be parsed: {}", envelope, e.getMessage());
+            return;
+        }
+        if (messageClass.isInstance(signal)) {
+            broadcastToLocalSubscribers(messageClass.cast(signal));
+        } else {
+            unhandled(signal);
+        }
+    }
+
     private void broadcastToLocalSubscribers(final T message) {
         final Collection<String> topics = topicExtractor.getTopics(message);
         final Collection<ActorRef> localSubscribers = localSubscriptions.getSubscribers(topics);
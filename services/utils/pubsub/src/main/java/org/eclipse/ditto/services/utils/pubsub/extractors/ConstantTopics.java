@@ -16,6 +16,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 
 /**
  * Extract the same topics for all messages of the type.
@@ -45,4 +48,9 @@ public final class ConstantTopics<T> implements PubSubTopicExtractor<T> {
     public Collection<String> getTopics(final T event) {
         return topics;
     }
+
+    @Override
+    public Optional<Collection<String>> getTopicsOfEnvelope(final SignalEnvelope envelope) {
+        return Optional.of(topics);
+    }
 }
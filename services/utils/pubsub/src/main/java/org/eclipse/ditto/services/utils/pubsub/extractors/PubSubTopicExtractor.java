@@ -15,6 +15,9 @@ package org.eclipse.ditto.services.utils.pubsub.extractors;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
+
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 
 /**
  * Functional interface for extractors of topics from messages.
@@ -32,6 +35,18 @@ public interface PubSubTopicExtractor<T> {
      */
     Collection<String> getTopics(T message);
 
+    /**
+     * Extract topics from the envelope of a message without parsing the message. Extractors which need more than the
+     * entity ID and the headers of the message return an empty optional; the message is parsed then.
+     *
+     * @param envelope the envelope of the message.
+     * @return the collection of topics the message was published to, or an empty optional if they cannot be
+     * extracted from the envelope.
+     */
+    default Optional<Collection<String>> getTopicsOfEnvelope(final SignalEnvelope envelope) {
+        return Optional.empty();
+    }
+
     /**
      * Combine 2 topic extractors.
      *
@@ -49,13 +64,33 @@ public interface PubSubTopicExtractor<T> {
      * @return a topic extractor that delivers topics extracted by both this and that.
      */
     default PubSubTopicExtractor<T> with(final Collection<PubSubTopicExtractor<T>> those) {
-        return message -> {
-            final Collection<String> topicsFromThis = this.getTopics(message);
-            final Collection<String> result = new HashSet<>(topicsFromThis);
-            for (final PubSubTopicExtractor<T> that : those) {
-                result.addAll(that.getTopics(message));
+        final PubSubTopicExtractor<T> self = this;
+        return new PubSubTopicExtractor<T>() {
+            @Override
+            public Collection<String> getTopics(final T message) {
+                final Collection<String> result = new HashSet<>(self.getTopics(message));
+                for (final PubSubTopicExtractor<T> that : those) {
+                    result.addAll(that.getTopics(message));
+                }
+                return result;
+            }
+
+            @Override
+            public Optional<Collection<String>> getTopicsOfEnvelope(final SignalEnvelope envelope) {
+                final Optional<Collection<String>> topicsFromThis = self.getTopicsOfEnvelope(envelope);
+                if (!topicsFromThis.isPresent()) {
+                    return Optional.empty();
+                }
+                final Collection<String> result = new HashSet<>(topicsFromThis.get());
+                for (final PubSubTopicExtractor<T> that : those) {
+                    final Optional<Collection<String>> topicsFromThat = that.getTopicsOfEnvelope(envelope);
+                    if (!topicsFromThat.isPresent()) {
+                        return Optional.empty();
+                    }
+                    result.addAll(topicsFromThat.get());
+                }
+                return Optional.of(result);
             }
-            return result;
         };
     }
 }
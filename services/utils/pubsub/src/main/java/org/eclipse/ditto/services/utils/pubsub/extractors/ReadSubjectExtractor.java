@@ -13,12 +13,14 @@
 package org.eclipse.ditto.services.utils.pubsub.extractors;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 
 /**
  * Extract read-subjects of messages as topics.
@@ -41,7 +43,15 @@ public final class ReadSubjectExtractor<T extends WithDittoHeaders> implements P
 
     @Override
     public Collection<String> getTopics(final T event) {
-        final DittoHeaders dittoHeaders = event.getDittoHeaders();
+        return getReadSubjects(event.getDittoHeaders());
+    }
+
+    @Override
+    public Optional<Collection<String>> getTopicsOfEnvelope(final SignalEnvelope envelope) {
+        return Optional.of(getReadSubjects(envelope.getDittoHeaders()));
+    }
+
+    private static Collection<String> getReadSubjects(final DittoHeaders dittoHeaders) {
         final Set<AuthorizationSubject> readGrantedSubjects = dittoHeaders.getReadGrantedSubjects();
 
         return readGrantedSubjects.stream()
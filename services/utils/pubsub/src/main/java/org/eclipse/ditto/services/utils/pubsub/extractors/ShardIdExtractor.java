@@ -14,8 +14,10 @@ package org.eclipse.ditto.services.utils.pubsub.extractors;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
 
 /**
  * Extract read-subjects of events as topics.
@@ -45,4 +47,9 @@ public final class ShardIdExtractor<T> implements PubSubTopicExtractor<T> {
     public Collection<String> getTopics(final T message) {
         return Collections.singletonList(shardRegionExtractor.shardId(message));
     }
+
+    @Override
+    public Optional<Collection<String>> getTopicsOfEnvelope(final SignalEnvelope envelope) {
+        return Optional.of(Collections.singletonList(shardRegionExtractor.shardId(envelope)));
+    }
 }
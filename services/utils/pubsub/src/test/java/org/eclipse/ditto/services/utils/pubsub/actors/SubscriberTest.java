@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cluster.BinaryJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.services.utils.cluster.SignalEnvelope;
+import org.eclipse.ditto.services.utils.pubsub.ddata.SubscriptionsReader;
+import org.eclipse.ditto.services.utils.pubsub.extractors.ConstantTopics;
+import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link Subscriber}.
+ */
+public final class SubscriberTest {
+
+    private static final String SUBJECT = "subject";
+
+    private ExtendedActorSystem actorSystem;
+    private BinaryJsonifiableSerializer serializer;
+
+    @Before
+    public void setUp() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.parseMap(
+                Map.of("ditto.mapping-strategy.implementation", CommandsStrategy.class.getName())));
+        serializer = new BinaryJsonifiableSerializer(actorSystem);
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void deliverSignalOfEnvelopeToLocalSubscribers() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = startSubscriber(getRef());
+            final RetrieveThing retrieveThing = retrieveThing(SUBJECT);
+            final SignalEnvelope envelope = serializeAndDeserialize(SignalEnvelope.of(retrieveThing));
+
+            underTest.tell(envelope, getRef());
+
+            expectMsg(retrieveThing);
+        }};
+    }
+
+    @Test
+    public void discardEnvelopeWithoutLocalSubscribersWithoutParsingIt() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = startSubscriber(getRef());
+            final SignalEnvelope envelope =
+                    serializeAndDeserialize(SignalEnvelope.of(retrieveThing("another-subject")));
+
+            underTest.tell(envelope, getRef());
+
+            expectNoMessage();
+            assertThat(envelope.isParsed()).isFalse();
+        }};
+    }
+
+    private ActorRef startSubscriber(final ActorRef localSubscriber) {
+        final ActorRef subscriber = actorSystem.actorOf(Subscriber.props(Signal.class,
+                ReadSubjectExtractor.<Signal>of().with(ConstantTopics.of("constant-topic"))));
+        subscriber.tell(SubscriptionsReader.of(
+                Collections.singletonMap(SUBJECT, Set.of(localSubscriber)),
+                Collections.singletonMap(localSubscriber, topics -> true)), ActorRef.noSender());
+        return subscriber;
+    }
+
+    private SignalEnvelope serializeAndDeserialize(final SignalEnvelope envelope) {
+        final Object deserialized =
+                serializer.fromBinary(serializer.toBinary(envelope), serializer.manifest(envelope));
+        assertThat(deserialized).isInstanceOf(SignalEnvelope.class);
+        return (SignalEnvelope) deserialized;
+    }
+
+    private static RetrieveThing retrieveThing(final String readSubject) {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("correlationId")
+                .readGrantedSubjects(Collections.singleton(AuthorizationSubject.newInstance(readSubject)))
+                .build();
+        return RetrieveThing.of(ThingId.of("thing:id"), dittoHeaders);
+    }
+
+    public static final class CommandsStrategy extends MappingStrategies {
+
+        public CommandsStrategy() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalErrorRegistry.getInstance())
+                    .add(GlobalCommandRegistry.getInstance())
+                    .build());
+        }
+
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.base;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
+/**
+ * Implementations of this interface may carry a binary payload which is Base64 encoded in their JSON representation.
+ * Binary transports can transmit the payload as raw bytes next to the JSON representation without the payload
+ * instead.
+ *
+ * @param <T> the type of the implementing class.
+ * @since 1.2.0
+ */
+public interface WithBinaryPayload<T> {
+
+    /**
+     * Returns the binary payload which would be Base64 encoded in the JSON representation.
+     *
+     * @return the binary payload or an empty Optional if there is none, e. g. because the payload is text or JSON.
+     */
+    Optional<ByteBuffer> getBinaryPayload();
+
+    /**
+     * Returns the JSON representation without the binary payload.
+     *
+     * @param schemaVersion the JSON schema version of the result.
+     * @param predicate determines the content of the result.
+     * @return the JSON representation without binary payload.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    JsonObject toJsonWithoutBinaryPayload(JsonSchemaVersion schemaVersion, Predicate<JsonField> predicate);
+
+    /**
+     * Returns a copy of this object with the given binary payload.
+     *
+     * @param binaryPayload the binary payload, e. g. as transmitted next to the result of
+     * {@link #toJsonWithoutBinaryPayload(JsonSchemaVersion, Predicate)}.
+     * @return the copy.
+     * @throws NullPointerException if {@code binaryPayload} is {@code null}.
+     */
+    T setBinaryPayload(ByteBuffer binaryPayload);
+
+}
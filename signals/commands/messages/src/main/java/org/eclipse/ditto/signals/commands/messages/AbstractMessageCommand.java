@@ -14,6 +14,7 @@ package org.eclipse.ditto.signals.commands.messages;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.nio.ByteBuffer;
 import java.text.MessageFormat;
 import java.util.Objects;
 import java.util.Optional;
@@ -33,6 +34,7 @@ import org.eclipse.ditto.model.messages.MessageBuilder;
 import org.eclipse.ditto.model.messages.MessageHeaders;
 import org.eclipse.ditto.model.messages.ThingIdInvalidException;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
 import org.eclipse.ditto.signals.commands.base.AbstractCommand;
 
 /**
@@ -42,7 +44,7 @@ import org.eclipse.ditto.signals.commands.base.AbstractCommand;
  * @param <C> the type of the AbstractMessageCommand.
  */
 abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand> extends AbstractCommand<C>
-        implements MessageCommand<T, C> {
+        implements MessageCommand<T, C>, WithBinaryPayload<C> {
 
     private final ThingId thingId;
     private final Message<T> message;
@@ -84,6 +86,34 @@ abstract class AbstractMessageCommand<T, C extends AbstractMessageCommand> exten
         return message;
     }
 
+    /**
+     * Returns a copy of this object with the given message.
+     *
+     * @param message the message of the result.
+     * @return the copy.
+     */
+    abstract C setMessage(Message<T> message);
+
+    @Override
+    public Optional<ByteBuffer> getBinaryPayload() {
+        return MessagePayloadSerializer.getBinaryPayload(message);
+    }
+
+    @Override
+    public JsonObject toJsonWithoutBinaryPayload(final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        final AbstractMessageCommand<?, ?> withoutPayload =
+                setMessage(MessagePayloadSerializer.setRawPayload(message, null));
+        return withoutPayload.toJson(schemaVersion, predicate);
+    }
+
+    @Override
+    public C setBinaryPayload(final ByteBuffer binaryPayload) {
+        checkNotNull(binaryPayload, "binaryPayload");
+        return setMessage(MessagePayloadSerializer.setRawPayload(message, binaryPayload));
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
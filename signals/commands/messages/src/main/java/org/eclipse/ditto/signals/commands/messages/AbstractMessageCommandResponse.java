@@ -14,6 +14,7 @@ package org.eclipse.ditto.signals.commands.messages;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -33,6 +34,7 @@ import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageBuilder;
 import org.eclipse.ditto.model.messages.MessageHeaders;
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.base.WithBinaryPayload;
 import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
 
 /**
@@ -42,7 +44,7 @@ import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
  * @param <C> the type of the AbstractMessageCommand.
  */
 abstract class AbstractMessageCommandResponse<T, C extends AbstractMessageCommandResponse>
-        extends AbstractCommandResponse<C> implements MessageCommandResponse<T, C> {
+        extends AbstractCommandResponse<C> implements MessageCommandResponse<T, C>, WithBinaryPayload<C> {
 
     private final ThingId thingId;
     private final Message<T> message;
@@ -68,6 +70,34 @@ abstract class AbstractMessageCommandResponse<T, C extends AbstractMessageComman
         return message;
     }
 
+    /**
+     * Returns a copy of this object with the given message.
+     *
+     * @param message the message of the result.
+     * @return the copy.
+     */
+    abstract C setMessage(Message<T> message);
+
+    @Override
+    public Optional<ByteBuffer> getBinaryPayload() {
+        return MessagePayloadSerializer.getBinaryPayload(message);
+    }
+
+    @Override
+    public JsonObject toJsonWithoutBinaryPayload(final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        final AbstractMessageCommandResponse<?, ?> withoutPayload =
+                setMessage(MessagePayloadSerializer.setRawPayload(message, null));
+        return withoutPayload.toJson(schemaVersion, predicate);
+    }
+
+    @Override
+    public C setBinaryPayload(final ByteBuffer binaryPayload) {
+        requireNonNull(binaryPayload, "binaryPayload");
+        return setMessage(MessagePayloadSerializer.setRawPayload(message, binaryPayload));
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
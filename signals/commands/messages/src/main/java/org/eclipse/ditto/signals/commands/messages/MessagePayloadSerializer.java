@@ -18,6 +18,8 @@ import java.util.Base64;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonValue;
@@ -71,6 +73,38 @@ class MessagePayloadSerializer {
         }
     }
 
+    /**
+     * Returns the raw payload of the given message if it is Base64 encoded in the JSON representation.
+     *
+     * @param message the message.
+     * @return the binary payload or an empty Optional.
+     */
+    static Optional<ByteBuffer> getBinaryPayload(final Message<?> message) {
+        final boolean isJsonOrText = message.getPayload().filter(p -> p instanceof JsonValue).isPresent() ||
+                shouldBeInterpretedAsText(message.getContentType().orElse(""));
+        return isJsonOrText ? Optional.empty() : message.getRawPayload();
+    }
+
+    /**
+     * Returns a copy of the given message with the given raw payload instead of its payload.
+     *
+     * @param message the message to copy.
+     * @param rawPayload the raw payload of the result or {@code null} for a copy without payload.
+     * @param <T> the type of the message's payload.
+     * @return the copy.
+     */
+    static <T> Message<T> setRawPayload(final Message<T> message, @Nullable final ByteBuffer rawPayload) {
+        if (null != rawPayload) {
+            // the size is validated like that of the Base64 encoded payload in the JSON representation
+            final long base64Length = 4L * ((rawPayload.remaining() + 2) / 3);
+            MessageCommandSizeValidator.getInstance().ensureValidSize(() -> base64Length, message::getHeaders);
+        }
+        final MessageBuilder<T> messageBuilder = Message.<T>newBuilder(message.getHeaders()).rawPayload(rawPayload);
+        message.getExtra().ifPresent(messageBuilder::extra);
+        message.getResponseConsumer().ifPresent(messageBuilder::responseConsumer);
+        return messageBuilder.build();
+    }
+
     private static void injectMessagePayload(final JsonObjectBuilder messageBuilder,
             final Predicate<JsonField> predicate, final String encodedString, final MessageHeaders messageHeaders) {
         MessageCommandSizeValidator.getInstance().ensureValidSize(encodedString::length, () -> messageHeaders);
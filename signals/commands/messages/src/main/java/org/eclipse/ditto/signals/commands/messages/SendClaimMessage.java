@@ -49,6 +49,11 @@ public final class SendClaimMessage<T> extends AbstractMessageCommand<T, SendCla
         return of(getThingEntityId(), getMessage(), dittoHeaders);
     }
 
+    @Override
+    SendClaimMessage setMessage(final Message<T> message) {
+        return of(getThingEntityId(), message, getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendClaimMessage}.
      *
@@ -54,6 +54,11 @@ public final class SendClaimMessageResponse<T> extends AbstractMessageCommandRes
         return of(getThingEntityId(), getMessage(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    SendClaimMessageResponse setMessage(final Message<T> message) {
+        return of(getThingEntityId(), message, getStatusCode(), getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@code SendClaimMessageResponse}.
      *
@@ -196,6 +196,11 @@ public final class SendFeatureMessage<T> extends AbstractMessageCommand<T, SendF
         return of(getThingEntityId(), featureId, getMessage(), dittoHeaders);
     }
 
+    @Override
+    SendFeatureMessage setMessage(final Message<T> message) {
+        return of(getThingEntityId(), featureId, message, getDittoHeaders());
+    }
+
     @Override
     protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
             final Predicate<JsonField> predicate) {
@@ -74,6 +74,11 @@ public final class SendFeatureMessageResponse<T> extends AbstractMessageCommandR
         return of(getThingEntityId(), getFeatureId(), getMessage(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    SendFeatureMessageResponse setMessage(final Message<T> message) {
+        return of(getThingEntityId(), getFeatureId(), message, getStatusCode(), getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@code SendFeatureMessageResponse}.
      *
@@ -157,6 +157,11 @@ public final class SendMessageAcceptedResponse
         return newInstance(getThingEntityId(), getMessage().getHeaders(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    SendMessageAcceptedResponse setMessage(final Message<Void> message) {
+        return newInstance(getThingEntityId(), message.getHeaders(), getStatusCode(), getDittoHeaders());
+    }
+
     public Optional<String> getCorrelationId() {
         return getDittoHeaders().getCorrelationId();
     }
@@ -51,6 +51,11 @@ public final class SendThingMessage<T> extends AbstractMessageCommand<T, SendThi
         return of(getThingEntityId(), getMessage(), dittoHeaders);
     }
 
+    @Override
+    SendThingMessage setMessage(final Message<T> message) {
+        return of(getThingEntityId(), message, getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendThingMessage}.
      *
@@ -51,6 +51,11 @@ public final class SendThingMessageResponse<T> extends AbstractMessageCommandRes
         return of(getThingEntityId(), getMessage(), getStatusCode(), dittoHeaders);
     }
 
+    @Override
+    SendThingMessageResponse setMessage(final Message<T> message) {
+        return of(getThingEntityId(), message, getStatusCode(), getDittoHeaders());
+    }
+
     /**
      * Creates a new instance of {@link SendThingMessageResponse}.
      *
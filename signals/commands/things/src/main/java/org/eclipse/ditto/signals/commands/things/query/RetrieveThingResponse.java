@@ -24,6 +24,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonMissingFieldException;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
@@ -245,6 +246,24 @@ public final class RetrieveThingResponse extends AbstractCommandResponse<Retriev
         return lazyLoadThingJsonObject();
     }
 
+    /**
+     * Returns the fields of the retrieved Thing which are selected by the given field selector. If the Thing was not
+     * parsed before, only the selected fields of its plain JSON are parsed.
+     *
+     * @param fieldSelector the selected fields.
+     * @return the selected fields of the retrieved Thing.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @since 1.2.0
+     */
+    public JsonObject getEntity(final JsonFieldSelector fieldSelector) {
+        checkNotNull(fieldSelector, "field selector");
+        final JsonObject parsedThing = thing;
+        if (null != parsedThing) {
+            return parsedThing.get(fieldSelector);
+        }
+        return JsonFactory.newObject(thingPlainJson, fieldSelector);
+    }
+
     private JsonObject lazyLoadThingJsonObject() {
         if (thing == null) {
             thing = JsonFactory.readFrom(thingPlainJson).asObject();
@@ -87,6 +87,27 @@ public final class RetrieveThingResponseTest {
         assertThat(underTest.getThing().toJson()).isEqualTo(TestConstants.Thing.THING.toJson());
     }
 
+    @Test
+    public void getEntityWithFieldSelectorOfParsedThing() {
+        final RetrieveThingResponse underTest =
+                RetrieveThingResponse.of(TestConstants.Thing.THING_ID, TestConstants.Thing.THING,
+                        TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getEntity(TestConstants.JSON_FIELD_SELECTOR_ATTRIBUTES_WITH_THING_ID))
+                .isEqualTo(TestConstants.Thing.THING.toJson()
+                        .get(TestConstants.JSON_FIELD_SELECTOR_ATTRIBUTES_WITH_THING_ID));
+    }
+
+    @Test
+    public void getEntityWithFieldSelectorOfPlainJson() {
+        final RetrieveThingResponse underTest =
+                RetrieveThingResponse.fromJson(KNOWN_JSON.toString(), TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getEntity(TestConstants.JSON_FIELD_SELECTOR_ATTRIBUTES_WITH_THING_ID))
+                .isEqualTo(JsonFactory.newObject(TestConstants.Thing.THING.toJsonString())
+                        .get(TestConstants.JSON_FIELD_SELECTOR_ATTRIBUTES_WITH_THING_ID));
+    }
+
     @Test
     public void parseRetrieveThingCommandResponse() {
         final RetrieveThingResponse commandResponse =